@@ -0,0 +1,29 @@
+package co.com.pragma.loadtest;
+
+/**
+ * Tipos de petición que genera la prueba de carga; el nombre es la clave de {@code load.mix} y del reporte.
+ */
+enum Endpoint {
+    LOGIN("login"),
+    CREATE_USER("create"),
+    LOOKUP_USER("lookup");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Endpoint desconocido en load.mix: " + key);
+    }
+}
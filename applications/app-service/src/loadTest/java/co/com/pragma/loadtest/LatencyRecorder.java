@@ -0,0 +1,61 @@
+package co.com.pragma.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencias y códigos de estado de un endpoint. Guarda cada muestra para calcular percentiles exactos;
+ * con las tasas de esta prueba (decenas de miles de muestras) no justifica un histograma.
+ */
+final class LatencyRecorder {
+
+    // Sin respuesta: timeout, conexión rechazada, etc.
+    static final int NO_RESPONSE = -1;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long success;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (status == NO_RESPONSE) {
+            failures++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        } else {
+            success++;
+        }
+    }
+
+    synchronized EndpointReport report(Endpoint endpoint, double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new EndpointReport(endpoint.key(), count, count / measuredSeconds, success, clientErrors, serverErrors,
+                failures, millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), millis(sorted, 0.999),
+                millis(sorted, 1.0));
+    }
+
+    // Percentil por rango más cercano
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * Resultado de un endpoint en la ventana medida. Latencias en milisegundos.
+     */
+    record EndpointReport(String endpoint, long requests, double throughputPerSecond, long success,
+                          long clientErrors, long serverErrors, long failures,
+                          double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,51 @@
+package co.com.pragma.loadtest;
+
+import co.com.pragma.loadtest.LatencyRecorder.EndpointReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resumen de una ejecución: se imprime como tabla y se guarda como {@code <profile>.json} para comparar
+ * ejecuciones (reactive contra loom, o antes y después de un cambio).
+ */
+record LoadTestReport(String profile, int seededUsers, double targetRate, long measuredSeconds, Map<Endpoint, Integer> mix,
+                      List<EndpointReport> endpoints) {
+
+    static LoadTestReport of(LoadTestSettings settings, Map<Endpoint, LatencyRecorder> recorders) {
+        double measuredSeconds = settings.measured().toMillis() / 1000.0;
+        List<EndpointReport> endpoints = recorders.entrySet().stream()
+                .filter(entry -> settings.mix().getOrDefault(entry.getKey(), 0) > 0)
+                .map(entry -> entry.getValue().report(entry.getKey(), measuredSeconds))
+                .toList();
+        return new LoadTestReport(settings.profile(), settings.users(), settings.rate(),
+                settings.measured().toSeconds(), settings.mix(), endpoints);
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nPrueba de carga [%s] — %.1f llegadas/s, %d s medidos, %d usuarios sembrados%n",
+                profile, targetRate, measuredSeconds, seededUsers);
+        out.printf(Locale.ROOT, "%-8s %9s %9s %7s %7s %7s %7s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "2xx", "4xx", "5xx", "error", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointReport report : endpoints) {
+            out.printf(Locale.ROOT, "%-8s %9d %9.1f %7d %7d %7d %7d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    report.endpoint(), report.requests(), report.throughputPerSecond(), report.success(),
+                    report.clientErrors(), report.serverErrors(), report.failures(),
+                    report.p50(), report.p90(), report.p99(), report.p999(), report.max());
+        }
+    }
+
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(profile + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+}
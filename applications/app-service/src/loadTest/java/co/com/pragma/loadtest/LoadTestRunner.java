@@ -0,0 +1,79 @@
+package co.com.pragma.loadtest;
+
+import co.com.pragma.MainApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Prueba de carga de extremo a extremo sin infraestructura externa: arranca un PostgreSQL embebido
+ * (binarios empaquetados como dependencia Maven, sin Docker ni red), levanta {@link MainApplication} contra él
+ * con el perfil elegido, siembra usuarios y genera tráfico mixto de login, alta y consulta.
+ * <p>
+ * Se ejecuta con {@code ./gradlew :app-service:loadTest}; ver build.gradle para las propiedades {@code -Pload.*}.
+ * El generador comparte la JVM y la máquina con la aplicación: los números sirven para comparar ejecuciones
+ * entre sí en la misma máquina, no como capacidad absoluta del servicio.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = startApplication(settings, postgres.getPort())) {
+            new UserSeeder(postgres.getPostgresDatabase()).seed(settings.users());
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI baseUri = URI.create("http://localhost:" + port);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            String adminToken = TrafficRequests.fetchToken(client, baseUri, UserSeeder.ADMIN_EMAIL, UserSeeder.PASSWORD);
+
+            Map<Endpoint, LatencyRecorder> recorders =
+                    new OpenModelLoadGenerator(client, new TrafficRequests(baseUri, settings.users(), adminToken), settings).run();
+
+            LoadTestReport report = LoadTestReport.of(settings, recorders);
+            report.print(System.out);
+            Path file = report.write(settings.reportDir());
+            System.out.println("Reporte: " + file.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, int databasePort) {
+        String jdbcUrl = "jdbc:postgresql://localhost:" + databasePort + "/postgres";
+        return new SpringApplicationBuilder(MainApplication.class).run(
+                "--spring.profiles.active=" + settings.springProfiles(),
+                "--server.port=0",
+                "--spring.r2dbc.url=r2dbc:postgresql://localhost:" + databasePort + "/postgres",
+                "--spring.flyway.url=" + jdbcUrl,
+                "--spring.datasource.url=" + jdbcUrl,
+                "--DB_USER=postgres",
+                "--DB_PASSWORD=",
+                "--JWT_SECRET=" + randomSecret(),
+                // Solo se mide HTTP; el puerto gRPC fijo chocaría con otra instancia en la misma máquina
+                "--grpc.server.enabled=false",
+                // Con los niveles debug por defecto se mediría el costo del logging, no el del servicio
+                "--logging.level.co.com.pragma=info",
+                "--logging.level.org.springframework.security=warn");
+    }
+
+    private static String randomSecret() {
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+        return HexFormat.of().formatHex(secret);
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parámetros de la prueba, leídos de propiedades de sistema (la tarea Gradle reenvía las {@code -Pload.*}).
+ *
+ * @param profile    {@code reactive} (WebFlux + R2DBC) o {@code loom} (servlet en hilos virtuales + JDBC).
+ * @param users      usuarios sembrados antes de la prueba; el login y la consulta eligen uno al azar.
+ * @param rate       llegadas por segundo. Modelo abierto: no depende de cuánto tarden las respuestas.
+ * @param duration   duración total, incluido el calentamiento.
+ * @param warmup     tramo inicial que se genera pero no se mide (JIT, pools, cachés).
+ * @param mix        peso relativo de cada endpoint.
+ * @param seed       semilla de llegadas y selección de usuarios, para repetir la misma carga.
+ * @param reportDir  directorio donde se escribe {@code <profile>.json}.
+ */
+record LoadTestSettings(String profile, int users, double rate, Duration duration, Duration warmup,
+                        Map<Endpoint, Integer> mix, long seed, Path reportDir) {
+
+    static final String REACTIVE_PROFILE = "reactive";
+    static final String LOOM_PROFILE = "loom";
+
+    LoadTestSettings {
+        if (!REACTIVE_PROFILE.equals(profile) && !LOOM_PROFILE.equals(profile)) {
+            throw new IllegalArgumentException("load.profile debe ser reactive o loom: " + profile);
+        }
+        if (users < 1 || rate <= 0) {
+            throw new IllegalArgumentException("load.users y load.rate deben ser positivos");
+        }
+        if (warmup.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("load.warmup debe ser menor que load.duration");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("load.profile", REACTIVE_PROFILE),
+                Integer.getInteger("load.users", 10_000),
+                Double.parseDouble(System.getProperty("load.rate", "50")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                parseMix(System.getProperty("load.mix", "login=50,create=10,lookup=40")),
+                Long.getLong("load.seed", 42L),
+                Path.of(System.getProperty("load.reportDir", "build/reports/load-test")));
+    }
+
+    /**
+     * Perfiles de Spring a activar: {@code prod} siempre, más {@code loom} para la pila bloqueante.
+     */
+    String springProfiles() {
+        return LOOM_PROFILE.equals(profile) ? "prod,loom" : "prod";
+    }
+
+    Duration measured() {
+        return duration.minus(warmup);
+    }
+
+    // Formato: login=50,create=10,lookup=40
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida en load.mix: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo en load.mix: " + entry);
+            }
+            weights.put(Endpoint.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("load.mix no tiene ningún peso positivo");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.pragma.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto: las llegadas siguen un proceso de Poisson a {@code load.rate} por segundo
+ * y cada petición se envía en su instante programado aunque las anteriores no hayan respondido.
+ * La latencia se mide desde ese instante programado, no desde el envío real, para que un servidor saturado
+ * no reduzca la carga que recibe ni oculte su cola (omisión coordinada).
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final HttpClient client;
+    private final TrafficRequests requests;
+    private final LoadTestSettings settings;
+    private final Endpoint[] weightedEndpoints;
+
+    OpenModelLoadGenerator(HttpClient client, TrafficRequests requests, LoadTestSettings settings) {
+        this.client = client;
+        this.requests = requests;
+        this.settings = settings;
+        this.weightedEndpoints = expand(settings.mix());
+    }
+
+    /**
+     * Genera la carga durante {@code load.duration} y espera a que terminen las peticiones en vuelo.
+     *
+     * @return latencias de la ventana medida, es decir, después del calentamiento.
+     */
+    Map<Endpoint, LatencyRecorder> run() {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = start + settings.duration().toNanos();
+        long scheduled = start;
+        while (true) {
+            scheduled += (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            // Si el generador va atrasado se envía de inmediato: las llegadas no se desplazan
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            HttpRequest request = requests.next(endpoint, random);
+            LatencyRecorder recorder = scheduled >= measureFrom ? recorders.get(endpoint) : null;
+            long intendedStart = scheduled;
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (null != recorder) {
+                            recorder.record(System.nanoTime() - intendedStart,
+                                    null == response ? LatencyRecorder.NO_RESPONSE : response.statusCode());
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+        drain(inFlight);
+        return recorders;
+    }
+
+    private static void drain(AtomicInteger inFlight) {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    // Una entrada por unidad de peso: elegir un índice uniforme respeta la proporción de load.mix
+    private static Endpoint[] expand(Map<Endpoint, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+    }
+}
@@ -0,0 +1,97 @@
+package co.com.pragma.loadtest;
+
+import co.com.pragma.model.constants.BusinessConstants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Construye las peticiones HTTP de cada endpoint. Las rutas y los cuerpos son los mismos en los perfiles
+ * reactive y loom, así que la misma carga sirve para comparar ambas pilas.
+ */
+final class TrafficRequests {
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String LOGIN_PATH = "/api/v1/login";
+    private static final String USERS_PATH = "/api/v1/usuarios";
+    private static final String JSON = "application/json";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final URI baseUri;
+    private final int users;
+    private final String authorization;
+    // Cada alta usa un correo y documento nuevos para no chocar con las reglas de unicidad
+    private final AtomicLong createdUsers = new AtomicLong();
+
+    TrafficRequests(URI baseUri, int users, String adminToken) {
+        this.baseUri = baseUri;
+        this.users = users;
+        this.authorization = "Bearer " + adminToken;
+    }
+
+    HttpRequest next(Endpoint endpoint, SplittableRandom random) {
+        return switch (endpoint) {
+            case LOGIN -> login(baseUri, UserSeeder.email(random.nextInt(users)), UserSeeder.PASSWORD);
+            case CREATE_USER -> createUser(createdUsers.getAndIncrement());
+            case LOOKUP_USER -> lookupUser(UserSeeder.email(random.nextInt(users)));
+        };
+    }
+
+    /**
+     * Login síncrono usado antes de la prueba para obtener el token del administrador.
+     */
+    static String fetchToken(HttpClient client, URI baseUri, String email, String password)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(login(baseUri, email, password), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("No se pudo obtener el token de " + email + ": HTTP " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest login(URI baseUri, String email, String password) {
+        String body = "{\"username\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        return HttpRequest.newBuilder(baseUri.resolve(LOGIN_PATH))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", JSON)
+                .header("Accept", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest createUser(long sequence) {
+        String body = """
+                {"firstName":"Load","lastName":"Created","birthDate":"1990-01-01",\
+                "email":"created%d@loadtest.local","identityDocument":"LTC-%d","phone":"3000000000",\
+                "roleId":"%d","baseSalary":50000.0,"password":"%s"}""".formatted(
+                sequence, sequence, BusinessConstants.CLIENT_ROLE_ID, UserSeeder.PASSWORD);
+        return HttpRequest.newBuilder(baseUri.resolve(USERS_PATH))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Content-Type", JSON)
+                .header("Accept", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest lookupUser(String email) {
+        return HttpRequest.newBuilder(baseUri.resolve(USERS_PATH + "?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Accept", JSON)
+                .GET()
+                .build();
+    }
+}
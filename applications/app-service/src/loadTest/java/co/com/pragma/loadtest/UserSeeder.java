@@ -0,0 +1,90 @@
+package co.com.pragma.loadtest;
+
+import co.com.pragma.model.constants.BusinessConstants;
+import co.com.pragma.security.model.RoleConstants;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Siembra roles y usuarios directamente por JDBC, después de que Flyway creó el esquema al arrancar la aplicación.
+ * Todos comparten el mismo hash BCrypt: el costo de la prueba está en {@code matches} durante el login,
+ * no en preparar los datos.
+ */
+final class UserSeeder {
+
+    static final String PASSWORD = "LoadTest-Passw0rd!";
+    static final String ADMIN_EMAIL = "admin@loadtest.local";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_ROLE = """
+            INSERT INTO autenticacion.rol (unique_id, nombre, descripcion) VALUES (?, ?, ?)
+            ON CONFLICT (unique_id) DO NOTHING""";
+    private static final String INSERT_USER = """
+            INSERT INTO autenticacion.usuario (nombre, apellido, fecha_nacimiento, correo_electronico,
+                documento_identidad, telefono, id_rol, salario_base, password)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final DataSource dataSource;
+
+    UserSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    static String email(int index) {
+        return "user" + index + "@loadtest.local";
+    }
+
+    /**
+     * Inserta los tres roles, el administrador que firma las peticiones autenticadas y {@code users} clientes.
+     */
+    void seed(int users) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement roles = connection.prepareStatement(INSERT_ROLE)) {
+                addRole(roles, BusinessConstants.ADMIN_ROLE_ID, RoleConstants.ADMIN);
+                addRole(roles, BusinessConstants.ADVISOR_ROLE_ID, RoleConstants.ADVISOR);
+                addRole(roles, BusinessConstants.CLIENT_ROLE_ID, RoleConstants.CLIENT);
+                roles.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_USER)) {
+                addUser(insert, ADMIN_EMAIL, "LT-ADMIN", BusinessConstants.ADMIN_ROLE_ID, hash);
+                for (int i = 0; i < users; i++) {
+                    addUser(insert, email(i), "LT-" + i, BusinessConstants.CLIENT_ROLE_ID, hash);
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void addRole(PreparedStatement statement, Integer id, String name) throws SQLException {
+        statement.setInt(1, id);
+        statement.setString(2, name);
+        statement.setString(3, "Rol sembrado por la prueba de carga");
+        statement.addBatch();
+    }
+
+    private static void addUser(PreparedStatement statement, String email, String document, Integer roleId,
+                                String hash) throws SQLException {
+        statement.setString(1, "Load");
+        statement.setString(2, "Test");
+        statement.setDate(3, Date.valueOf(LocalDate.of(1990, 1, 1)));
+        statement.setString(4, email);
+        statement.setString(5, document);
+        statement.setString(6, "3000000000");
+        statement.setInt(7, roleId);
+        statement.setDouble(8, 50_000.0);
+        statement.setString(9, hash);
+        statement.addBatch();
+    }
+}
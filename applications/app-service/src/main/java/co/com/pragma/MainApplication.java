@@ -1,5 +1,6 @@
 package co.com.pragma;
 
+import co.com.pragma.config.ExecutionStackTypeFilter;
 import co.com.pragma.security.api.config.CommonSecurityConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -7,7 +8,10 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 
 @SpringBootApplication
-@ComponentScan(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = CommonSecurityConfig.class))
+@ComponentScan(excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = CommonSecurityConfig.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, value = ExecutionStackTypeFilter.class)
+})
 public class MainApplication {
     public static void main(String[] args) {
         SpringApplication.run(MainApplication.class, args);
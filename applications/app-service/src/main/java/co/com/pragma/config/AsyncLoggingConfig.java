@@ -0,0 +1,28 @@
+package co.com.pragma.config;
+
+import co.com.pragma.logging.AsyncLogDiscards;
+import co.com.pragma.logging.DroppedLogEventsReporter;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Perfil de logging de producción: loggers asíncronos con salida JSON (ver {@code log4j2-async.yaml}).
+ * Aquí solo se registra el resumen de eventos descartados cuando el ring buffer se llena.
+ */
+@Configuration
+@Profile(AsyncLoggingConfig.ASYNC_LOGGING_PROFILE)
+public class AsyncLoggingConfig {
+
+    public static final String ASYNC_LOGGING_PROFILE = "async-logging";
+
+    private static final Duration SUMMARY_INTERVAL = Duration.ofSeconds(10);
+
+    @Bean
+    public DroppedLogEventsReporter droppedLogEventsReporter(LoggerPort logger) {
+        return new DroppedLogEventsReporter(logger, AsyncLogDiscards::count, SUMMARY_INTERVAL);
+    }
+}
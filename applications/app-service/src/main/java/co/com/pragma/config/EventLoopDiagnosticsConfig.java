@@ -0,0 +1,53 @@
+package co.com.pragma.config;
+
+import co.com.pragma.diagnostics.BlockingCallDetector;
+import co.com.pragma.diagnostics.BlockingCallProperties;
+import co.com.pragma.diagnostics.BlockingCallRegistry;
+import co.com.pragma.diagnostics.BlockingCallsEndpoint;
+import co.com.pragma.diagnostics.EventLoopLagMonitor;
+import co.com.pragma.diagnostics.EventLoopLagProperties;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Diagnóstico de los event loops de reactor-netty en producción: lag de planificación por loop y, opcionalmente,
+ * detección de llamadas bloqueantes con BlockHound en modo reporte. Solo aplica a la pila reactiva.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({EventLoopLagProperties.class, BlockingCallProperties.class})
+public class EventLoopDiagnosticsConfig {
+
+    // Spring Boot usa los recursos globales de reactor-netty; el servidor corre en este mismo grupo
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.event-loop-lag", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public EventLoopLagMonitor eventLoopLagMonitor(MeterRegistry meterRegistry, EventLoopLagProperties properties) {
+        return new EventLoopLagMonitor(() -> HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE),
+                meterRegistry, properties.getInterval());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.blocking-calls", name = "enabled", havingValue = "true")
+    public BlockingCallRegistry blockingCallRegistry(MeterRegistry meterRegistry, BlockingCallProperties properties) {
+        return new BlockingCallRegistry(meterRegistry, properties.getMaxSignatures(), properties.getStackDepth());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.blocking-calls", name = "enabled", havingValue = "true")
+    public BlockingCallDetector blockingCallDetector(BlockingCallRegistry registry, LoggerPort logger) {
+        return new BlockingCallDetector(registry, logger);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.blocking-calls", name = "enabled", havingValue = "true")
+    public BlockingCallsEndpoint blockingCallsEndpoint(BlockingCallDetector detector, BlockingCallRegistry registry) {
+        return new BlockingCallsEndpoint(detector, registry);
+    }
+}
@@ -0,0 +1,38 @@
+package co.com.pragma.config;
+
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+import java.util.List;
+
+/**
+ * Elige la pila de ejecución al escanear componentes. Por defecto se registran el entry point WebFlux y
+ * el adaptador R2DBC; con el perfil {@value #LOOM_PROFILE} se registran en su lugar el entry point servlet
+ * (un hilo virtual por petición) y el adaptador JDBC. El dominio y los casos de uso son los mismos en ambos.
+ */
+public class ExecutionStackTypeFilter implements TypeFilter, EnvironmentAware {
+
+    public static final String LOOM_PROFILE = "loom";
+
+    // El servidor gRPC usa el JWTUtil que registra la configuración de seguridad reactiva
+    static final List<String> REACTIVE_PACKAGES = List.of("co.com.pragma.api.", "co.com.pragma.r2dbc.", "co.com.pragma.grpc.");
+    static final List<String> BLOCKING_PACKAGES = List.of("co.com.pragma.servlet.", "co.com.pragma.jdbc.");
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        List<String> excluded = environment.acceptsProfiles(Profiles.of(LOOM_PROFILE)) ? REACTIVE_PACKAGES : BLOCKING_PACKAGES;
+        String className = metadataReader.getClassMetadata().getClassName();
+        return excluded.stream().anyMatch(className::startsWith);
+    }
+}
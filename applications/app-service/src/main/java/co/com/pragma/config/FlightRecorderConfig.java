@@ -0,0 +1,32 @@
+package co.com.pragma.config;
+
+import co.com.pragma.diagnostics.FlightRecorderEndpoint;
+import co.com.pragma.diagnostics.FlightRecorderProperties;
+import co.com.pragma.diagnostics.FlightRecorderService;
+import co.com.pragma.diagnostics.FlightRecordingSummarizer;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Perfilado bajo demanda con Java Flight Recorder a través de {@code /actuator/jfr}, sin redesplegar con flags
+ * de la JVM. Aplica a ambas pilas; la autorización ADMIN está en {@code security.rules} y {@code ServletSecurityConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+@ConditionalOnProperty(prefix = "diagnostics.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderService flightRecorderService(FlightRecorderProperties properties, LoggerPort logger) {
+        return new FlightRecorderService(properties, logger);
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorderService flightRecorderService,
+                                                         FlightRecorderProperties properties) {
+        return new FlightRecorderEndpoint(flightRecorderService, new FlightRecordingSummarizer(properties.getTopFrames()));
+    }
+}
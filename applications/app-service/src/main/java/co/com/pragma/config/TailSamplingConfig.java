@@ -0,0 +1,36 @@
+package co.com.pragma.config;
+
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import co.com.pragma.tracing.TailSamplingPolicy;
+import co.com.pragma.tracing.TailSamplingProperties;
+import co.com.pragma.tracing.TailSamplingSpanHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Sustituye los manejadores de spans que Spring Boot registra en Brave por un único
+ * {@link TailSamplingSpanHandler} que los envuelve, de modo que solo reciben las trazas conservadas.
+ */
+@Configuration
+@EnableConfigurationProperties(TailSamplingProperties.class)
+@ConditionalOnProperty(prefix = "tracing.tail-sampling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TailSamplingConfig {
+
+    @Bean
+    public TracingCustomizer tailSamplingTracingCustomizer(TailSamplingProperties properties) {
+        return builder -> {
+            Set<SpanHandler> exporters = builder.spanHandlers();
+            if (exporters.isEmpty()) {
+                return; // Sin exportadores no hay nada que ahorrar
+            }
+            builder.clearSpanHandlers()
+                    .addSpanHandler(new TailSamplingSpanHandler(exporters, new TailSamplingPolicy(properties),
+                            properties.getMaxPendingTraces(), properties.getPendingTimeout()));
+        };
+    }
+}
@@ -1,12 +1,16 @@
 package co.com.pragma.config;
 
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.role.repository.RoleRepository;
 import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.repository.UserBulkRepository;
 import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.usecase.migration.UserMigrationUseCase;
 import co.com.pragma.usecase.user.UserUseCase;
 import co.com.pragma.usecase.validation.UserValidator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
 public class UseCaseConfig {
@@ -16,7 +20,15 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public UserUseCase userUseCase(UserRepository userRepository, UserValidator userValidator, PasswordEncryptor passwordEncryptor) {
-        return new UserUseCase(userRepository, userValidator, passwordEncryptor);
+    public UserUseCase userUseCase(UserRepository userRepository, UserValidator userValidator, PasswordEncryptor passwordEncryptor,
+                                   OperationMetricsPort operationMetrics) {
+        return new UserUseCase(userRepository, userValidator, passwordEncryptor, operationMetrics);
+    }
+
+    // La carga masiva usa COPY del adaptador R2DBC, que no existe en el perfil loom
+    @Bean
+    @Profile("!" + ExecutionStackTypeFilter.LOOM_PROFILE)
+    public UserMigrationUseCase userMigrationUseCase(UserBulkRepository userBulkRepository) {
+        return new UserMigrationUseCase(userBulkRepository);
     }
 }
@@ -0,0 +1,64 @@
+package co.com.pragma.diagnostics;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+import java.util.ServiceLoader;
+
+/**
+ * Instala BlockHound en modo reporte: en lugar de lanzar {@code BlockingOperationError} en el hilo que bloqueó,
+ * entrega la llamada a {@link BlockingCallRegistry} y deja que la petición continúe.
+ * Se cargan las mismas integraciones que {@link BlockHound#install} (Reactor, Netty, etc.) para no reportar
+ * los bloqueos que esas librerías ya declaran como permitidos.
+ */
+public class BlockingCallDetector implements InitializingBean {
+
+    // Si el propio registro llega a bloquear (p. ej. contención al crear un contador) no se vuelve a reportar
+    private static final ThreadLocal<Boolean> REPORTING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final BlockingCallRegistry registry;
+    private final LoggerPort logger;
+    private volatile boolean installed;
+
+    public BlockingCallDetector(BlockingCallRegistry registry, LoggerPort logger) {
+        this.registry = registry;
+        this.logger = logger;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        BlockHound.Builder builder = BlockHound.builder();
+        ServiceLoader.load(BlockHoundIntegration.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .sorted()
+                .forEach(builder::with);
+        builder.blockingMethodCallback(this::report);
+        try {
+            builder.install();
+            installed = true;
+            logger.info("BlockHound instalado en modo reporte; las llamadas bloqueantes se publican en {}", BlockingCallRegistry.BLOCKING_METRIC);
+        } catch (RuntimeException | LinkageError e) {
+            // Un diagnóstico opcional no debe impedir el arranque del servicio
+            logger.error("No se pudo instalar BlockHound; la JVM debe arrancar con -XX:+AllowRedefinitionToAddDeleteMethods", e);
+        }
+    }
+
+    private void report(BlockingMethod method) {
+        if (REPORTING.get()) {
+            return;
+        }
+        REPORTING.set(Boolean.TRUE);
+        try {
+            registry.record(method.toString(), new Throwable().getStackTrace(), Thread.currentThread().getName());
+        } finally {
+            REPORTING.set(Boolean.FALSE);
+        }
+    }
+
+    public boolean isInstalled() {
+        return installed;
+    }
+}
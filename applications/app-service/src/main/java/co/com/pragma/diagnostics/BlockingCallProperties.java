@@ -0,0 +1,46 @@
+package co.com.pragma.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "diagnostics.blocking-calls")
+public class BlockingCallProperties {
+
+    /**
+     * Instala BlockHound en modo reporte. Requiere arrancar la JVM con {@code -XX:+AllowRedefinitionToAddDeleteMethods}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Firmas de pila distintas que se conservan; las llamadas con firmas nuevas por encima del tope solo se cuentan.
+     */
+    private int maxSignatures = 200;
+
+    /**
+     * Marcos de pila, a partir de la llamada bloqueante, que forman la firma.
+     */
+    private int stackDepth = 12;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSignatures() {
+        return maxSignatures;
+    }
+
+    public void setMaxSignatures(int maxSignatures) {
+        this.maxSignatures = maxSignatures;
+    }
+
+    public int getStackDepth() {
+        return stackDepth;
+    }
+
+    public void setStackDepth(int stackDepth) {
+        this.stackDepth = stackDepth;
+    }
+}
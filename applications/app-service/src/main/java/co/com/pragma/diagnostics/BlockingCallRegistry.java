@@ -0,0 +1,125 @@
+package co.com.pragma.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Agrega las llamadas bloqueantes que reporta BlockHound por firma de pila (método bloqueante más los marcos
+ * que llevaron a él), de modo que mil repeticiones del mismo BCrypt en el event loop son una sola entrada.
+ * Cada llamada también incrementa {@code reactor.blocking.calls}, etiquetado solo con el método bloqueante
+ * para mantener acotada la cardinalidad.
+ */
+public class BlockingCallRegistry {
+
+    static final String BLOCKING_METRIC = "reactor.blocking.calls";
+    static final String METHOD_TAG = "method";
+
+    // Marcos del propio detector y de BlockHound, que preceden a la llamada bloqueante en la pila capturada
+    private static final List<String> DETECTOR_PREFIXES = List.of("reactor.blockhound.", BlockingCallRegistry.class.getPackageName() + ".");
+
+    private final MeterRegistry meterRegistry;
+    private final int maxSignatures;
+    private final int stackDepth;
+    private final Map<String, Signature> signatures = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    public BlockingCallRegistry(MeterRegistry meterRegistry, int maxSignatures, int stackDepth) {
+        this.meterRegistry = meterRegistry;
+        this.maxSignatures = maxSignatures;
+        this.stackDepth = stackDepth;
+    }
+
+    /**
+     * Se invoca en el hilo que bloqueó, dentro del callback de BlockHound: no debe registrar logs ni bloquear.
+     */
+    public void record(String blockingMethod, StackTraceElement[] stack, String threadName) {
+        total.increment();
+        counters.computeIfAbsent(blockingMethod, method -> Counter.builder(BLOCKING_METRIC)
+                        .description("Llamadas bloqueantes detectadas en hilos que no deben bloquear")
+                        .tag(METHOD_TAG, method)
+                        .register(meterRegistry))
+                .increment();
+
+        List<String> frames = callerFrames(stack);
+        String key = blockingMethod + '\n' + String.join("\n", frames);
+        Signature signature = signatures.get(key);
+        if (null == signature) {
+            if (signatures.size() >= maxSignatures) {
+                overflow.increment();
+                return;
+            }
+            signature = signatures.computeIfAbsent(key, ignored -> new Signature(blockingMethod, frames));
+        }
+        signature.record(threadName);
+    }
+
+    public Report report() {
+        List<SignatureReport> entries = new ArrayList<>(signatures.size());
+        signatures.values().forEach(signature -> entries.add(signature.report()));
+        entries.sort(Comparator.comparingLong(SignatureReport::count).reversed());
+        return new Report(total.sum(), overflow.sum(), entries);
+    }
+
+    private List<String> callerFrames(StackTraceElement[] stack) {
+        List<String> frames = new ArrayList<>(stackDepth);
+        int i = 0;
+        while (i < stack.length && isDetectorFrame(stack[i])) {
+            i++;
+        }
+        for (; i < stack.length && frames.size() < stackDepth; i++) {
+            frames.add(stack[i].toString());
+        }
+        return List.copyOf(frames);
+    }
+
+    private static boolean isDetectorFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return DETECTOR_PREFIXES.stream().anyMatch(className::startsWith);
+    }
+
+    private static final class Signature {
+
+        private final String method;
+        private final List<String> stack;
+        private final LongAdder count = new LongAdder();
+        private final Instant firstSeen = Instant.now();
+        private volatile Instant lastSeen = firstSeen;
+        private volatile String lastThread;
+
+        private Signature(String method, List<String> stack) {
+            this.method = method;
+            this.stack = stack;
+        }
+
+        private void record(String threadName) {
+            count.increment();
+            lastSeen = Instant.now();
+            lastThread = threadName;
+        }
+
+        private SignatureReport report() {
+            return new SignatureReport(method, stack, count.sum(), firstSeen, lastSeen, lastThread);
+        }
+    }
+
+    /**
+     * @param totalCalls         llamadas bloqueantes detectadas desde el arranque.
+     * @param droppedSignatures  llamadas cuya firma no se conservó por superar el tope de firmas.
+     */
+    public record Report(long totalCalls, long droppedSignatures, List<SignatureReport> signatures) {
+    }
+
+    public record SignatureReport(String method, List<String> stack, long count, Instant firstSeen, Instant lastSeen,
+                                  String lastThread) {
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.pragma.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code /actuator/blockingcalls}: llamadas bloqueantes agregadas por firma de pila, de la más a la menos frecuente.
+ * Expone nombres de clases y métodos internos, por lo que solo es accesible para ADMIN (ver {@code security.rules}).
+ */
+@Endpoint(id = "blockingcalls")
+public class BlockingCallsEndpoint {
+
+    private final BlockingCallDetector detector;
+    private final BlockingCallRegistry registry;
+
+    public BlockingCallsEndpoint(BlockingCallDetector detector, BlockingCallRegistry registry) {
+        this.detector = detector;
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public BlockingCalls blockingCalls() {
+        return new BlockingCalls(detector.isInstalled(), registry.report());
+    }
+
+    public record BlockingCalls(boolean installed, BlockingCallRegistry.Report report) {
+    }
+}
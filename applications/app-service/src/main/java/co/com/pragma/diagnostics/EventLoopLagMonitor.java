@@ -0,0 +1,91 @@
+package co.com.pragma.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mide el retraso de planificación de cada event loop de reactor-netty: programa una sonda en el propio loop
+ * y registra cuánto tarde se ejecuta respecto de lo previsto en el timer {@code reactor.netty.eventloop.lag},
+ * etiquetado con el nombre del hilo. Un loop ocupado con trabajo bloqueante (BCrypt, logging síncrono)
+ * retrasa la sonda igual que retrasa las peticiones que le tocan.
+ */
+public class EventLoopLagMonitor implements SmartLifecycle {
+
+    static final String LAG_METRIC = "reactor.netty.eventloop.lag";
+    static final String LOOP_TAG = "loop";
+
+    private final Supplier<? extends EventExecutorGroup> eventLoops;
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private volatile boolean running;
+
+    public EventLoopLagMonitor(Supplier<? extends EventExecutorGroup> eventLoops, MeterRegistry meterRegistry, Duration interval) {
+        this.eventLoops = eventLoops;
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        for (EventExecutor executor : eventLoops.get()) {
+            new LagProbe(executor).schedule();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false; // Las sondas pendientes se ejecutan una última vez y no se reprograman
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private final class LagProbe implements Runnable {
+
+        private final EventExecutor executor;
+        private Timer timer;
+        private long expectedAt;
+
+        private LagProbe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        private void schedule() {
+            if (!running) {
+                return;
+            }
+            expectedAt = System.nanoTime() + intervalNanos;
+            try {
+                executor.schedule(this, intervalNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // El loop se está cerrando junto con el servidor
+            }
+        }
+
+        @Override
+        public void run() {
+            long lag = Math.max(0L, System.nanoTime() - expectedAt);
+            if (null == timer) {
+                // Solo dentro del loop se conoce el nombre del hilo sin bloquear
+                timer = Timer.builder(LAG_METRIC)
+                        .description("Retraso entre la ejecución prevista y la real de una tarea en el event loop")
+                        .tag(LOOP_TAG, Thread.currentThread().getName())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+            timer.record(lag, TimeUnit.NANOSECONDS);
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.pragma.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "diagnostics.event-loop-lag")
+public class EventLoopLagProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Cada cuánto se programa la sonda en cada event loop; el retraso con que se ejecuta es el lag medido.
+     */
+    private Duration interval = Duration.ofMillis(500);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.pragma.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code /actuator/jfr}, solo para ADMIN (ver {@code security.rules} y {@code ServletSecurityConfig}):
+ * <ul>
+ *     <li>{@code GET /actuator/jfr}: grabación en curso y grabaciones guardadas.</li>
+ *     <li>{@code POST /actuator/jfr} con {@code {"duration": "60s"}}: inicia una grabación acotada.</li>
+ *     <li>{@code DELETE /actuator/jfr}: detiene la grabación en curso y la guarda.</li>
+ *     <li>{@code GET /actuator/jfr/{nombre}}: descarga el archivo .jfr.</li>
+ *     <li>{@code GET /actuator/jfr/{nombre}/summary}: marcos de {@code co.com.pragma} con más CPU y asignación.</li>
+ * </ul>
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final String SUMMARY_VIEW = "summary";
+    private static final int STATUS_CONFLICT = 409;
+
+    private final FlightRecorderService recorder;
+    private final FlightRecordingSummarizer summarizer;
+
+    public FlightRecorderEndpoint(FlightRecorderService recorder, FlightRecordingSummarizer summarizer) {
+        this.recorder = recorder;
+        this.summarizer = summarizer;
+    }
+
+    @ReadOperation
+    public Recordings recordings() {
+        return new Recordings(recorder.current().orElse(null), recorder.recordings());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable Duration duration) {
+        if (!recorder.isAvailable()) {
+            return new WebEndpointResponse<>("Java Flight Recorder no está disponible en esta JVM", WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        try {
+            return new WebEndpointResponse<>(recorder.start(duration));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), STATUS_CONFLICT);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<FlightRecorderService.RecordingInfo> stop() {
+        return recorder.stop()
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) {
+        return recorder.resolve(name)
+                .map(file -> new WebEndpointResponse<Resource>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<FlightRecordingSummarizer.Summary> summary(@Selector String name, @Selector String view) {
+        Optional<Path> file = SUMMARY_VIEW.equals(view) ? recorder.resolve(name) : Optional.empty();
+        if (file.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            return new WebEndpointResponse<>(summarizer.summarize(file.get()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Recordings(FlightRecorderService.RecordingInfo active, List<FlightRecorderService.StoredRecording> stored) {
+    }
+}
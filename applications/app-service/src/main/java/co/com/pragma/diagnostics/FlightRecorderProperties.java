@@ -0,0 +1,82 @@
+package co.com.pragma.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "diagnostics.jfr")
+public class FlightRecorderProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Directorio local donde se guardan las grabaciones terminadas.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "jfr");
+
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    /**
+     * Tope de duración aceptado por el endpoint, para que una sesión olvidada no siga grabando.
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /**
+     * Grabaciones conservadas en disco; al iniciar una nueva se borran las más antiguas.
+     */
+    private int maxRecordings = 5;
+
+    /**
+     * Marcos de {@code co.com.pragma} listados en el resumen de CPU y de asignación.
+     */
+    private int topFrames = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public int getMaxRecordings() {
+        return maxRecordings;
+    }
+
+    public void setMaxRecordings(int maxRecordings) {
+        this.maxRecordings = maxRecordings;
+    }
+
+    public int getTopFrames() {
+        return topFrames;
+    }
+
+    public void setTopFrames(int topFrames) {
+        this.topFrames = topFrames;
+    }
+}
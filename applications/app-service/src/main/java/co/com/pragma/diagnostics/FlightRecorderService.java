@@ -0,0 +1,186 @@
+package co.com.pragma.diagnostics;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Sesiones de Java Flight Recorder bajo demanda, de duración acotada y una a la vez. La grabación parte del
+ * perfil {@code profile} del JDK con umbrales más bajos para E/S de sockets y bloqueos, y
+ * JFR la escribe en {@link FlightRecorderProperties#getDirectory()} al terminar.
+ */
+public class FlightRecorderService {
+
+    static final String FILE_SUFFIX = ".jfr";
+
+    // Solo nombres generados por este servicio: evita que el endpoint de descarga lea fuera del directorio
+    private static final Pattern RECORDING_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final String BASE_CONFIGURATION = "profile";
+
+    // Sobre el perfil 'profile': umbrales de 5 ms (el perfil usa 10 ms) para sockets, monitores y park.
+    // Muestreo de CPU y de asignación quedan con los valores del perfil (10 ms y 300/s)
+    private static final Map<String, String> TUNED_SETTINGS = Map.ofEntries(
+            Map.entry("jdk.SocketRead#enabled", "true"),
+            Map.entry("jdk.SocketRead#threshold", "5 ms"),
+            Map.entry("jdk.SocketWrite#enabled", "true"),
+            Map.entry("jdk.SocketWrite#threshold", "5 ms"),
+            Map.entry("jdk.JavaMonitorEnter#enabled", "true"),
+            Map.entry("jdk.JavaMonitorEnter#threshold", "5 ms"),
+            Map.entry("jdk.JavaMonitorWait#enabled", "true"),
+            Map.entry("jdk.JavaMonitorWait#threshold", "5 ms"),
+            Map.entry("jdk.ThreadPark#enabled", "true"),
+            Map.entry("jdk.ThreadPark#threshold", "5 ms"));
+
+    private final FlightRecorderProperties properties;
+    private final LoggerPort logger;
+    private Recording active;
+    private RecordingInfo activeInfo;
+
+    public FlightRecorderService(FlightRecorderProperties properties, LoggerPort logger) {
+        this.properties = properties;
+        this.logger = logger;
+    }
+
+    /**
+     * @throws IllegalArgumentException si la duración no es positiva o supera el máximo configurado.
+     * @throws IllegalStateException    si ya hay una grabación en curso.
+     */
+    public synchronized RecordingInfo start(Duration requested) {
+        Duration duration = null == requested ? properties.getDefaultDuration() : requested;
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("La duración debe estar entre 0 y " + properties.getMaxDuration());
+        }
+        if (null != active()) {
+            throw new IllegalStateException("Ya hay una grabación en curso: " + activeInfo.name());
+        }
+        try {
+            Files.createDirectories(properties.getDirectory());
+            prune(properties.getMaxRecordings() - 1);
+
+            Instant startedAt = Instant.now();
+            String name = "crediya-" + FILE_TIMESTAMP.format(startedAt) + FILE_SUFFIX;
+            Recording recording = new Recording(settings());
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setDuration(duration);
+            recording.setDestination(properties.getDirectory().resolve(name));
+            recording.start();
+
+            active = recording;
+            activeInfo = new RecordingInfo(name, startedAt, duration);
+            logger.info("Grabación JFR {} iniciada por {} s", name, duration.toSeconds());
+            return activeInfo;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("No se pudo cargar la configuración JFR " + BASE_CONFIGURATION, e);
+        }
+    }
+
+    /**
+     * Detiene la grabación en curso antes de tiempo; JFR la escribe en disco igual que al vencer la duración.
+     */
+    public synchronized Optional<RecordingInfo> stop() {
+        Recording recording = active();
+        if (null == recording) {
+            return Optional.empty();
+        }
+        recording.stop();
+        logger.info("Grabación JFR {} detenida antes de tiempo", activeInfo.name());
+        return Optional.of(activeInfo);
+    }
+
+    public boolean isAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    public synchronized Optional<RecordingInfo> current() {
+        return null == active() ? Optional.empty() : Optional.of(activeInfo);
+    }
+
+    public List<StoredRecording> recordings() {
+        if (!Files.isDirectory(properties.getDirectory())) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(properties.getDirectory())) {
+            return files.filter(FlightRecorderService::isRecordingFile)
+                    .map(FlightRecorderService::describe)
+                    .sorted(Comparator.comparing(StoredRecording::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ruta de una grabación terminada, o vacío si el nombre no es válido o el archivo no existe.
+     */
+    public Optional<Path> resolve(String name) {
+        if (null == name || !RECORDING_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        Path file = properties.getDirectory().resolve(name);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    // La grabación deja de estar activa al vencer su duración o al detenerse; JFR ya la escribió en disco
+    private Recording active() {
+        if (null != active && active.getState() != RecordingState.RUNNING && active.getState() != RecordingState.DELAYED) {
+            active.close();
+            active = null;
+            activeInfo = null;
+        }
+        return active;
+    }
+
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(BASE_CONFIGURATION).getSettings());
+        settings.putAll(TUNED_SETTINGS);
+        return settings;
+    }
+
+    private void prune(int keep) throws IOException {
+        List<StoredRecording> existing = recordings();
+        for (StoredRecording old : existing.subList(Math.min(Math.max(keep, 0), existing.size()), existing.size())) {
+            Files.deleteIfExists(properties.getDirectory().resolve(old.name()));
+        }
+    }
+
+    private static boolean isRecordingFile(Path path) {
+        return Files.isRegularFile(path) && RECORDING_NAME.matcher(path.getFileName().toString()).matches();
+    }
+
+    private static StoredRecording describe(Path path) {
+        try {
+            return new StoredRecording(path.getFileName().toString(), Files.size(path), Files.getLastModifiedTime(path).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record RecordingInfo(String name, Instant startedAt, Duration duration) {
+    }
+
+    public record StoredRecording(String name, long sizeBytes, Instant lastModified) {
+    }
+}
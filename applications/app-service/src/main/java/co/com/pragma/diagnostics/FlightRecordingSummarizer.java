@@ -0,0 +1,109 @@
+package co.com.pragma.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resume una grabación JFR por código propio: cada muestra de CPU ({@code jdk.ExecutionSample}) y de asignación
+ * ({@code jdk.ObjectAllocationSample}, ponderada en bytes) se atribuye al marco de {@code co.com.pragma} más
+ * cercano a la cima de su pila. Las muestras sin ese marco (o con la pila truncada por
+ * {@code -XX:FlightRecorderOptions:stackdepth}) se suman aparte.
+ */
+public class FlightRecordingSummarizer {
+
+    static final String APPLICATION_PACKAGE = "co.com.pragma.";
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private final int topFrames;
+
+    public FlightRecordingSummarizer(int topFrames) {
+        this.topFrames = topFrames;
+    }
+
+    public Summary summarize(Path file) throws IOException {
+        Map<String, Long> cpu = new HashMap<>();
+        Map<String, Long> allocation = new HashMap<>();
+        long cpuSamples = 0;
+        long allocatedBytes = 0;
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (EXECUTION_SAMPLE.equals(type)) {
+                    cpuSamples++;
+                    add(cpu, applicationFrame(event), 1L);
+                } else if (ALLOCATION_SAMPLE.equals(type)) {
+                    long weight = event.getLong("weight");
+                    allocatedBytes += weight;
+                    add(allocation, applicationFrame(event), weight);
+                }
+            }
+        }
+        return new Summary(file.getFileName().toString(),
+                new View(cpuSamples, outside(cpu, cpuSamples), top(cpu, cpuSamples)),
+                new View(allocatedBytes, outside(allocation, allocatedBytes), top(allocation, allocatedBytes)));
+    }
+
+    static String applicationFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (null == stackTrace) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            RecordedMethod method = frame.getMethod();
+            if (null != method && method.getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return method.getType().getName() + '.' + method.getName() + ':' + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+
+    private static void add(Map<String, Long> totals, String frame, long value) {
+        if (null != frame) {
+            totals.merge(frame, value, Long::sum);
+        }
+    }
+
+    private static long outside(Map<String, Long> totals, long total) {
+        return total - totals.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private List<FrameShare> top(Map<String, Long> totals, long total) {
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(topFrames)
+                .map(entry -> new FrameShare(entry.getKey(), entry.getValue(), percent(entry.getValue(), total)))
+                .toList();
+    }
+
+    private static double percent(long value, long total) {
+        return total == 0 ? 0.0 : Math.round(value * 10_000.0 / total) / 100.0;
+    }
+
+    /**
+     * @param cpu        total = muestras de CPU.
+     * @param allocation total = bytes estimados a partir de las muestras de asignación.
+     */
+    public record Summary(String recording, View cpu, View allocation) {
+    }
+
+    /**
+     * @param outsideApplication parte del total sin ningún marco de {@code co.com.pragma} en la pila.
+     */
+    public record View(long total, long outsideApplication, List<FrameShare> topFrames) {
+    }
+
+    public record FrameShare(String frame, long value, double percent) {
+    }
+}
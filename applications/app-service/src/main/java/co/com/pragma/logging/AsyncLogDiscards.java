@@ -0,0 +1,52 @@
+package co.com.pragma.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfigDelegate;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.DiscardingAsyncQueueFullPolicy;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lee el contador de la política {@code Discard} de Log4j2 ({@link DiscardingAsyncQueueFullPolicy}) que usan los
+ * loggers asíncronos de la configuración activa. Log4j2 no expone la instancia, así que se toma del delegado
+ * asíncrono de la configuración; se resuelve en cada lectura para seguir las reconfiguraciones.
+ */
+public final class AsyncLogDiscards {
+
+    private static final String POLICY_FIELD = "asyncQueueFullPolicy";
+    // Se avisa una sola vez: count() se consulta en cada intervalo del reporter y en cada scrape
+    private static final AtomicBoolean POLICY_NOT_FOUND_REPORTED = new AtomicBoolean();
+
+    private AsyncLogDiscards() {
+    }
+
+    /**
+     * @return Eventos descartados por la configuración activa, o 0 si no usa loggers asíncronos con política
+     * {@code Discard}.
+     */
+    public static long count() {
+        if (!(LogManager.getContext(false) instanceof LoggerContext context)) {
+            return 0;
+        }
+        AsyncLoggerConfigDelegate delegate = context.getConfiguration().getAsyncLoggerConfigDelegate();
+        return null == delegate ? 0 : DiscardingAsyncQueueFullPolicy.getDiscardCount(policyOf(delegate));
+    }
+
+    private static AsyncQueueFullPolicy policyOf(AsyncLoggerConfigDelegate delegate) {
+        try {
+            Field field = delegate.getClass().getDeclaredField(POLICY_FIELD);
+            field.setAccessible(true);
+            return (AsyncQueueFullPolicy) field.get(delegate);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (POLICY_NOT_FOUND_REPORTED.compareAndSet(false, true)) {
+                StatusLogger.getLogger().warn("No se pudo leer la política de cola llena de {}; los eventos descartados se reportarán como 0",
+                        delegate.getClass().getName(), e);
+            }
+            return null;
+        }
+    }
+}
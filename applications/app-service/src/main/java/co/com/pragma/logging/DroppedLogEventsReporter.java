@@ -0,0 +1,78 @@
+package co.com.pragma.logging;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Resume los eventos descartados por la política {@code Discard} de los loggers asíncronos
+ * ({@link AsyncLogDiscards}): publica el total como contador {@code logging.async.discarded} y emite una única línea WARN por intervalo con los descartes del periodo,
+ * en lugar de una por evento perdido.
+ */
+public class DroppedLogEventsReporter implements SmartLifecycle, MeterBinder {
+
+    static final String DISCARDED_METRIC = "logging.async.discarded";
+
+    private final LoggerPort logger;
+    private final LongSupplier discardedCount;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    private long lastReported;
+
+    public DroppedLogEventsReporter(LoggerPort logger, LongSupplier discardedCount, Duration interval) {
+        this.logger = logger;
+        this.discardedCount = discardedCount;
+        this.interval = interval;
+        this.lastReported = discardedCount.getAsLong();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(DISCARDED_METRIC, discardedCount, LongSupplier::getAsLong)
+                .description("Eventos de log descartados porque el ring buffer asíncrono estaba lleno")
+                .register(registry);
+    }
+
+    void report() {
+        long total = discardedCount.getAsLong();
+        // Una reconfiguración de Log4j2 crea una política nueva con el contador a cero
+        long discarded = total >= lastReported ? total - lastReported : total;
+        lastReported = total;
+        if (discarded > 0) {
+            logger.warn("Ring buffer de logging lleno: se descartaron {} eventos en los últimos {} s", discarded, interval.toSeconds());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-discard-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::report, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        report();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.pragma.migration;
+
+import co.com.pragma.model.user.User;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Lee el export de usuarios legados registro a registro, sin cargar el archivo en memoria.
+ * Formato esperado (RFC 4180, con encabezado):
+ * {@code nombre,apellido,fecha_nacimiento,correo_electronico,documento_identidad,telefono,id_rol,salario_base,password}
+ * donde {@code password} ya es un hash BCrypt. Los campos entre comillas pueden contener comas, comillas
+ * dobladas ({@code ""}) y saltos de línea.
+ */
+public class LegacyUserCsvReader {
+
+    private static final int COLUMNS = 9;
+    private static final CSVFormat FORMAT = CSVFormat.RFC4180.builder()
+            .setIgnoreEmptyLines(true)
+            .build();
+
+    public Flux<User> read(Path file) {
+        return Flux.using(() -> CSVParser.parse(file, StandardCharsets.UTF_8, FORMAT), Flux::fromIterable, LegacyUserCsvReader::close)
+                .skip(1) // Encabezado
+                .filter(row -> !isBlank(row))
+                .map(LegacyUserCsvReader::parse)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static User parse(String line) {
+        try (CSVParser parser = CSVParser.parse(line, FORMAT)) {
+            return parse(parser.iterator().next());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static User parse(CSVRecord row) {
+        if (COLUMNS != row.size()) {
+            throw new IllegalArgumentException("Se esperaban " + COLUMNS + " columnas y se encontraron " + row.size());
+        }
+        return new User(
+                null,
+                row.get(0).trim(),
+                row.get(1).trim(),
+                row.get(2).isBlank() ? null : LocalDate.parse(row.get(2).trim()),
+                row.get(3).trim(),
+                row.get(4).trim(),
+                row.get(5).trim(),
+                row.get(6).isBlank() ? null : Integer.valueOf(row.get(6).trim()),
+                row.get(7).isBlank() ? null : Double.valueOf(row.get(7).trim()),
+                row.get(8).trim()
+        );
+    }
+
+    // Una línea con solo espacios no es vacía para el parser: se descarta igual que una línea en blanco
+    private static boolean isBlank(CSVRecord row) {
+        return 1 == row.size() && row.get(0).isBlank();
+    }
+
+    private static void close(CSVParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
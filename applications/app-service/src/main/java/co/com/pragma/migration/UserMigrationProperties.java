@@ -0,0 +1,49 @@
+package co.com.pragma.migration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración del cargador masivo de usuarios legados.
+ * Para ejecutarlo como proceso de línea de comandos:
+ * {@code --spring.main.web-application-type=none --migration.users.enabled=true --migration.users.file=/ruta/usuarios.csv}
+ */
+@ConfigurationProperties(prefix = "migration.users")
+public class UserMigrationProperties {
+
+    private boolean enabled;
+    private String file;
+    private String migrationId = "legacy-users";
+    private int batchSize = 5_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getMigrationId() {
+        return migrationId;
+    }
+
+    public void setMigrationId(String migrationId) {
+        this.migrationId = migrationId;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
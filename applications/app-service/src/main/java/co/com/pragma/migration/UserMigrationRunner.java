@@ -0,0 +1,56 @@
+package co.com.pragma.migration;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.migration.MigrationProgress;
+import co.com.pragma.usecase.migration.UserMigrationUseCase;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Ejecuta la migración masiva de usuarios al arrancar cuando {@code migration.users.enabled=true}.
+ * No expone ningún endpoint: solo quien puede lanzar el proceso con esa propiedad puede migrar.
+ */
+@Component
+@ConditionalOnProperty(prefix = "migration.users", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(UserMigrationProperties.class)
+public class UserMigrationRunner implements ApplicationRunner {
+
+    private final UserMigrationUseCase userMigrationUseCase;
+    private final UserMigrationProperties properties;
+    private final LoggerPort logger;
+    private final LegacyUserCsvReader reader = new LegacyUserCsvReader();
+
+    public UserMigrationRunner(UserMigrationUseCase userMigrationUseCase, UserMigrationProperties properties, LoggerPort logger) {
+        this.userMigrationUseCase = userMigrationUseCase;
+        this.properties = properties;
+        this.logger = logger;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (null == properties.getFile()) {
+            throw new IllegalStateException("migration.users.file es obligatorio cuando la migración está habilitada.");
+        }
+        logger.info("Iniciando migración {} desde {} en lotes de {}", properties.getMigrationId(), properties.getFile(), properties.getBatchSize());
+        MigrationProgress last = userMigrationUseCase
+                .migrate(properties.getMigrationId(), reader.read(Path.of(properties.getFile())), properties.getBatchSize())
+                .doOnNext(this::report)
+                .blockLast();
+        if (null == last) {
+            logger.info("Migración {}: no hay filas pendientes después del checkpoint.", properties.getMigrationId());
+            return;
+        }
+        logger.info("Migración {} completada: {} filas en {} ms ({} filas/s), checkpoint {}",
+                last.migrationId(), last.loadedRows(), last.elapsed().toMillis(), Math.round(last.rowsPerSecond()), last.checkpoint());
+    }
+
+    private void report(MigrationProgress progress) {
+        logger.info("Migración {}: checkpoint {} ({} filas/s)",
+                progress.migrationId(), progress.checkpoint(), Math.round(progress.rowsPerSecond()));
+    }
+}
@@ -0,0 +1,81 @@
+package co.com.pragma.tracing;
+
+import brave.handler.MutableSpan;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Decide, al terminar el span raíz local, si la traza completa se exporta: siempre si tuvo error o superó
+ * el umbral de su ruta, y con probabilidad {@code baselineRate} en el resto. Toda traza conservada consume
+ * cupo de un token bucket de spans por segundo; sin cupo se descarta aunque sea interesante.
+ */
+public class TailSamplingPolicy {
+
+    static final String URI_TAG = "uri";
+
+    private final long defaultSlowThresholdMicros;
+    private final Map<String, Long> slowThresholdMicros;
+    private final double baselineRate;
+    private final double maxSpansPerSecond;
+    private final LongSupplier nanoClock;
+    private final DoubleSupplier random;
+
+    private double availableSpans;
+    private long lastRefillNanos;
+
+    public TailSamplingPolicy(TailSamplingProperties properties) {
+        this(properties, System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    TailSamplingPolicy(TailSamplingProperties properties, LongSupplier nanoClock, DoubleSupplier random) {
+        this.defaultSlowThresholdMicros = properties.getDefaultSlowThreshold().toNanos() / 1_000;
+        this.slowThresholdMicros = properties.getSlowThresholds().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> toMicros(entry.getValue())));
+        this.baselineRate = properties.getBaselineRate();
+        this.maxSpansPerSecond = properties.getMaxSpansPerSecond();
+        this.nanoClock = nanoClock;
+        this.random = random;
+        this.availableSpans = maxSpansPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param root      Span raíz local ya terminado.
+     * @param spanCount Spans de la traza que se exportarían, incluido el raíz.
+     */
+    public boolean keep(MutableSpan root, int spanCount) {
+        boolean interesting = isError(root) || isSlow(root) || random.getAsDouble() < baselineRate;
+        return interesting && tryAcquire(spanCount);
+    }
+
+    static boolean isError(MutableSpan span) {
+        return span.error() != null || span.tag("error") != null;
+    }
+
+    boolean isSlow(MutableSpan span) {
+        long durationMicros = span.finishTimestamp() - span.startTimestamp();
+        String uri = span.tag(URI_TAG);
+        long threshold = uri == null ? defaultSlowThresholdMicros : slowThresholdMicros.getOrDefault(uri, defaultSlowThresholdMicros);
+        return durationMicros > threshold;
+    }
+
+    private synchronized boolean tryAcquire(int spans) {
+        long now = nanoClock.getAsLong();
+        availableSpans = Math.min(maxSpansPerSecond, availableSpans + (now - lastRefillNanos) * maxSpansPerSecond / 1_000_000_000d);
+        lastRefillNanos = now;
+        if (availableSpans < spans) {
+            return false;
+        }
+        availableSpans -= spans;
+        return true;
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
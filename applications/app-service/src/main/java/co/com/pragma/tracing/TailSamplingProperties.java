@@ -0,0 +1,97 @@
+package co.com.pragma.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "tracing.tail-sampling")
+public class TailSamplingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fracción de trazas rápidas y sin error que se conservan igualmente, como línea base.
+     */
+    private double baselineRate = 0.01;
+
+    /**
+     * Tope de spans exportados por segundo, incluidas las trazas lentas o con error.
+     */
+    private int maxSpansPerSecond = 200;
+
+    private Duration defaultSlowThreshold = Duration.ofMillis(500);
+
+    /**
+     * Umbral de lentitud por patrón de ruta (etiqueta {@code uri} del span raíz).
+     */
+    private Map<String, Duration> slowThresholds = new HashMap<>();
+
+    /**
+     * Trazas en curso cuyos spans se retienen a la espera de la decisión; por encima se descartan.
+     */
+    private int maxPendingTraces = 10_000;
+
+    /**
+     * Plazo máximo de retención de una traza cuya raíz no termina y ventana durante la que los spans
+     * que terminan después de su raíz siguen la decisión tomada para ella.
+     */
+    private Duration pendingTimeout = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getBaselineRate() {
+        return baselineRate;
+    }
+
+    public void setBaselineRate(double baselineRate) {
+        this.baselineRate = baselineRate;
+    }
+
+    public int getMaxSpansPerSecond() {
+        return maxSpansPerSecond;
+    }
+
+    public void setMaxSpansPerSecond(int maxSpansPerSecond) {
+        this.maxSpansPerSecond = maxSpansPerSecond;
+    }
+
+    public Duration getDefaultSlowThreshold() {
+        return defaultSlowThreshold;
+    }
+
+    public void setDefaultSlowThreshold(Duration defaultSlowThreshold) {
+        this.defaultSlowThreshold = defaultSlowThreshold;
+    }
+
+    public Map<String, Duration> getSlowThresholds() {
+        return slowThresholds;
+    }
+
+    public void setSlowThresholds(Map<String, Duration> slowThresholds) {
+        this.slowThresholds = slowThresholds;
+    }
+
+    public int getMaxPendingTraces() {
+        return maxPendingTraces;
+    }
+
+    public void setMaxPendingTraces(int maxPendingTraces) {
+        this.maxPendingTraces = maxPendingTraces;
+    }
+
+    public Duration getPendingTimeout() {
+        return pendingTimeout;
+    }
+
+    public void setPendingTimeout(Duration pendingTimeout) {
+        this.pendingTimeout = pendingTimeout;
+    }
+}
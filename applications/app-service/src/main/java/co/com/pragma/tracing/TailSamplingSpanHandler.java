@@ -0,0 +1,206 @@
+package co.com.pragma.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Muestreo por cola: todas las trazas se registran (crear spans en Brave es barato), pero los spans
+ * terminados se retienen por raíz local hasta que esta termina y {@link TailSamplingPolicy} decide.
+ * Solo entonces se entregan a los manejadores reales (exportadores), que son los que cuestan CPU y red.
+ * <p>
+ * La decisión de cada raíz se recuerda durante {@code pendingTimeout} en un conjunto acotado: los spans que
+ * terminan después de su raíz (habitual en código reactivo) siguen esa decisión sin volver a retenerse.
+ * Las trazas cuya raíz no termina en {@code pendingTimeout} se desalojan cuando hace falta espacio.
+ */
+public class TailSamplingSpanHandler extends SpanHandler {
+
+    private final Collection<SpanHandler> delegates;
+    private final TailSamplingPolicy policy;
+    private final int maxPendingTraces;
+    private final long pendingTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final FinishedRoots finished;
+    private volatile long nextEvictionScan;
+
+    public TailSamplingSpanHandler(Collection<SpanHandler> delegates, TailSamplingPolicy policy, int maxPendingTraces,
+                                   Duration pendingTimeout) {
+        this(delegates, policy, maxPendingTraces, pendingTimeout, System::nanoTime);
+    }
+
+    TailSamplingSpanHandler(Collection<SpanHandler> delegates, TailSamplingPolicy policy, int maxPendingTraces,
+                            Duration pendingTimeout, LongSupplier nanoClock) {
+        this.delegates = List.copyOf(delegates);
+        this.policy = policy;
+        this.maxPendingTraces = maxPendingTraces;
+        this.pendingTimeoutNanos = pendingTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.finished = new FinishedRoots(maxPendingTraces);
+        this.nextEvictionScan = nanoClock.getAsLong();
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        long localRootId = context.localRootId();
+        PendingSpan pendingSpan = new PendingSpan(context, span, cause);
+        if (context.spanId() != localRootId) {
+            buffer(localRootId, pendingSpan);
+            return true;
+        }
+        PendingTrace trace = pending.remove(localRootId);
+        List<PendingSpan> children = null == trace ? List.of() : trace.close();
+        boolean keep = cause != Cause.ABANDONED && policy.keep(span, children.size() + 1);
+        finished.put(localRootId, keep, nanoClock.getAsLong());
+        if (keep) {
+            children.forEach(this::forward);
+            forward(pendingSpan);
+        }
+        return true;
+    }
+
+    private void buffer(long localRootId, PendingSpan span) {
+        long now = nanoClock.getAsLong();
+        if (followDecision(localRootId, span, now)) {
+            return;
+        }
+        PendingTrace trace = pending.get(localRootId);
+        boolean created = false;
+        if (null == trace) {
+            if (pending.size() >= maxPendingTraces && evictStale(now) == 0) {
+                return; // Sin espacio: la traza se pierde antes que crecer sin límite
+            }
+            PendingTrace fresh = new PendingTrace(now);
+            trace = pending.putIfAbsent(localRootId, fresh);
+            if (null == trace) {
+                trace = fresh;
+                created = true;
+            }
+        }
+        if (!trace.add(span)) {
+            // La raíz terminó mientras tanto y su decisión ya está registrada
+            followDecision(localRootId, span, now);
+        } else if (created && null != finished.decision(localRootId, now) && pending.remove(localRootId, trace)) {
+            // La raíz se decidió entre la consulta y la creación de la entrada: no se deja huérfana
+            trace.close().forEach(late -> followDecision(localRootId, late, now));
+        }
+    }
+
+    // Un span tardío se exporta o se descarta según lo que se decidió para su raíz, sin retenerlo
+    private boolean followDecision(long localRootId, PendingSpan span, long now) {
+        Boolean keep = finished.decision(localRootId, now);
+        if (null == keep) {
+            return false;
+        }
+        if (keep) {
+            forward(span);
+        }
+        return true;
+    }
+
+    // Con el mapa lleno se recorre como mucho una vez por décima parte del plazo, no por cada span
+    private int evictStale(long now) {
+        if (now - nextEvictionScan < 0) {
+            return 0;
+        }
+        nextEvictionScan = now + pendingTimeoutNanos / 10;
+        int evicted = 0;
+        for (Map.Entry<Long, PendingTrace> entry : pending.entrySet()) {
+            if (now - entry.getValue().createdNanos > pendingTimeoutNanos && pending.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().close();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void forward(PendingSpan span) {
+        for (SpanHandler delegate : delegates) {
+            if (!delegate.end(span.context(), span.span(), span.cause())) {
+                return;
+            }
+        }
+    }
+
+    int pendingTraces() {
+        return pending.size();
+    }
+
+    private record PendingSpan(TraceContext context, MutableSpan span, Cause cause) {
+    }
+
+    private static final class PendingTrace {
+
+        private final long createdNanos;
+        private final List<PendingSpan> spans = new ArrayList<>();
+        private boolean closed;
+
+        private PendingTrace(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+
+        synchronized boolean add(PendingSpan span) {
+            if (closed) {
+                return false;
+            }
+            spans.add(span);
+            return true;
+        }
+
+        synchronized List<PendingSpan> close() {
+            closed = true;
+            return List.copyOf(spans);
+        }
+    }
+
+    /**
+     * Raíces terminadas recientemente y su decisión, acotadas en número (se olvidan las más antiguas)
+     * y en antigüedad. Las consultas, una por span hijo, no toman ningún candado.
+     */
+    private final class FinishedRoots {
+
+        private final int capacity;
+        private final Map<Long, Decision> decisions = new ConcurrentHashMap<>();
+        private final Queue<Long> order = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private FinishedRoots(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void put(long localRootId, boolean keep, long now) {
+            if (null == decisions.put(localRootId, new Decision(keep, now))) {
+                order.add(localRootId);
+                if (size.incrementAndGet() > capacity) {
+                    Long eldest = order.poll();
+                    if (null != eldest) {
+                        decisions.remove(eldest);
+                        size.decrementAndGet();
+                    }
+                }
+            }
+        }
+
+        Boolean decision(long localRootId, long now) {
+            Decision decision = decisions.get(localRootId);
+            if (null == decision || now - decision.decidedNanos() > pendingTimeoutNanos) {
+                return null; // Las vencidas se retiran al desbordar la capacidad
+            }
+            return decision.keep();
+        }
+    }
+
+    private record Decision(boolean keep, long decidedNanos) {
+    }
+}
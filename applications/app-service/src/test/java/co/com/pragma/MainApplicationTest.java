@@ -9,7 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 @SpringBootTest
 @TestPropertySource(properties = {
         "spring.datasource.url=jdbc:h2:mem:testdb",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "schema.verification.enabled=false",
+        "grpc.server.port=0"
 })
 class MainApplicationTest {
 
@@ -19,6 +22,10 @@ class MainApplicationTest {
 
     @Test
     void shouldStartMainApplication() {
-        assertDoesNotThrow(() -> MainApplication.main(new String[]{}));
+        assertDoesNotThrow(() -> MainApplication.main(new String[]{
+                "--spring.flyway.enabled=false",
+                "--schema.verification.enabled=false",
+                "--grpc.server.port=0" // Puerto libre: el contexto de contextLoads sigue activo
+        }));
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package co.com.pragma.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionStackTypeFilterTest {
+
+    private final SimpleMetadataReaderFactory readerFactory = new SimpleMetadataReaderFactory();
+
+    @Test
+    void shouldExcludeBlockingStackByDefault() throws IOException {
+        ExecutionStackTypeFilter filter = filterFor();
+
+        assertTrue(filter.match(reader("co.com.pragma.servlet.UserController"), readerFactory));
+        assertTrue(filter.match(reader("co.com.pragma.jdbc.repository.UserJdbcRepositoryAdapter"), readerFactory));
+        assertFalse(filter.match(reader("co.com.pragma.api.Handler"), readerFactory));
+        assertFalse(filter.match(reader("co.com.pragma.config.UseCaseConfig"), readerFactory));
+    }
+
+    @Test
+    void shouldExcludeReactiveStackWithLoomProfile() throws IOException {
+        ExecutionStackTypeFilter filter = filterFor(ExecutionStackTypeFilter.LOOM_PROFILE);
+
+        assertTrue(filter.match(reader("co.com.pragma.api.Handler"), readerFactory));
+        assertTrue(filter.match(reader("co.com.pragma.r2dbc.repository.UserReactiveRepositoryAdapter"), readerFactory));
+        assertFalse(filter.match(reader("co.com.pragma.servlet.UserController"), readerFactory));
+        assertFalse(filter.match(reader("co.com.pragma.config.UseCaseConfig"), readerFactory));
+    }
+
+    private static ExecutionStackTypeFilter filterFor(String... profiles) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(profiles);
+        ExecutionStackTypeFilter filter = new ExecutionStackTypeFilter();
+        filter.setEnvironment(environment);
+        return filter;
+    }
+
+    private MetadataReader reader(String className) throws IOException {
+        return readerFactory.getMetadataReader(className);
+    }
+}
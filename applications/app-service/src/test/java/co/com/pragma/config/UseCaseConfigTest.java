@@ -1,8 +1,11 @@
 package co.com.pragma.config;
 
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.role.repository.RoleRepository;
 import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.repository.UserBulkRepository;
 import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.usecase.migration.UserMigrationUseCase;
 import co.com.pragma.usecase.user.UserUseCase;
 import co.com.pragma.usecase.validation.UserValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +26,10 @@ class UseCaseConfigTest {
     private RoleRepository roleRepository;
     @Mock
     private PasswordEncryptor passwordEncryptor;
+    @Mock
+    private UserBulkRepository userBulkRepository;
+    @Mock
+    private OperationMetricsPort operationMetrics;
 
     private UseCaseConfig useCaseConfig;
 
@@ -43,9 +50,17 @@ class UseCaseConfigTest {
     void shouldCreateUserUseCase() {
         UserValidator userValidator = new UserValidator(userRepository, roleRepository);
 
-        UserUseCase result = useCaseConfig.userUseCase(userRepository, userValidator, passwordEncryptor);
+        UserUseCase result = useCaseConfig.userUseCase(userRepository, userValidator, passwordEncryptor, operationMetrics);
 
         assertNotNull(result);
         assertInstanceOf(UserUseCase.class, result);
     }
+
+    @Test
+    void shouldCreateUserMigrationUseCase() {
+        UserMigrationUseCase result = useCaseConfig.userMigrationUseCase(userBulkRepository);
+
+        assertNotNull(result);
+        assertInstanceOf(UserMigrationUseCase.class, result);
+    }
 }
@@ -0,0 +1,120 @@
+package co.com.pragma.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BlockingCallRegistryTest {
+
+    private static final String SLEEP = "java.lang.Thread.sleep";
+    private static final String READ = "java.io.FileInputStream.readBytes";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldAggregateCallsWithTheSameStackSignature() {
+        // Arrange
+        BlockingCallRegistry registry = new BlockingCallRegistry(meterRegistry, 10, 3);
+        StackTraceElement[] stack = stack("co.com.pragma.api.security.BCryptPasswordEncryptor", "co.com.pragma.api.auth.AuthHandler");
+
+        // Act
+        registry.record(SLEEP, stack, "reactor-http-epoll-1");
+        registry.record(SLEEP, stack, "reactor-http-epoll-2");
+
+        // Assert
+        BlockingCallRegistry.Report report = registry.report();
+        assertEquals(2, report.totalCalls());
+        assertEquals(1, report.signatures().size());
+        BlockingCallRegistry.SignatureReport signature = report.signatures().get(0);
+        assertEquals(2, signature.count());
+        assertEquals("reactor-http-epoll-2", signature.lastThread());
+    }
+
+    @Test
+    void shouldSkipDetectorFramesAndKeepConfiguredDepth() {
+        // Arrange
+        BlockingCallRegistry registry = new BlockingCallRegistry(meterRegistry, 10, 2);
+        StackTraceElement[] stack = {
+                frame("co.com.pragma.diagnostics.BlockingCallDetector"),
+                frame("reactor.blockhound.BlockHoundRuntime"),
+                frame("java.lang.Thread"),
+                frame("co.com.pragma.api.auth.AuthHandler"),
+                frame("co.com.pragma.api.Router")
+        };
+
+        // Act
+        registry.record(SLEEP, stack, "reactor-http-epoll-1");
+
+        // Assert
+        List<String> frames = registry.report().signatures().get(0).stack();
+        assertEquals(2, frames.size());
+        assertEquals(frame("java.lang.Thread").toString(), frames.get(0));
+        assertEquals(frame("co.com.pragma.api.auth.AuthHandler").toString(), frames.get(1));
+    }
+
+    @Test
+    void shouldCountButNotKeepSignaturesAboveTheLimit() {
+        // Arrange
+        BlockingCallRegistry registry = new BlockingCallRegistry(meterRegistry, 1, 3);
+
+        // Act
+        registry.record(SLEEP, stack("co.com.pragma.A"), "reactor-http-epoll-1");
+        registry.record(SLEEP, stack("co.com.pragma.B"), "reactor-http-epoll-1");
+        registry.record(SLEEP, stack("co.com.pragma.A"), "reactor-http-epoll-1");
+
+        // Assert
+        BlockingCallRegistry.Report report = registry.report();
+        assertEquals(3, report.totalCalls());
+        assertEquals(1, report.droppedSignatures());
+        assertEquals(1, report.signatures().size());
+        assertEquals(2, report.signatures().get(0).count());
+    }
+
+    @Test
+    void shouldSortSignaturesByFrequency() {
+        // Arrange
+        BlockingCallRegistry registry = new BlockingCallRegistry(meterRegistry, 10, 3);
+
+        // Act
+        registry.record(READ, stack("co.com.pragma.A"), "reactor-http-epoll-1");
+        registry.record(SLEEP, stack("co.com.pragma.B"), "reactor-http-epoll-1");
+        registry.record(SLEEP, stack("co.com.pragma.B"), "reactor-http-epoll-1");
+
+        // Assert
+        List<BlockingCallRegistry.SignatureReport> signatures = registry.report().signatures();
+        assertEquals(SLEEP, signatures.get(0).method());
+        assertEquals(READ, signatures.get(1).method());
+    }
+
+    @Test
+    void shouldCountCallsPerBlockingMethod() {
+        // Arrange
+        BlockingCallRegistry registry = new BlockingCallRegistry(meterRegistry, 10, 3);
+
+        // Act
+        registry.record(SLEEP, stack("co.com.pragma.A"), "reactor-http-epoll-1");
+        registry.record(SLEEP, stack("co.com.pragma.B"), "reactor-http-epoll-1");
+        registry.record(READ, stack("co.com.pragma.A"), "reactor-http-epoll-1");
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get(BlockingCallRegistry.BLOCKING_METRIC)
+                .tag(BlockingCallRegistry.METHOD_TAG, SLEEP).counter().count());
+        assertEquals(1.0, meterRegistry.get(BlockingCallRegistry.BLOCKING_METRIC)
+                .tag(BlockingCallRegistry.METHOD_TAG, READ).counter().count());
+    }
+
+    private static StackTraceElement[] stack(String... classNames) {
+        StackTraceElement[] frames = new StackTraceElement[classNames.length];
+        for (int i = 0; i < classNames.length; i++) {
+            frames[i] = frame(classNames[i]);
+        }
+        return frames;
+    }
+
+    private static StackTraceElement frame(String className) {
+        return new StackTraceElement(className, "call", className.substring(className.lastIndexOf('.') + 1) + ".java", 10);
+    }
+}
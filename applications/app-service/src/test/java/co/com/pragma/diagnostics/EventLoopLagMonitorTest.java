@@ -0,0 +1,89 @@
+package co.com.pragma.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLoopLagMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DefaultEventLoopGroup eventLoops;
+    private EventLoopLagMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+        eventLoops.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    void shouldRegisterOneTimerPerEventLoop() throws InterruptedException {
+        // Arrange
+        eventLoops = new DefaultEventLoopGroup(2);
+        monitor = new EventLoopLagMonitor(() -> eventLoops, registry, Duration.ofMillis(5));
+
+        // Act
+        monitor.start();
+        awaitUntil(() -> timers().size() == 2 && timers().stream().allMatch(timer -> timer.count() > 0));
+
+        // Assert
+        assertEquals(2, timers().size());
+        assertEquals(2, timers().stream().map(timer -> timer.getId().getTag(EventLoopLagMonitor.LOOP_TAG)).distinct().count());
+    }
+
+    @Test
+    void shouldReportLagWhenTheLoopIsBusy() throws InterruptedException {
+        // Arrange
+        eventLoops = new DefaultEventLoopGroup(1);
+        monitor = new EventLoopLagMonitor(() -> eventLoops, registry, Duration.ofMillis(5));
+        monitor.start();
+
+        // Act: trabajo de CPU en el loop, como un BCrypt ejecutado fuera de boundedElastic
+        eventLoops.next().execute(() -> {
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        });
+        awaitUntil(() -> !timers().isEmpty() && timers().iterator().next().max(TimeUnit.MILLISECONDS) >= 50);
+
+        // Assert
+        assertTrue(timers().iterator().next().max(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void shouldStopReschedulingAfterStop() {
+        // Arrange
+        eventLoops = new DefaultEventLoopGroup(1);
+        monitor = new EventLoopLagMonitor(() -> eventLoops, registry, Duration.ofMillis(5));
+        monitor.start();
+
+        // Act
+        monitor.stop();
+
+        // Assert
+        assertFalse(monitor.isRunning());
+    }
+
+    private Collection<Timer> timers() {
+        return registry.find(EventLoopLagMonitor.LAG_METRIC).timers();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package co.com.pragma.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecorderEndpointTest {
+
+    @Mock
+    private FlightRecorderService recorder;
+
+    @Mock
+    private FlightRecordingSummarizer summarizer;
+
+    @Test
+    void shouldReturnRecordingInfoWhenStarted() {
+        // Arrange
+        FlightRecorderService.RecordingInfo info = new FlightRecorderService.RecordingInfo("crediya-20260101-000000.jfr", Instant.EPOCH, Duration.ofSeconds(60));
+        when(recorder.isAvailable()).thenReturn(true);
+        when(recorder.start(any())).thenReturn(info);
+
+        // Act
+        WebEndpointResponse<Object> response = new FlightRecorderEndpoint(recorder, summarizer).start(null);
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertEquals(info, response.getBody());
+    }
+
+    @Test
+    void shouldReturnConflictWhenARecordingIsRunning() {
+        // Arrange
+        when(recorder.isAvailable()).thenReturn(true);
+        when(recorder.start(any())).thenThrow(new IllegalStateException("en curso"));
+
+        // Act
+        WebEndpointResponse<Object> response = new FlightRecorderEndpoint(recorder, summarizer).start(Duration.ofSeconds(30));
+
+        // Assert
+        assertEquals(409, response.getStatus());
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvalidDuration() {
+        // Arrange
+        when(recorder.isAvailable()).thenReturn(true);
+        when(recorder.start(any())).thenThrow(new IllegalArgumentException("duración"));
+
+        // Act
+        WebEndpointResponse<Object> response = new FlightRecorderEndpoint(recorder, summarizer).start(Duration.ofHours(1));
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, response.getStatus());
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWithoutFlightRecorder() {
+        // Arrange
+        when(recorder.isAvailable()).thenReturn(false);
+
+        // Act
+        WebEndpointResponse<Object> response = new FlightRecorderEndpoint(recorder, summarizer).start(null);
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, response.getStatus());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownRecordingOrView() {
+        // Arrange
+        when(recorder.resolve("missing.jfr")).thenReturn(Optional.empty());
+        FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(recorder, summarizer);
+
+        // Act & Assert
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download("missing.jfr").getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.summary("crediya-20260101-000000.jfr", "flamegraph").getStatus());
+        verifyNoInteractions(summarizer);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenStoppingWithoutActiveRecording() {
+        // Arrange
+        when(recorder.stop()).thenReturn(Optional.empty());
+
+        // Act
+        WebEndpointResponse<FlightRecorderService.RecordingInfo> response = new FlightRecorderEndpoint(recorder, summarizer).stop();
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, response.getStatus());
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.pragma.diagnostics;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecorderServiceTest {
+
+    @Mock
+    private LoggerPort logger;
+
+    @TempDir
+    Path directory;
+
+    private FlightRecorderService service;
+
+    @BeforeEach
+    void setUp() {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDirectory(directory);
+        properties.setMaxDuration(Duration.ofMinutes(1));
+        properties.setMaxRecordings(2);
+        service = new FlightRecorderService(properties, logger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void shouldWriteRecordingToDirectoryWhenStopped() {
+        // Arrange
+        FlightRecorderService.RecordingInfo started = service.start(Duration.ofSeconds(30));
+
+        // Act
+        service.stop();
+
+        // Assert
+        assertTrue(service.current().isEmpty());
+        assertTrue(service.resolve(started.name()).isPresent());
+        assertEquals(started.name(), service.recordings().get(0).name());
+    }
+
+    @Test
+    void shouldRejectASecondConcurrentRecording() {
+        // Arrange
+        service.start(Duration.ofSeconds(30));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.start(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void shouldRejectDurationsAboveTheConfiguredMaximum() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.start(Duration.ofMinutes(5)));
+        assertThrows(IllegalArgumentException.class, () -> service.start(Duration.ZERO));
+    }
+
+    @Test
+    void shouldOnlyResolveRecordingNamesInsideTheDirectory() throws IOException {
+        // Arrange
+        Files.writeString(directory.resolve("crediya-20260101-000000.jfr"), "jfr");
+
+        // Act & Assert
+        assertTrue(service.resolve("crediya-20260101-000000.jfr").isPresent());
+        assertTrue(service.resolve("../secret.jfr").isEmpty());
+        assertTrue(service.resolve("application.yaml").isEmpty());
+        assertTrue(service.resolve(null).isEmpty());
+    }
+
+    @Test
+    void shouldPruneOldestRecordingsBeforeStartingANewOne() throws IOException {
+        // Arrange
+        Path oldest = Files.writeString(directory.resolve("crediya-20260101-000000.jfr"), "jfr");
+        Path newest = Files.writeString(directory.resolve("crediya-20260102-000000.jfr"), "jfr");
+        Files.setLastModifiedTime(oldest, FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(newest, FileTime.fromMillis(2_000));
+
+        // Act
+        service.start(Duration.ofSeconds(30));
+
+        // Assert: se conserva una grabación anterior más la que está en curso
+        assertTrue(Files.notExists(oldest));
+        assertTrue(Files.exists(newest));
+    }
+
+    @Test
+    void shouldTuneProfileSettingsForAllocationSocketsAndLocks() throws Exception {
+        // Act
+        Map<String, String> settings = FlightRecorderService.settings();
+
+        // Assert
+        assertEquals("true", settings.get("jdk.ObjectAllocationSample#enabled"));
+        assertEquals("5 ms", settings.get("jdk.SocketRead#threshold"));
+        assertEquals("5 ms", settings.get("jdk.JavaMonitorEnter#threshold"));
+        assertEquals("5 ms", settings.get("jdk.ThreadPark#threshold"));
+    }
+}
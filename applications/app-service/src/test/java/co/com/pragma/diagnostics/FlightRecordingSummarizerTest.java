@@ -0,0 +1,78 @@
+package co.com.pragma.diagnostics;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecordingSummarizerTest {
+
+    @TempDir
+    Path directory;
+
+    // Evita que el JIT elimine las asignaciones del trabajo simulado
+    private static volatile Object sink;
+
+    @Test
+    void shouldAttributeSamplesToApplicationFrames() throws Exception {
+        // Arrange
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(1));
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "10000/s");
+            recording.start();
+            allocate(Duration.ofMillis(500));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Act
+        FlightRecordingSummarizer.Summary summary = new FlightRecordingSummarizer(5).summarize(file);
+
+        // Assert
+        assertEquals("test.jfr", summary.recording());
+        assertTrue(summary.allocation().total() > 0);
+        assertFalse(summary.allocation().topFrames().isEmpty());
+        assertTrue(summary.allocation().topFrames().size() <= 5);
+        assertTrue(summary.allocation().topFrames().stream()
+                .allMatch(share -> share.frame().startsWith(FlightRecordingSummarizer.APPLICATION_PACKAGE)));
+    }
+
+    @Test
+    void shouldReturnEmptyViewsForRecordingsWithoutSamples() throws Exception {
+        // Arrange
+        Path file = directory.resolve("empty.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Act
+        FlightRecordingSummarizer.Summary summary = new FlightRecordingSummarizer(5).summarize(file);
+
+        // Assert
+        assertEquals(0, summary.cpu().total());
+        assertTrue(summary.cpu().topFrames().isEmpty());
+        assertEquals(0, summary.allocation().total());
+    }
+
+    private static void allocate(Duration duration) {
+        long until = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < until) {
+            List<String> values = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                values.add(Integer.toString(i));
+            }
+            sink = values;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.pragma.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicyFactory;
+import org.apache.logging.log4j.core.async.DiscardingAsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class AsyncLogDiscardsTest {
+
+    @Test
+    void shouldConfigureLog4jDiscardPolicyForEveryLevel() {
+        // Act: la fábrica lee log4j2.component.properties del classpath
+        AsyncQueueFullPolicy policy = AsyncQueueFullPolicyFactory.create();
+        long producerThread = Thread.currentThread().threadId() + 1;
+
+        // Assert
+        assertInstanceOf(DiscardingAsyncQueueFullPolicy.class, policy);
+        assertEquals(EventRoute.DISCARD, policy.getRoute(producerThread, Level.INFO));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(producerThread, Level.DEBUG));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(producerThread, Level.WARN));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(producerThread, Level.ERROR));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(producerThread, Level.FATAL));
+        assertEquals(5, DiscardingAsyncQueueFullPolicy.getDiscardCount(policy));
+    }
+
+    @Test
+    void shouldReportZeroWithoutAsyncLoggers() {
+        // La configuración de los tests usa loggers síncronos
+        assertEquals(0, AsyncLogDiscards.count());
+    }
+}
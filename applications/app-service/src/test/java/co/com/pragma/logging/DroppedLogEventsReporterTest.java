@@ -0,0 +1,64 @@
+package co.com.pragma.logging;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DroppedLogEventsReporterTest {
+
+    @Mock
+    private LoggerPort logger;
+
+    private final AtomicLong discarded = new AtomicLong(5);
+
+    @Test
+    void shouldReportOnlyEventsDiscardedDuringTheInterval() {
+        // Arrange
+        DroppedLogEventsReporter reporter = new DroppedLogEventsReporter(logger, discarded::get, Duration.ofSeconds(10));
+        discarded.addAndGet(3);
+
+        // Act
+        reporter.report();
+
+        // Assert
+        verify(logger).warn(anyString(), eq(3L), eq(10L));
+    }
+
+    @Test
+    void shouldStayQuietWhenNothingWasDiscarded() {
+        // Arrange
+        DroppedLogEventsReporter reporter = new DroppedLogEventsReporter(logger, discarded::get, Duration.ofSeconds(10));
+
+        // Act
+        reporter.report();
+
+        // Assert
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void shouldExposeTotalAsCounter() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DroppedLogEventsReporter reporter = new DroppedLogEventsReporter(logger, discarded::get, Duration.ofSeconds(10));
+
+        // Act
+        reporter.bindTo(registry);
+
+        // Assert
+        assertEquals(5.0, registry.get(DroppedLogEventsReporter.DISCARDED_METRIC).functionCounter().count());
+    }
+}
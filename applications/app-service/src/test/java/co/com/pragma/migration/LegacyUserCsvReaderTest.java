@@ -0,0 +1,77 @@
+package co.com.pragma.migration;
+
+import co.com.pragma.model.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LegacyUserCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSkipHeaderAndBlankLines() throws IOException {
+        Path file = tempDir.resolve("users.csv");
+        Files.writeString(file, """
+                nombre,apellido,fecha_nacimiento,correo_electronico,documento_identidad,telefono,id_rol,salario_base,password
+                John,Doe,1990-05-15,john@example.com,123,300,1,50000.0,hash
+
+                Jane,Roe,,jane@example.com,456,301,,,hash2
+                """);
+
+        StepVerifier.create(new LegacyUserCsvReader().read(file))
+                .expectNext(new User(null, "John", "Doe", LocalDate.of(1990, 5, 15), "john@example.com", "123", "300", 1, 50000.0, "hash"))
+                .expectNext(new User(null, "Jane", "Roe", null, "jane@example.com", "456", "301", null, null, "hash2"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldKeepCommasAndQuotesInsideQuotedFields() {
+        User user = LegacyUserCsvReader.parse("\"Pérez, Juan\",\"O\"\"Brien\",1990-05-15,juan@example.com,123,300,1,50000.0,hash");
+
+        assertEquals("Pérez, Juan", user.firstName());
+        assertEquals("O\"Brien", user.lastName());
+        assertEquals("juan@example.com", user.email());
+    }
+
+    @Test
+    void shouldReadQuotedFieldsSpanningLines() throws IOException {
+        Path file = tempDir.resolve("users.csv");
+        Files.writeString(file, """
+                nombre,apellido,fecha_nacimiento,correo_electronico,documento_identidad,telefono,id_rol,salario_base,password
+                "Pérez, Juan","Gómez
+                Ruiz",1990-05-15,juan@example.com,123,300,1,50000.0,hash
+                """);
+
+        StepVerifier.create(new LegacyUserCsvReader().read(file))
+                .expectNext(new User(null, "Pérez, Juan", "Gómez\nRuiz", LocalDate.of(1990, 5, 15), "juan@example.com", "123", "300", 1, 50000.0, "hash"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectRowsWithUnexpectedColumnCount() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> LegacyUserCsvReader.parse("John,Doe"));
+
+        assertEquals("Se esperaban 9 columnas y se encontraron 2", exception.getMessage());
+    }
+
+    @Test
+    void shouldParseEmptyOptionalColumnsAsNull() {
+        User user = LegacyUserCsvReader.parse("John,Doe,,john@example.com,123,300,,,hash");
+
+        assertNull(user.birthDate());
+        assertNull(user.roleId());
+        assertNull(user.baseSalary());
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.pragma.tracing;
+
+import brave.handler.MutableSpan;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TailSamplingPolicyTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldKeepBaselineFractionOfFastTraces() {
+        // Arrange
+        TailSamplingProperties properties = new TailSamplingProperties();
+        properties.setBaselineRate(0.05);
+
+        // Act & Assert
+        assertTrue(new TailSamplingPolicy(properties, clock::get, () -> 0.01).keep(fastSpan(), 1));
+        assertFalse(new TailSamplingPolicy(properties, clock::get, () -> 0.5).keep(fastSpan(), 1));
+    }
+
+    @Test
+    void shouldRefillSpanBudgetOverTime() {
+        // Arrange
+        TailSamplingProperties properties = new TailSamplingProperties();
+        properties.setBaselineRate(1.0);
+        properties.setMaxSpansPerSecond(4);
+        TailSamplingPolicy policy = new TailSamplingPolicy(properties, clock::get, () -> 0.0);
+
+        // Act & Assert
+        assertTrue(policy.keep(fastSpan(), 4));
+        assertFalse(policy.keep(fastSpan(), 1));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(policy.keep(fastSpan(), 2));
+        assertFalse(policy.keep(fastSpan(), 1));
+    }
+
+    private static MutableSpan fastSpan() {
+        MutableSpan span = new MutableSpan();
+        span.startTimestamp(1_000);
+        span.finishTimestamp(2_000);
+        return span;
+    }
+}
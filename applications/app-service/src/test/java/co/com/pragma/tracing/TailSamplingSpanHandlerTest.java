@@ -0,0 +1,184 @@
+package co.com.pragma.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TailSamplingSpanHandlerTest {
+
+    private final List<MutableSpan> exported = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private TailSamplingPolicy policy;
+    private SpanHandler exporter;
+    private TailSamplingSpanHandler handler;
+    private Tracing tracing;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        TailSamplingProperties properties = new TailSamplingProperties();
+        properties.setBaselineRate(0.0);
+        properties.setMaxSpansPerSecond(10);
+        properties.setSlowThresholds(Map.of("/api/v1/login", Duration.ofMillis(800)));
+        exporter = new SpanHandler() {
+            @Override
+            public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                exported.add(span);
+                return true;
+            }
+        };
+        policy = new TailSamplingPolicy(properties);
+        useHandler(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    private void useHandler(int maxPendingTraces) {
+        if (tracing != null) {
+            tracing.close();
+        }
+        handler = new TailSamplingSpanHandler(List.of(exporter), policy, maxPendingTraces, Duration.ofSeconds(30), clock::get);
+        tracing = Tracing.newBuilder().addSpanHandler(handler).build();
+        tracer = tracing.tracer();
+    }
+
+    @Test
+    void shouldDropFastSuccessfulTraces() {
+        // Act
+        trace("/api/v1/login", 100, null);
+
+        // Assert
+        assertTrue(exported.isEmpty());
+        assertEquals(0, handler.pendingTraces());
+    }
+
+    @Test
+    void shouldExportWholeTraceWhenRootIsSlowForItsRoute() {
+        // Act
+        trace("/api/v1/login", 900, null);
+
+        // Assert
+        assertEquals(List.of("db", "login"), exported.stream().map(MutableSpan::name).toList());
+    }
+
+    @Test
+    void shouldApplyRouteThresholdInsteadOfDefault() {
+        // Act: 600 ms supera el umbral por defecto (500 ms) pero no el del login (800 ms)
+        trace("/api/v1/login", 600, null);
+
+        // Assert
+        assertTrue(exported.isEmpty());
+    }
+
+    @Test
+    void shouldExportErroredTraces() {
+        // Act
+        trace("/api/v1/usuarios", 10, new IllegalStateException("boom"));
+
+        // Assert
+        assertEquals(2, exported.size());
+    }
+
+    @Test
+    void shouldCapExportedSpansPerSecond() {
+        // Act: cada traza tiene 2 spans y el tope es 10 por segundo
+        for (int i = 0; i < 8; i++) {
+            trace("/api/v1/usuarios", 10, new IllegalStateException("boom"));
+        }
+
+        // Assert
+        assertEquals(10, exported.size());
+    }
+
+    @Test
+    void shouldForwardChildFinishedAfterKeptRootWithoutBuffering() {
+        // Arrange
+        long start = 1_000_000L;
+        Span root = tracer.newTrace().name("login").tag(TailSamplingPolicy.URI_TAG, "/api/v1/login").start(start);
+        Span late = tracer.newChild(root.context()).name("db").start(start);
+        root.finish(start + 900_000);
+
+        // Act
+        late.finish(start + 950_000);
+
+        // Assert
+        assertEquals(List.of("login", "db"), exported.stream().map(MutableSpan::name).toList());
+        assertEquals(0, handler.pendingTraces());
+    }
+
+    @Test
+    void shouldDropChildFinishedAfterDroppedRootWithoutBuffering() {
+        // Arrange
+        long start = 1_000_000L;
+        Span root = tracer.newTrace().name("login").tag(TailSamplingPolicy.URI_TAG, "/api/v1/login").start(start);
+        Span late = tracer.newChild(root.context()).name("db").start(start);
+        root.finish(start + 100_000);
+
+        // Act
+        late.finish(start + 150_000);
+
+        // Assert
+        assertTrue(exported.isEmpty());
+        assertEquals(0, handler.pendingTraces());
+    }
+
+    @Test
+    void shouldEvictStalePendingTracesWhenFull() {
+        // Arrange: una traza cuya raíz nunca termina ocupa el único hueco
+        useHandler(1);
+        Span orphanRoot = tracer.newTrace().name("orphan").start(1_000_000L);
+        tracer.newChild(orphanRoot.context()).name("db").start(1_000_000L).finish(1_001_000L);
+        assertEquals(1, handler.pendingTraces());
+
+        // Act: pasado el plazo, una traza nueva lenta desaloja la huérfana
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        trace("/api/v1/login", 900, null);
+
+        // Assert
+        assertEquals(List.of("db", "login"), exported.stream().map(MutableSpan::name).toList());
+        assertEquals(0, handler.pendingTraces());
+    }
+
+    @Test
+    void shouldDropNewTracesWhileFullAndNotStale() {
+        // Arrange
+        useHandler(1);
+        Span orphanRoot = tracer.newTrace().name("orphan").start(1_000_000L);
+        tracer.newChild(orphanRoot.context()).name("db").start(1_000_000L).finish(1_001_000L);
+
+        // Act
+        trace("/api/v1/login", 900, null);
+
+        // Assert: el hijo no cabe, pero la raíz lenta se exporta igualmente
+        assertEquals(List.of("login"), exported.stream().map(MutableSpan::name).toList());
+        assertEquals(1, handler.pendingTraces());
+    }
+
+    private void trace(String uri, long durationMillis, Throwable error) {
+        long start = 1_000_000L;
+        Span root = tracer.newTrace().name("login").tag(TailSamplingPolicy.URI_TAG, uri).start(start);
+        tracer.newChild(root.context()).name("db").start(start).finish(start + 1_000);
+        if (error != null) {
+            root.error(error);
+        }
+        root.finish(start + durationMillis * 1_000);
+    }
+}
@@ -0,0 +1,91 @@
+package co.com.pragma.api.auth;
+
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.model.constants.ApiConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Antes/después de mover el login al router funcional: despacho y binding del cuerpo con
+ * {@code @RestController} + {@code @RequestBody} contra {@code RouterFunction} + {@code bodyToMono}.
+ * La lógica de autenticación se reemplaza por una respuesta fija para medir solo la capa web.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoginDispatchBenchmark {
+
+    private static final String LOGIN_PATH = ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH;
+    private static final byte[] BODY = "{\"username\":\"john.doe@example.com\",\"password\":\"secret\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private WebTestClient annotatedClient;
+    private WebTestClient functionalClient;
+
+    @Setup
+    public void setUp() {
+        Function<AuthRequest, Mono<LoginResponseRecord>> login = request -> Mono.just(LoginResponseRecord.ofToken("token"));
+
+        annotatedClient = WebTestClient.bindToController(new AnnotatedLoginEndpoint(login)).build();
+        functionalClient = WebTestClient.bindToRouterFunction(route(POST(LOGIN_PATH), request -> request.bodyToMono(AuthRequest.class)
+                        .flatMap(login)
+                        .flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body))))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] annotatedController() {
+        return post(annotatedClient);
+    }
+
+    @Benchmark
+    public byte[] functionalRouter() {
+        return post(functionalClient);
+    }
+
+    private static byte[] post(WebTestClient client) {
+        return client.post()
+                .uri(LOGIN_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(BODY)
+                .exchange()
+                .expectBody()
+                .returnResult()
+                .getResponseBodyContent();
+    }
+
+    // Réplica del antiguo AuthController, solo para la comparación
+    @RestController
+    public static class AnnotatedLoginEndpoint {
+
+        private final Function<AuthRequest, Mono<LoginResponseRecord>> login;
+
+        public AnnotatedLoginEndpoint(Function<AuthRequest, Mono<LoginResponseRecord>> login) {
+            this.login = login;
+        }
+
+        @PostMapping(value = LOGIN_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<LoginResponseRecord> login(@RequestBody AuthRequest request) {
+            return login.apply(request);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package co.com.pragma.api.auth.strategy;
+
+import co.com.pragma.benchmarks.NoOpLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolución de roles en cada login. El 99 no corresponde a ninguna estrategia y recorre la lista completa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoleStrategyBenchmark {
+
+    @Param({"1", "2", "3", "99"})
+    public int roleId;
+
+    private RoleStrategyContext roleStrategyContext;
+    private Integer boxedRoleId;
+
+    @Setup
+    public void setUp() {
+        roleStrategyContext = new RoleStrategyContext(
+                List.of(new AdminRoleStrategy(), new AdvisorRoleStrategy(), new ClientRoleStrategy()), new NoOpLogger());
+        boxedRoleId = roleId;
+    }
+
+    @Benchmark
+    public List<String> getRolesForUser() {
+        return roleStrategyContext.getRolesForUser(boxedRoleId);
+    }
+}
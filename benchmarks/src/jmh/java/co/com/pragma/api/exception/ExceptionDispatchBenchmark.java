@@ -0,0 +1,77 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.exception.strategy.AccessDeniedExceptionHandler;
+import co.com.pragma.api.exception.strategy.BusinessExceptionHandler;
+import co.com.pragma.api.exception.strategy.DefaultExceptionHandler;
+import co.com.pragma.api.exception.strategy.ExceptionHandlerStrategy;
+import co.com.pragma.api.exception.strategy.ExpiredJwtExceptionHandler;
+import co.com.pragma.api.exception.strategy.InvalidRequestExceptionHandler;
+import co.com.pragma.api.exception.strategy.ServerWebInputExceptionHandler;
+import co.com.pragma.benchmarks.NoOpLogger;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el recorrido lineal de estrategias que hacía {@link GlobalExceptionHandler}
+ * contra la resolución memorizada por clase de {@link ExceptionStrategyResolver}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionDispatchBenchmark {
+
+    @Param({"ACCESS_DENIED", "INPUT", "UNHANDLED"})
+    public String exceptionType;
+
+    private List<ExceptionHandlerStrategy> strategies;
+    private ExceptionStrategyResolver resolver;
+    private Class<? extends Throwable> type;
+
+    @Setup
+    public void setUp() {
+        LoggerPort logger = new NoOpLogger();
+        List<ExceptionHandlerStrategy> ordered = new ArrayList<>(List.of(
+                new AccessDeniedExceptionHandler(logger),
+                new ExpiredJwtExceptionHandler(logger),
+                new InvalidRequestExceptionHandler(logger),
+                new ServerWebInputExceptionHandler(logger),
+                new BusinessExceptionHandler(logger),
+                new DefaultExceptionHandler(logger)
+        ));
+        AnnotationAwareOrderComparator.sort(ordered);
+        strategies = ordered;
+        resolver = new ExceptionStrategyResolver(ordered);
+        type = switch (exceptionType) {
+            case "ACCESS_DENIED" -> AccessDeniedException.class;
+            case "INPUT" -> ServerWebInputException.class;
+            default -> IllegalStateException.class;
+        };
+    }
+
+    @Benchmark
+    public ExceptionHandlerStrategy linearScan() {
+        return strategies.stream()
+                .filter(strategy -> strategy.supports(type))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public ExceptionHandlerStrategy classValueLookup() {
+        return resolver.resolve(type);
+    }
+}
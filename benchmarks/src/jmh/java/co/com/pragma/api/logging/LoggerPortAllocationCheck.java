@@ -0,0 +1,48 @@
+package co.com.pragma.api.logging;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * Verifica con {@code gc.alloc.rate.norm} que una línea DEBUG deshabilitada protegida con
+ * {@code isDebugEnabled()} no reserva memoria, que es el patrón de las rutas calientes (repositorios,
+ * login, autorización). Termina con error si supera {@link #MAX_BYTES_PER_OP}.
+ * <p>
+ * {@code ./gradlew :benchmarks:jmhAllocationCheck}
+ */
+public final class LoggerPortAllocationCheck {
+
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    // Margen para el ruido de la medición; una reserva real (lambda, varargs, String) supera los 16 bytes
+    static final double MAX_BYTES_PER_OP = 1.0;
+
+    private LoggerPortAllocationCheck() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoggerPortOverheadBenchmark.class.getName() + "\\.(guarded|lazySupplier)$")
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .measurementIterations(3)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_METRIC);
+            double bytesPerOp = allocation.getScore();
+            System.out.printf("%s: %.2f B/op%n", benchmark, bytesPerOp);
+            if (benchmark.endsWith(".guarded") && bytesPerOp > MAX_BYTES_PER_OP) {
+                throw new IllegalStateException("La línea DEBUG deshabilitada con guarda reserva " + bytesPerOp + " B/op");
+            }
+        }
+    }
+}
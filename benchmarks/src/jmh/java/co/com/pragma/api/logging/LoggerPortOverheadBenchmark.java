@@ -0,0 +1,60 @@
+package co.com.pragma.api.logging;
+
+import co.com.pragma.commonutils.LogHelperAdapter;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de una línea DEBUG deshabilitada en la ruta caliente del repositorio de usuarios:
+ * varargs con enmascarado eager (API anterior) contra la sobrecarga de aridad fija, la guarda
+ * {@code isDebugEnabled()} y la variante con {@code Supplier}. Sin configuración de log4j2 el nivel
+ * raíz es ERROR, así que todas las variantes miden el camino deshabilitado; el perfil {@code gc}
+ * muestra los bytes reservados por operación. La variante con {@code Supplier} captura {@code email}, así que
+ * reserva la lambda aunque el nivel esté deshabilitado; {@link LoggerPortAllocationCheck} exige 0 B/op a la guarda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerPortOverheadBenchmark {
+
+    private static final String MESSAGE = "Buscando usuario por email en BD: {}";
+
+    private LoggerPort logger;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        logger = new LogHelperAdapter();
+        email = "john.doe@example.com";
+    }
+
+    @Benchmark
+    public void eagerVarargs() {
+        logger.debug(MESSAGE, new Object[]{logger.maskEmail(email)});
+    }
+
+    @Benchmark
+    public void fixedArity() {
+        logger.debug(MESSAGE, logger.maskEmail(email));
+    }
+
+    @Benchmark
+    public void guarded() {
+        if (logger.isDebugEnabled()) {
+            logger.debug(MESSAGE, logger.maskEmail(email));
+        }
+    }
+
+    @Benchmark
+    public void lazySupplier() {
+        logger.debug(MESSAGE, () -> logger.maskEmail(email));
+    }
+}
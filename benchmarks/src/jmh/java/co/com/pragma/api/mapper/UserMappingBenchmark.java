@@ -0,0 +1,65 @@
+package co.com.pragma.api.mapper;
+
+import co.com.pragma.api.dto.request.UserRequestRecord;
+import co.com.pragma.api.dto.response.UserResponseRecord;
+import co.com.pragma.model.user.User;
+import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.mapper.UserDataMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos de MapStruct en el registro y la consulta de usuarios: petición → dominio → entidad al guardar,
+ * y entidad → dominio → respuesta al leer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+    private UserDTOMapper dtoMapper;
+    private UserDataMapper dataMapper;
+    private UserRequestRecord request;
+    private User user;
+    private UserEntity entity;
+
+    @Setup
+    public void setUp() {
+        dtoMapper = Mappers.getMapper(UserDTOMapper.class);
+        dataMapper = Mappers.getMapper(UserDataMapper.class);
+        request = new UserRequestRecord("John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", "1", 50000.0, "S3cure-Passw0rd!");
+        user = new User("1", "John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", 1, 50000.0, "$2a$10$hash");
+        entity = dataMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public User requestToModel() {
+        return dtoMapper.toModel(request);
+    }
+
+    @Benchmark
+    public UserResponseRecord modelToResponse() {
+        return dtoMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public UserEntity modelToEntity() {
+        return dataMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public User entityToModel() {
+        return dataMapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,47 @@
+package co.com.pragma.api.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de BCrypt en registro ({@code encode}) y login ({@code matches}) según el factor de trabajo.
+ * 10 es el valor por defecto de {@code PasswordEncoderConfig}; domina la latencia de ambas operaciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncryptorBenchmark {
+
+    private static final String RAW_PASSWORD = "S3cure-Passw0rd!";
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncryptor encryptor;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encryptor = new BCryptPasswordEncryptor(new BCryptPasswordEncoder(strength));
+        encodedPassword = encryptor.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encryptor.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encryptor.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
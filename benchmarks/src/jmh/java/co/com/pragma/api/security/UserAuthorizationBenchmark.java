@@ -0,0 +1,58 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.benchmarks.NoOpLogger;
+import co.com.pragma.model.constants.ApiConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decisión de acceso a {@code GET /api/v1/usuarios} por cada petición autenticada: ADMIN, cliente que consulta
+ * su propio email y cliente que consulta uno ajeno (la rama que registra el rechazo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAuthorizationBenchmark {
+
+    private static final String OWNER = "john.doe@example.com";
+
+    @Param({"ADMIN", "CLIENT_OWNER", "CLIENT_OTHER"})
+    public String scenario;
+
+    private UserAuthorizationLogic authorizationLogic;
+    private Mono<Authentication> authentication;
+    private AuthorizationContext context;
+
+    @Setup
+    public void setUp() {
+        authorizationLogic = new UserAuthorizationLogic(new NoOpLogger());
+        String role = scenario.equals("ADMIN") ? "ROLE_ADMIN" : "ROLE_CLIENT";
+        String requestedEmail = scenario.equals("CLIENT_OTHER") ? "jane.roe@example.com" : OWNER;
+        authentication = Mono.just(UsernamePasswordAuthenticationToken.authenticated(OWNER, null,
+                List.of(new SimpleGrantedAuthority(role))));
+        context = new AuthorizationContext(MockServerWebExchange.from(
+                MockServerHttpRequest.get(ApiConstants.USERS_ENDPOINT).queryParam("email", requestedEmail)));
+    }
+
+    @Benchmark
+    public AuthorizationDecision authorize() {
+        return authorizationLogic.authorize(authentication, context).block();
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.pragma.api.serialization;
+
+import co.com.pragma.api.config.JacksonSerializationConfig;
+import co.com.pragma.api.dto.request.UserRequestRecord;
+import co.com.pragma.api.dto.response.UserResponseRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura del cuerpo de {@code POST /api/v1/usuarios} con el mapper de {@link JacksonSerializationConfig}.
+ * La escritura de {@link UserResponseRecord} se mide en {@link JsonSerializationBenchmark}; aquí se repite
+ * solo para reportar la ida y vuelta completa en el mismo resultado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserJsonBenchmark {
+
+    private static final byte[] REQUEST_BODY = ("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"birthDate\":\"1990-05-15\","
+            + "\"email\":\"john.doe@example.com\",\"identityDocument\":\"123456789\",\"phone\":\"3001234567\","
+            + "\"roleId\":\"1\",\"baseSalary\":50000.0,\"password\":\"S3cure-Passw0rd!\"}").getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private UserResponseRecord response;
+
+    @Setup
+    public void setUp() {
+        JacksonSerializationConfig config = new JacksonSerializationConfig();
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(config.blackbirdModule())
+                .addModule(config.apiSerializationModule())
+                .build();
+        requestReader = mapper.readerFor(UserRequestRecord.class);
+        responseWriter = mapper.writerFor(UserResponseRecord.class);
+        response = new UserResponseRecord("1", "John", "Doe", LocalDate.of(1990, 5, 15),
+                "john.doe@example.com", "123456789", "3001234567", "1", 50000.0);
+    }
+
+    @Benchmark
+    public UserRequestRecord readRequest() throws IOException {
+        return requestReader.readValue(REQUEST_BODY);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
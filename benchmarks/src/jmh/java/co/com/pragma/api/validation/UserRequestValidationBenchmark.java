@@ -0,0 +1,68 @@
+package co.com.pragma.api.validation;
+
+import co.com.pragma.api.dto.request.UserRequestRecord;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara la validación declarativa de Jakarta (Hibernate Validator) contra {@link UserRequestValidator}
+ * para una petición válida y otra con varias violaciones. Ambas variantes producen el mapa campo → mensaje
+ * que termina en la respuesta de error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserRequestValidationBenchmark {
+
+    @Param({"VALID", "INVALID"})
+    public String scenario;
+
+    private ValidatorFactory factory;
+    private Validator jakartaValidator;
+    private UserRequestValidator specializedValidator;
+    private UserRequestRecord request;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        jakartaValidator = factory.getValidator();
+        specializedValidator = new UserRequestValidator(jakartaValidator);
+        request = "VALID".equals(scenario)
+                ? new UserRequestRecord("John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", "1", 50000.0, "password123")
+                : new UserRequestRecord(" ", "Doe", LocalDate.now().plusDays(1), "correo-invalido",
+                "123456789", "", "1", null, "password123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Map<String, String> jakartaValidation() {
+        return jakartaValidator.validate(request).stream()
+                .collect(Collectors.toMap(v -> v.getPropertyPath().toString(), ConstraintViolation::getMessage));
+    }
+
+    @Benchmark
+    public Map<String, String> specializedValidation() {
+        return specializedValidator.validate(request);
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.pragma.benchmarks;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+
+/**
+ * Logger vacío para que los benchmarks midan la lógica y no el appender.
+ */
+public final class NoOpLogger implements LoggerPort {
+
+    @Override
+    public void info(String message, Object... args) {
+    }
+
+    @Override
+    public void warn(String message, Object... args) {
+    }
+
+    @Override
+    public void debug(String message, Object... args) {
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+    }
+
+    @Override
+    public String maskEmail(String email) {
+        return email;
+    }
+
+    @Override
+    public String maskDocument(String documentId) {
+        return documentId;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return false;
+    }
+}
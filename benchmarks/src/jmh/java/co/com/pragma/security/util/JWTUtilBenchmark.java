@@ -0,0 +1,78 @@
+package co.com.pragma.security.util;
+
+import co.com.pragma.benchmarks.NoOpLogger;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JWTUtil} de crediya-common-security, el que usan en producción el login ({@code generateToken}),
+ * el filtro JWT de la API reactiva y el servidor gRPC ({@code validateToken} + {@code getAllClaimsFromToken}).
+ * Se obtiene de un contexto de Spring mínimo con las mismas propiedades {@code jwt.*} que la aplicación,
+ * para no depender de cómo la librería construye el bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+    private static final String EMAIL = "john.doe@example.com";
+    private static final List<String> ROLES = List.of("ADMIN");
+
+    private AnnotationConfigApplicationContext context;
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("jwt", Map.of(
+                "jwt.secret", SECRET,
+                "jwt.expiration", TimeUnit.HOURS.toMillis(1))));
+        context.registerBean(LoggerPort.class, NoOpLogger::new);
+        context.registerBean(JWTUtil.class);
+        context.refresh();
+        jwtUtil = context.getBean(JWTUtil.class);
+        token = jwtUtil.generateToken(EMAIL, ROLES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL, ROLES);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getAllClaimsFromToken() {
+        return jwtUtil.getAllClaimsFromToken(token);
+    }
+
+    // Lo que hacen el filtro JWT y TokenVerifier en cada petición autenticada: dos análisis del mismo token
+    @Benchmark
+    public Claims validateAndReadClaims() {
+        return Boolean.TRUE.equals(jwtUtil.validateToken(token)) ? jwtUtil.getAllClaimsFromToken(token) : null;
+    }
+}
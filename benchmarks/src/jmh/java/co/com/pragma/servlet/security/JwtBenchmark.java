@@ -0,0 +1,45 @@
+package co.com.pragma.servlet.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Firma y verificación con {@link JwtTokenService}, que solo usa el perfil {@code loom}. La ruta de producción
+ * (WebFlux y gRPC) se mide en {@code JWTUtilBenchmark}; este queda para comparar ambas implementaciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+    private static final List<String> ROLES = List.of("ADMIN");
+
+    private JwtTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenService(SECRET, TimeUnit.HOURS.toMillis(1));
+        token = tokenService.generateToken("john.doe@example.com", ROLES);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenService.generateToken("john.doe@example.com", ROLES);
+    }
+
+    @Benchmark
+    public Authentication verify() {
+        return tokenService.authenticate(token);
+    }
+}
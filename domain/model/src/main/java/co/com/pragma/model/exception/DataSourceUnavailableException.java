@@ -0,0 +1,15 @@
+package co.com.pragma.model.exception;
+
+/**
+ * La base de datos no respondió a tiempo, rechazó la conexión o el circuit breaker está abierto.
+ * Los puntos de entrada la traducen a 503 en lugar de 500.
+ */
+public class DataSourceUnavailableException extends RuntimeException {
+    /**
+     * @param message Operación que falló.
+     * @param cause   Error original del driver, del pool o del breaker.
+     */
+    public DataSourceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
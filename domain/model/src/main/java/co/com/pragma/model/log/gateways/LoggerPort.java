@@ -1,5 +1,7 @@
 package co.com.pragma.model.log.gateways;
 
+import java.util.function.Supplier;
+
 public interface LoggerPort {
     void info(String message, Object... args);
 
@@ -12,4 +14,72 @@ public interface LoggerPort {
     String maskEmail(String email);
 
     String maskDocument(String documentId);
+
+    /**
+     * Permite evitar el cálculo de argumentos costosos cuando el nivel DEBUG está deshabilitado.
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    default boolean isWarnEnabled() {
+        return true;
+    }
+
+    // Sobrecargas de aridad fija: las implementaciones pueden evitar reservar el arreglo de varargs
+
+    default void info(String message, Object arg) {
+        info(message, new Object[]{arg});
+    }
+
+    default void info(String message, Object arg1, Object arg2) {
+        info(message, new Object[]{arg1, arg2});
+    }
+
+    default void warn(String message, Object arg) {
+        warn(message, new Object[]{arg});
+    }
+
+    default void warn(String message, Object arg1, Object arg2) {
+        warn(message, new Object[]{arg1, arg2});
+    }
+
+    default void debug(String message, Object arg) {
+        debug(message, new Object[]{arg});
+    }
+
+    default void debug(String message, Object arg1, Object arg2) {
+        debug(message, new Object[]{arg1, arg2});
+    }
+
+    // Variantes perezosas: el Supplier solo se evalúa si el nivel está habilitado. Una lambda que captura
+    // variables se reserva igualmente; en rutas calientes usar la guarda isXxxEnabled() en el llamador
+
+    default void info(String message, Supplier<?> argSupplier) {
+        if (isInfoEnabled()) {
+            info(message, argSupplier.get());
+        }
+    }
+
+    default void info(String message, Supplier<?> argSupplier1, Supplier<?> argSupplier2) {
+        if (isInfoEnabled()) {
+            info(message, argSupplier1.get(), argSupplier2.get());
+        }
+    }
+
+    default void debug(String message, Supplier<?> argSupplier) {
+        if (isDebugEnabled()) {
+            debug(message, argSupplier.get());
+        }
+    }
+
+    default void debug(String message, Supplier<?> argSupplier1, Supplier<?> argSupplier2) {
+        if (isDebugEnabled()) {
+            debug(message, argSupplier1.get(), argSupplier2.get());
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package co.com.pragma.model.metrics;
+
+/**
+ * Nombres de operación, fase y resultado usados por {@link co.com.pragma.model.metrics.gateways.OperationMetricsPort}.
+ * Las fases coinciden con las entradas de la cabecera {@code Server-Timing}.
+ */
+public final class OperationMetrics {
+
+    public static final String OPERATION_LOGIN = "login";
+    public static final String OPERATION_SAVE_USER = "save_user";
+    public static final String OPERATION_GET_USER = "get_user";
+
+    public static final String PHASE_VALIDATE = "validate";
+    public static final String PHASE_DB = "db";
+    public static final String PHASE_HASH = "hash";
+    public static final String PHASE_ROLES = "roles";
+    public static final String PHASE_SIGN = "sign";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_EMPTY = "empty";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_BAD_CREDENTIALS = "bad_credentials";
+    public static final String OUTCOME_UNKNOWN_USER = "unknown_user";
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    private OperationMetrics() {
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.model.metrics.gateways;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Instrumentación por fases de las operaciones críticas (login, registro de usuario).
+ * Los nombres de operación, fase y resultado están en {@link co.com.pragma.model.metrics.OperationMetrics}.
+ */
+public interface OperationMetricsPort {
+
+    /**
+     * Mide la duración de una fase desde la suscripción hasta su finalización, etiquetando el resultado
+     * como éxito, vacío o error.
+     */
+    <T> Mono<T> timePhase(String operation, String phase, Mono<T> source);
+
+    /**
+     * Contabiliza el resultado final de una operación (p. ej. {@code bad_credentials}).
+     */
+    void recordOutcome(String operation, String outcome);
+}
@@ -0,0 +1,25 @@
+package co.com.pragma.model.migration;
+
+import java.time.Duration;
+
+/**
+ * Avance de una migración masiva de usuarios después de confirmar un lote.
+ *
+ * @param migrationId  Identificador de la migración (clave del checkpoint).
+ * @param resumedFrom  Fila desde la que se reanudó la migración.
+ * @param loadedRows   Filas cargadas en esta ejecución.
+ * @param checkpoint   Última fila confirmada (resumedFrom + loadedRows).
+ * @param elapsed      Tiempo transcurrido en esta ejecución.
+ */
+public record MigrationProgress(
+        String migrationId,
+        long resumedFrom,
+        long loadedRows,
+        long checkpoint,
+        Duration elapsed
+) {
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return 0 == nanos ? 0.0 : loadedRows * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.pragma.model.user;
+
+import java.time.LocalDate;
+
+/**
+ * Datos de consulta de un usuario, sin la contraseña. Es lo único que puede servirse desde la
+ * copia obsoleta cuando la base de datos no está disponible.
+ */
+public record UserProfile(
+        String id,
+        String firstName,
+        String lastName,
+        LocalDate birthDate,
+        String email,
+        String identityDocument,
+        String phone,
+        Integer roleId,
+        Double baseSalary
+) {
+}
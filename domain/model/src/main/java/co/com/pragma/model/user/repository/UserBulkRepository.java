@@ -0,0 +1,26 @@
+package co.com.pragma.model.user.repository;
+
+import co.com.pragma.model.user.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carga masiva de usuarios con checkpoint reanudable.
+ */
+public interface UserBulkRepository {
+    /**
+     * @param migrationId Identificador de la migración.
+     * @return Última fila confirmada, o vacío si la migración nunca ha confirmado un lote.
+     */
+    Mono<Long> findCheckpoint(String migrationId);
+
+    /**
+     * Carga un lote de usuarios y registra el checkpoint en la misma transacción.
+     *
+     * @param migrationId Identificador de la migración.
+     * @param users       Usuarios del lote; la contraseña ya debe venir cifrada.
+     * @param checkpoint  Fila que queda confirmada si el lote se carga.
+     * @return Número de filas cargadas.
+     */
+    Mono<Long> copyBatch(String migrationId, Flux<User> users, long checkpoint);
+}
@@ -1,6 +1,7 @@
 package co.com.pragma.model.user.repository;
 
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -9,7 +10,17 @@ public interface UserRepository {
 
     Mono<Boolean> existByEmail(String email);
 
+    Mono<Boolean> existByIdentityDocument(String identityDocument);
+
+    /**
+     * Lectura completa, incluida la contraseña; siempre consulta la base de datos. Es la que usa la autenticación.
+     */
     Mono<User> getUserByEmail(String email);
 
+    /**
+     * Lectura de solo consulta, sin la contraseña. Con la base de datos caída puede servir la última copia conocida.
+     */
+    Mono<UserProfile> getUserProfileByEmail(String email);
+
     Flux<User> getUserByEmailOrIdentityDocument(String email, String identityDocument);
 }
@@ -0,0 +1,51 @@
+package co.com.pragma.usecase.migration;
+
+import co.com.pragma.model.migration.MigrationProgress;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.repository.UserBulkRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserMigrationUseCase {
+
+    private final UserBulkRepository userBulkRepository;
+
+    public UserMigrationUseCase(UserBulkRepository userBulkRepository) {
+        this.userBulkRepository = userBulkRepository;
+    }
+
+    /**
+     * Migra los usuarios en lotes, reanudando desde el último checkpoint confirmado.
+     * Los lotes se cargan uno a la vez, de modo que la fuente solo se lee al ritmo de la base de datos.
+     *
+     * @param migrationId Identificador de la migración.
+     * @param users       Usuarios en el mismo orden en cada ejecución.
+     * @param batchSize   Filas por lote.
+     * @return Un {@link MigrationProgress} por cada lote confirmado.
+     */
+    public Flux<MigrationProgress> migrate(String migrationId, Flux<User> users, int batchSize) {
+        if (0 >= batchSize) {
+            return Flux.error(new IllegalArgumentException("El tamaño de lote debe ser mayor que cero."));
+        }
+        return userBulkRepository.findCheckpoint(migrationId)
+                .defaultIfEmpty(0L)
+                .flatMapMany(resumedFrom -> {
+                    long start = System.nanoTime();
+                    AtomicLong loaded = new AtomicLong();
+                    return users.skip(resumedFrom)
+                            .buffer(batchSize)
+                            .concatMap(batch -> {
+                                long checkpoint = resumedFrom + loaded.get() + batch.size();
+                                return userBulkRepository.copyBatch(migrationId, Flux.fromIterable(batch), checkpoint)
+                                        .map(copied -> new MigrationProgress(
+                                                migrationId,
+                                                resumedFrom,
+                                                loaded.addAndGet(copied),
+                                                checkpoint,
+                                                Duration.ofNanos(System.nanoTime() - start)));
+                            });
+                });
+    }
+}
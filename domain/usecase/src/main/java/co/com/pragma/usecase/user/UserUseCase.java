@@ -1,48 +1,74 @@
 package co.com.pragma.usecase.user;
 
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.security.PasswordEncryptor;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.model.user.repository.UserRepository;
 import co.com.pragma.usecase.validation.UserValidator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static co.com.pragma.model.metrics.OperationMetrics.OPERATION_GET_USER;
+import static co.com.pragma.model.metrics.OperationMetrics.OPERATION_SAVE_USER;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_ERROR;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_REJECTED;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_SUCCESS;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_DB;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_HASH;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_VALIDATE;
+
 public class UserUseCase {
 
     private final UserRepository userRepository;
     private final UserValidator userValidator;
     private final PasswordEncryptor passwordEncryptor;
+    private final OperationMetricsPort operationMetrics;
 
-    public UserUseCase(UserRepository userRepository, UserValidator userValidator, PasswordEncryptor passwordEncryptor) {
+    public UserUseCase(UserRepository userRepository, UserValidator userValidator, PasswordEncryptor passwordEncryptor,
+                       OperationMetricsPort operationMetrics) {
         this.userRepository = userRepository;
         this.userValidator = userValidator;
         this.passwordEncryptor = passwordEncryptor;
+        this.operationMetrics = operationMetrics;
     }
 
     public Mono<User> saveUser(User user) {
-        return userValidator.validateUser(user)
-                .map(userToSave -> {
-                    String encodedPassword = passwordEncryptor.encode(userToSave.password());
-                    return new User(
-                            null, //UUID.randomUUID().toString(),
-                            userToSave.firstName(),
-                            userToSave.lastName(),
-                            userToSave.birthDate(),
-                            userToSave.email(),
-                            userToSave.identityDocument(),
-                            userToSave.phone(),
-                            userToSave.roleId(),
-                            userToSave.baseSalary(),
-                            encodedPassword
-                    );
-                })
-                .flatMap(userRepository::saveUser);
+        return operationMetrics.timePhase(OPERATION_SAVE_USER, PHASE_VALIDATE, userValidator.validateUser(user))
+                .flatMap(userToSave -> operationMetrics.timePhase(OPERATION_SAVE_USER, PHASE_HASH,
+                        Mono.fromCallable(() -> withEncodedPassword(userToSave))))
+                .flatMap(userToSave -> operationMetrics.timePhase(OPERATION_SAVE_USER, PHASE_DB, userRepository.saveUser(userToSave)))
+                .doOnNext(savedUser -> operationMetrics.recordOutcome(OPERATION_SAVE_USER, OUTCOME_SUCCESS))
+                .doOnError(error -> operationMetrics.recordOutcome(OPERATION_SAVE_USER,
+                        error instanceof BusinessException ? OUTCOME_REJECTED : OUTCOME_ERROR));
+    }
+
+    private User withEncodedPassword(User userToSave) {
+        String encodedPassword = passwordEncryptor.encode(userToSave.password());
+        return new User(
+                null, //UUID.randomUUID().toString(),
+                userToSave.firstName(),
+                userToSave.lastName(),
+                userToSave.birthDate(),
+                userToSave.email(),
+                userToSave.identityDocument(),
+                userToSave.phone(),
+                userToSave.roleId(),
+                userToSave.baseSalary(),
+                encodedPassword
+        );
     }
 
     public Mono<User> getUserByEmail(String email) {
         return userRepository.getUserByEmail(email);
     }
 
+    public Mono<UserProfile> getUserProfileByEmail(String email) {
+        // Fase db de GET /usuarios en Server-Timing
+        return operationMetrics.timePhase(OPERATION_GET_USER, PHASE_DB, userRepository.getUserProfileByEmail(email));
+    }
+
     public Flux<User> getUserByEmailOrIdentityDocument(String email, String identityDocument) {
         return userRepository.getUserByEmailOrIdentityDocument(email, identityDocument);
     }
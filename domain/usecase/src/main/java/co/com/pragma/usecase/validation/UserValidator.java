@@ -7,6 +7,7 @@ import co.com.pragma.model.user.repository.UserRepository;
 import reactor.core.publisher.Mono;
 
 import static co.com.pragma.usecase.validation.ValidationConstants.EMAIL_ALREADY_EXISTS_MESSAGE;
+import static co.com.pragma.usecase.validation.ValidationConstants.IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE;
 import static co.com.pragma.usecase.validation.ValidationConstants.MAX_BASE_SALARY;
 import static co.com.pragma.usecase.validation.ValidationConstants.MIN_BASE_SALARY;
 import static co.com.pragma.usecase.validation.ValidationConstants.ROLE_NOT_FOUND_MESSAGE;
@@ -26,7 +27,8 @@ public class UserValidator {
         return Mono.when(
                         validateSalaryRange(user),
                         validateRoleExistence(user),
-                        validateEmailUniqueness(user)
+                        validateEmailUniqueness(user),
+                        validateIdentityDocumentUniqueness(user)
                 )
                 .then(Mono.just(user));
     }
@@ -54,4 +56,12 @@ public class UserValidator {
                 .switchIfEmpty(Mono.error(new BusinessException(String.format(EMAIL_ALREADY_EXISTS_MESSAGE, user.email()))))
                 .then(); // Convierte el Mono<Boolean> a Mono<Void>.
     }
+
+    // El índice único ux_usuario_documento_identidad rechazaría el INSERT; se valida antes para responder 409 y no 500
+    private Mono<Void> validateIdentityDocumentUniqueness(User user) {
+        return userRepository.existByIdentityDocument(user.identityDocument())
+                .filter(exists -> !exists)
+                .switchIfEmpty(Mono.error(new BusinessException(String.format(IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE, user.identityDocument()))))
+                .then();
+    }
 }
\ No newline at end of file
@@ -9,4 +9,5 @@ public enum ValidationConstants {
     public static final String SALARY_OUT_OF_RANGE_MESSAGE = "El salario base debe estar entre 0 y 15,000,000.";
     public static final String ROLE_NOT_FOUND_MESSAGE = "El rol con ID '%d' no existe.";
     public static final String EMAIL_ALREADY_EXISTS_MESSAGE = "El correo electrónico '%s' ya se encuentra registrado.";
+    public static final String IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE = "El documento de identidad '%s' ya se encuentra registrado.";
 }
\ No newline at end of file
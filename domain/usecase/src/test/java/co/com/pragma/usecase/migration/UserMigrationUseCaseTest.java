@@ -0,0 +1,99 @@
+package co.com.pragma.usecase.migration;
+
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.repository.UserBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserMigrationUseCaseTest {
+
+    private static final String MIGRATION_ID = "legacy";
+
+    @Mock
+    private UserBulkRepository userBulkRepository;
+
+    private UserMigrationUseCase userMigrationUseCase;
+    private final List<List<String>> copiedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userMigrationUseCase = new UserMigrationUseCase(userBulkRepository);
+    }
+
+    @Test
+    void shouldLoadUsersInBatchesAndAdvanceCheckpoint() {
+        when(userBulkRepository.findCheckpoint(MIGRATION_ID)).thenReturn(Mono.empty());
+        stubCopy();
+
+        StepVerifier.create(userMigrationUseCase.migrate(MIGRATION_ID, users(5), 2))
+                .assertNext(progress -> assertEquals(2, progress.checkpoint()))
+                .assertNext(progress -> assertEquals(4, progress.checkpoint()))
+                .assertNext(progress -> {
+                    assertEquals(5, progress.checkpoint());
+                    assertEquals(5, progress.loadedRows());
+                    assertEquals(0, progress.resumedFrom());
+                })
+                .verifyComplete();
+
+        assertEquals(List.of(List.of("u0", "u1"), List.of("u2", "u3"), List.of("u4")), copiedBatches);
+    }
+
+    @Test
+    void shouldResumeFromLastCheckpoint() {
+        when(userBulkRepository.findCheckpoint(MIGRATION_ID)).thenReturn(Mono.just(3L));
+        stubCopy();
+
+        StepVerifier.create(userMigrationUseCase.migrate(MIGRATION_ID, users(5), 10))
+                .assertNext(progress -> {
+                    assertEquals(3, progress.resumedFrom());
+                    assertEquals(2, progress.loadedRows());
+                    assertEquals(5, progress.checkpoint());
+                })
+                .verifyComplete();
+
+        assertEquals(List.of(List.of("u3", "u4")), copiedBatches);
+    }
+
+    @Test
+    void shouldRejectNonPositiveBatchSize() {
+        StepVerifier.create(userMigrationUseCase.migrate(MIGRATION_ID, users(1), 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(userBulkRepository, never()).copyBatch(any(), any(), anyLong());
+    }
+
+    private void stubCopy() {
+        when(userBulkRepository.copyBatch(eq(MIGRATION_ID), any(), anyLong())).thenAnswer(invocation -> {
+            Flux<User> batch = invocation.getArgument(1);
+            return batch.map(User::email).collectList()
+                    .doOnNext(copiedBatches::add)
+                    .map(emails -> (long) emails.size());
+        });
+    }
+
+    private static Flux<User> users(int count) {
+        return Flux.fromStream(IntStream.range(0, count).mapToObj(i -> new User(null, "Name", "Last",
+                LocalDate.of(1990, 1, 1), "u" + i, String.valueOf(i), "300", 1, 1000.0, "hash")));
+    }
+}
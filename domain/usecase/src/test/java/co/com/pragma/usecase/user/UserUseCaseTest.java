@@ -1,8 +1,11 @@
 package co.com.pragma.usecase.user;
 
 import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.metrics.OperationMetrics;
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.security.PasswordEncryptor;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.model.user.repository.UserRepository;
 import co.com.pragma.usecase.validation.UserValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,9 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +45,9 @@ class UserUseCaseTest {
     @Mock
     private PasswordEncryptor passwordEncryptor;
 
+    @Mock
+    private OperationMetricsPort operationMetrics;
+
 
     @InjectMocks
     private UserUseCase userUseCase;
@@ -99,6 +108,9 @@ class UserUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // Las fases se ejecutan tal cual; solo interesa el resultado registrado
+        lenient().when(operationMetrics.timePhase(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
         user = new User(
                 null, // ID debe ser null para inserción
                 "John",
@@ -147,6 +159,7 @@ class UserUseCaseTest {
 
         verify(userValidator).validateUser(user);
         verify(userRepository).saveUser(userCaptor.capture());
+        verify(operationMetrics).recordOutcome(OperationMetrics.OPERATION_SAVE_USER, OperationMetrics.OUTCOME_SUCCESS);
 
         // Verificar que el usuario enviado al repositorio tiene ID null (para INSERT)
         User capturedUser = userCaptor.getValue();
@@ -169,6 +182,8 @@ class UserUseCaseTest {
                 .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
                         throwable.getMessage().equals(errorMessage))
                 .verify();
+
+        verify(operationMetrics).recordOutcome(OperationMetrics.OPERATION_SAVE_USER, OperationMetrics.OUTCOME_REJECTED);
     }
 
     @ParameterizedTest
@@ -249,4 +264,18 @@ class UserUseCaseTest {
         User capturedUser = userCaptor.getValue();
         assertEquals("hashed_secure_password", capturedUser.password());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserProfileByEmailShouldUseTheReadOnlyLookup() {
+        // Arrange
+        UserProfile profile = new UserProfile("1", "John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", 1, 50000.0);
+        when(userRepository.getUserProfileByEmail("john.doe@example.com")).thenReturn(Mono.just(profile));
+
+        // Act & Assert
+        StepVerifier.create(userUseCase.getUserProfileByEmail("john.doe@example.com"))
+                .expectNext(profile)
+                .verifyComplete();
+        verify(operationMetrics).timePhase(eq(OperationMetrics.OPERATION_GET_USER), eq(OperationMetrics.PHASE_DB), any());
+    }
+}
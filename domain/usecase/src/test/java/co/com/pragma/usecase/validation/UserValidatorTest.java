@@ -18,6 +18,7 @@ import reactor.test.StepVerifier;
 import java.time.LocalDate;
 
 import static co.com.pragma.usecase.validation.ValidationConstants.EMAIL_ALREADY_EXISTS_MESSAGE;
+import static co.com.pragma.usecase.validation.ValidationConstants.IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE;
 import static co.com.pragma.usecase.validation.ValidationConstants.MAX_BASE_SALARY;
 import static co.com.pragma.usecase.validation.ValidationConstants.MIN_BASE_SALARY;
 import static co.com.pragma.usecase.validation.ValidationConstants.ROLE_NOT_FOUND_MESSAGE;
@@ -61,6 +62,7 @@ class UserValidatorTest {
     void validateUserShouldSucceedWhenAllValidationsPass() {
         // Arrange
         when(userRepository.existByEmail(user.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(user.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(user.roleId())).thenReturn(Mono.just(true));
 
         // Act
@@ -82,6 +84,7 @@ class UserValidatorTest {
 
         // Stub other parallel validations to ensure they don't fail with NPE
         when(userRepository.existByEmail(userWithInvalidSalary.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(userWithInvalidSalary.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(userWithInvalidSalary.roleId())).thenReturn(Mono.just(true));
 
         // Act
@@ -98,6 +101,7 @@ class UserValidatorTest {
     void validateUserShouldFailWhenRoleDoesNotExist() {
         // Arrange
         when(userRepository.existByEmail(user.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(user.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(user.roleId())).thenReturn(Mono.just(false)); // Role does not exist
 
         // Act
@@ -114,6 +118,7 @@ class UserValidatorTest {
     void validateUserShouldFailWhenEmailAlreadyExists() {
         // Arrange
         when(userRepository.existByEmail(user.email())).thenReturn(Mono.just(true)); // Email exists
+        when(userRepository.existByIdentityDocument(user.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(user.roleId())).thenReturn(Mono.just(true));
 
         // Act
@@ -126,6 +131,23 @@ class UserValidatorTest {
                 .verify();
     }
 
+    @Test
+    void validateUserShouldFailWhenIdentityDocumentAlreadyExists() {
+        // Arrange
+        when(userRepository.existByEmail(user.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(user.identityDocument())).thenReturn(Mono.just(true)); // Document exists
+        when(roleRepository.existsById(user.roleId())).thenReturn(Mono.just(true));
+
+        // Act
+        Mono<User> result = userValidator.validateUser(user);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof BusinessException &&
+                        throwable.getMessage().equals(String.format(IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE, user.identityDocument())))
+                .verify();
+    }
+
     @Test
     void validateUserShouldSucceedWhenRoleIdIsNull() {
         // Arrange
@@ -134,6 +156,7 @@ class UserValidatorTest {
                 "555555555", "3205555555", null, 100000.0, ""
         );
         when(userRepository.existByEmail(userWithNullRole.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(userWithNullRole.identityDocument())).thenReturn(Mono.just(false));
 
         // Act
         Mono<User> result = userValidator.validateUser(userWithNullRole);
@@ -157,6 +180,7 @@ class UserValidatorTest {
 
         // Stub other parallel validations to ensure they don't fail with NPE
         when(userRepository.existByEmail(userWithNegativeSalary.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(userWithNegativeSalary.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(userWithNegativeSalary.roleId())).thenReturn(Mono.just(true));
 
         // Act
@@ -175,6 +199,7 @@ class UserValidatorTest {
         // Arrange
         User userWithBoundarySalary = new User(null, "Boundary", "Test", LocalDate.now(), "boundary@example.com", "444555666", "3154445555", 1, boundarySalary, "");
         when(userRepository.existByEmail(userWithBoundarySalary.email())).thenReturn(Mono.just(false));
+        when(userRepository.existByIdentityDocument(userWithBoundarySalary.identityDocument())).thenReturn(Mono.just(false));
         when(roleRepository.existsById(userWithBoundarySalary.roleId())).thenReturn(Mono.just(true));
 
         // Act
@@ -44,4 +44,10 @@ class ValidationConstantsTest {
         String expectedMessage = "El correo electrónico '%s' ya se encuentra registrado.";
         assertEquals(expectedMessage, ValidationConstants.EMAIL_ALREADY_EXISTS_MESSAGE);
     }
+
+    @Test
+    void shouldHaveIdentityDocumentAlreadyExistsMessage() {
+        String expectedMessage = "El documento de identidad '%s' ya se encuentra registrado.";
+        assertEquals(expectedMessage, ValidationConstants.IDENTITY_DOCUMENT_ALREADY_EXISTS_MESSAGE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package co.com.pragma.jdbc.mapper;
+
+import co.com.pragma.model.user.UserProfile;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mapea una fila de {@code usuario} a {@link UserProfile}. No selecciona ni lee la columna {@code password}.
+ */
+public class UserProfileRowMapper implements RowMapper<UserProfile> {
+
+    public static final String COLUMNS = "id_usuario, nombre, apellido, fecha_nacimiento, correo_electronico, "
+            + "documento_identidad, telefono, id_rol, salario_base";
+
+    @Override
+    public UserProfile mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Date birthDate = rs.getDate("fecha_nacimiento");
+        return new UserProfile(
+                rs.getString("id_usuario"),
+                rs.getString("nombre"),
+                rs.getString("apellido"),
+                null == birthDate ? null : birthDate.toLocalDate(),
+                rs.getString("correo_electronico"),
+                rs.getString("documento_identidad"),
+                rs.getString("telefono"),
+                rs.getObject("id_rol", Integer.class),
+                rs.getObject("salario_base", Double.class)
+        );
+    }
+}
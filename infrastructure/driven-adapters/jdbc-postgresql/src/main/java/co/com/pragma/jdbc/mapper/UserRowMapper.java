@@ -0,0 +1,35 @@
+package co.com.pragma.jdbc.mapper;
+
+import co.com.pragma.model.user.User;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mapea una fila de {@code usuario} al modelo de dominio. Las columnas son las mismas que
+ * {@code UserEntity} del adaptador R2DBC.
+ */
+public class UserRowMapper implements RowMapper<User> {
+
+    public static final String COLUMNS = "id_usuario, nombre, apellido, fecha_nacimiento, correo_electronico, "
+            + "documento_identidad, telefono, id_rol, salario_base, password";
+
+    @Override
+    public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Date birthDate = rs.getDate("fecha_nacimiento");
+        return new User(
+                rs.getString("id_usuario"),
+                rs.getString("nombre"),
+                rs.getString("apellido"),
+                null == birthDate ? null : birthDate.toLocalDate(),
+                rs.getString("correo_electronico"),
+                rs.getString("documento_identidad"),
+                rs.getString("telefono"),
+                rs.getObject("id_rol", Integer.class),
+                rs.getObject("salario_base", Double.class),
+                rs.getString("password")
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.pragma.jdbc.repository;
+
+import co.com.pragma.model.role.repository.RoleRepository;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación bloqueante de {@link RoleRepository} para el perfil {@code loom}.
+ */
+@Repository
+public class RoleJdbcRepositoryAdapter implements RoleRepository {
+
+    static final String EXISTS_BY_ID = "SELECT EXISTS (SELECT 1 FROM rol WHERE unique_id = :id)";
+
+    private final JdbcClient jdbcClient;
+
+    public RoleJdbcRepositoryAdapter(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Integer id) {
+        return Mono.fromCallable(() -> jdbcClient.sql(EXISTS_BY_ID)
+                .param("id", id)
+                .query(Boolean.class)
+                .single());
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.pragma.jdbc.repository;
+
+import co.com.pragma.jdbc.mapper.UserProfileRowMapper;
+import co.com.pragma.jdbc.mapper.UserRowMapper;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
+import co.com.pragma.model.user.repository.UserRepository;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación bloqueante de {@link UserRepository} para el perfil {@code loom}.
+ * Cada llamada JDBC se ejecuta en el hilo que se suscribe, que en ese perfil es el hilo virtual de la petición:
+ * no hay cambio de scheduler y el bloqueo solo desmonta el hilo virtual de su portador.
+ */
+@Repository
+public class UserJdbcRepositoryAdapter implements UserRepository {
+
+    private static final UserRowMapper USER_ROW_MAPPER = new UserRowMapper();
+    private static final UserProfileRowMapper USER_PROFILE_ROW_MAPPER = new UserProfileRowMapper();
+
+    static final String INSERT_USER = """
+            INSERT INTO usuario (nombre, apellido, fecha_nacimiento, correo_electronico, documento_identidad,
+                                 telefono, id_rol, salario_base, password)
+            VALUES (:firstName, :lastName, :birthDate, :email, :identityDocument, :phone, :roleId, :baseSalary, :password)
+            RETURNING id_usuario""";
+    static final String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM usuario WHERE correo_electronico = :email)";
+    static final String EXISTS_BY_IDENTITY_DOCUMENT = "SELECT EXISTS (SELECT 1 FROM usuario WHERE documento_identidad = :identityDocument)";
+    static final String FIND_BY_EMAIL = "SELECT " + UserRowMapper.COLUMNS + " FROM usuario WHERE correo_electronico = :email";
+    static final String FIND_PROFILE_BY_EMAIL = "SELECT " + UserProfileRowMapper.COLUMNS + " FROM usuario WHERE correo_electronico = :email";
+    static final String FIND_BY_EMAIL_OR_IDENTITY_DOCUMENT = "SELECT " + UserRowMapper.COLUMNS
+            + " FROM usuario WHERE correo_electronico = :email OR documento_identidad = :identityDocument";
+
+    private final JdbcClient jdbcClient;
+    private final LoggerPort logger;
+
+    public UserJdbcRepositoryAdapter(JdbcClient jdbcClient, LoggerPort logger) {
+        this.jdbcClient = jdbcClient;
+        this.logger = logger;
+    }
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return Mono.fromCallable(() -> {
+            if (logger.isInfoEnabled()) {
+                logger.info("Guardando usuario en la base de datos con email: {}", logger.maskEmail(user.email()));
+            }
+            String id = jdbcClient.sql(INSERT_USER)
+                    .param("firstName", user.firstName())
+                    .param("lastName", user.lastName())
+                    .param("birthDate", user.birthDate())
+                    .param("email", user.email())
+                    .param("identityDocument", user.identityDocument())
+                    .param("phone", user.phone())
+                    .param("roleId", user.roleId())
+                    .param("baseSalary", user.baseSalary())
+                    .param("password", user.password())
+                    .query(String.class)
+                    .single();
+            logger.info("Usuario guardado exitosamente en BD con ID: {}", id);
+            return new User(id, user.firstName(), user.lastName(), user.birthDate(), user.email(), user.identityDocument(),
+                    user.phone(), user.roleId(), user.baseSalary(), user.password());
+        });
+    }
+
+    @Override
+    public Mono<Boolean> existByEmail(String email) {
+        return Mono.fromCallable(() -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Verificando existencia de email en BD: {}", logger.maskEmail(email));
+            }
+            return jdbcClient.sql(EXISTS_BY_EMAIL)
+                    .param("email", email)
+                    .query(Boolean.class)
+                    .single();
+        });
+    }
+
+    @Override
+    public Mono<Boolean> existByIdentityDocument(String identityDocument) {
+        return Mono.fromCallable(() -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Verificando existencia de documento de identidad en BD: {}", logger.maskDocument(identityDocument));
+            }
+            return jdbcClient.sql(EXISTS_BY_IDENTITY_DOCUMENT)
+                    .param("identityDocument", identityDocument)
+                    .query(Boolean.class)
+                    .single();
+        });
+    }
+
+    @Override
+    public Mono<User> getUserByEmail(String email) {
+        return Mono.fromCallable(() -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Buscando usuario por email en BD: {}", logger.maskEmail(email));
+            }
+            return jdbcClient.sql(FIND_BY_EMAIL)
+                    .param("email", email)
+                    .query(USER_ROW_MAPPER)
+                    .optional()
+                    .orElse(null);
+        });
+    }
+
+    @Override
+    public Mono<UserProfile> getUserProfileByEmail(String email) {
+        return Mono.fromCallable(() -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Buscando perfil de usuario por email en BD: {}", logger.maskEmail(email));
+            }
+            return jdbcClient.sql(FIND_PROFILE_BY_EMAIL)
+                    .param("email", email)
+                    .query(USER_PROFILE_ROW_MAPPER)
+                    .optional()
+                    .orElse(null);
+        });
+    }
+
+    @Override
+    public Flux<User> getUserByEmailOrIdentityDocument(String email, String identityDocument) {
+        return Mono.fromCallable(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Buscando usuario por email o documento de identidad en BD: {} - {}", logger.maskEmail(email), identityDocument);
+                    }
+                    return jdbcClient.sql(FIND_BY_EMAIL_OR_IDENTITY_DOCUMENT)
+                            .param("email", email)
+                            .param("identityDocument", identityDocument)
+                            .query(USER_ROW_MAPPER)
+                            .list();
+                })
+                .flatMapIterable(users -> users);
+    }
+}
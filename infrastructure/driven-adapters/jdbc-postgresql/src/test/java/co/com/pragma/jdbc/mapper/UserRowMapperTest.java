@@ -0,0 +1,60 @@
+package co.com.pragma.jdbc.mapper;
+
+import co.com.pragma.model.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserRowMapperTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final UserRowMapper mapper = new UserRowMapper();
+
+    @Test
+    void shouldMapAllColumns() throws SQLException {
+        // Arrange
+        when(resultSet.getString("id_usuario")).thenReturn("id-1");
+        when(resultSet.getString("nombre")).thenReturn("Ana");
+        when(resultSet.getString("apellido")).thenReturn("Pérez");
+        when(resultSet.getDate("fecha_nacimiento")).thenReturn(Date.valueOf(LocalDate.of(1990, 5, 20)));
+        when(resultSet.getString("correo_electronico")).thenReturn("ana@example.com");
+        when(resultSet.getString("documento_identidad")).thenReturn("123");
+        when(resultSet.getString("telefono")).thenReturn("3000000000");
+        when(resultSet.getObject("id_rol", Integer.class)).thenReturn(3);
+        when(resultSet.getObject("salario_base", Double.class)).thenReturn(2500000.0);
+        when(resultSet.getString("password")).thenReturn("hash");
+
+        // Act
+        User user = mapper.mapRow(resultSet, 0);
+
+        // Assert
+        assertEquals(new User("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", 3, 2500000.0, "hash"), user);
+    }
+
+    @Test
+    void shouldKeepNullableColumnsAsNull() throws SQLException {
+        // Arrange
+        when(resultSet.getDate("fecha_nacimiento")).thenReturn(null);
+
+        // Act
+        User user = mapper.mapRow(resultSet, 0);
+
+        // Assert
+        assertNull(user.birthDate());
+        assertNull(user.roleId());
+    }
+}
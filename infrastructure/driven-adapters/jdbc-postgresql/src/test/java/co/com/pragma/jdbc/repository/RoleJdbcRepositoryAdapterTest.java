@@ -0,0 +1,30 @@
+package co.com.pragma.jdbc.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleJdbcRepositoryAdapterTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private JdbcClient jdbcClient;
+
+    @Test
+    void shouldCheckRoleExistence() {
+        // Arrange
+        when(jdbcClient.sql(RoleJdbcRepositoryAdapter.EXISTS_BY_ID).param("id", 3).query(Boolean.class).single())
+                .thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(new RoleJdbcRepositoryAdapter(jdbcClient).existsById(3))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,129 @@
+package co.com.pragma.jdbc.repository;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserJdbcRepositoryAdapterTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private JdbcClient jdbcClient;
+    @Mock
+    private LoggerPort logger;
+
+    private UserJdbcRepositoryAdapter adapter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserJdbcRepositoryAdapter(jdbcClient, logger);
+        user = new User("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", 3, 2500000.0, "hash");
+    }
+
+    @Test
+    void shouldNotTouchDatabaseUntilSubscribed() {
+        // Act
+        adapter.getUserByEmail("ana@example.com");
+        adapter.existByEmail("ana@example.com");
+        adapter.existByIdentityDocument("123");
+
+        // Assert
+        verifyNoInteractions(jdbcClient);
+    }
+
+    @Test
+    void shouldFindUserByEmail() {
+        // Arrange
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.FIND_BY_EMAIL).param("email", "ana@example.com")
+                .query(any(RowMapper.class)).optional()).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getUserByEmail("ana@example.com"))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCompleteEmptyWhenUserDoesNotExist() {
+        // Arrange
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.FIND_BY_EMAIL).param("email", "nadie@example.com")
+                .query(any(RowMapper.class)).optional()).thenReturn(Optional.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.getUserByEmail("nadie@example.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindUserProfileWithoutSelectingPassword() {
+        // Arrange
+        UserProfile profile = new UserProfile("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", 3, 2500000.0);
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.FIND_PROFILE_BY_EMAIL).param("email", "ana@example.com")
+                .query(any(RowMapper.class)).optional()).thenReturn(Optional.of(profile));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getUserProfileByEmail("ana@example.com"))
+                .expectNext(profile)
+                .verifyComplete();
+        assertFalse(UserJdbcRepositoryAdapter.FIND_PROFILE_BY_EMAIL.contains("password"));
+    }
+
+    @Test
+    void shouldEmitEveryMatchingUser() {
+        // Arrange
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.FIND_BY_EMAIL_OR_IDENTITY_DOCUMENT)
+                .param("email", "ana@example.com")
+                .param("identityDocument", "123")
+                .query(any(RowMapper.class)).list()).thenReturn(List.of(user, user));
+
+        // Act & Assert
+        StepVerifier.create(adapter.getUserByEmailOrIdentityDocument("ana@example.com", "123"))
+                .expectNext(user, user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCheckEmailExistence() {
+        // Arrange
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.EXISTS_BY_EMAIL).param("email", "ana@example.com")
+                .query(Boolean.class).single()).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(adapter.existByEmail("ana@example.com"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCheckIdentityDocumentExistence() {
+        // Arrange
+        when(jdbcClient.sql(UserJdbcRepositoryAdapter.EXISTS_BY_IDENTITY_DOCUMENT).param("identityDocument", "123")
+                .query(Boolean.class).single()).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(adapter.existByIdentityDocument("123"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,97 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.proxy.PartitionedConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parte el pool de conexiones por bulkhead ({@code security.bulkheads.groups.<nombre>.pool-size}) para que
+ * una ráfaga de logins no agote las conexiones de las consultas de usuarios. Cada partición es un pool
+ * propio sobre el mismo {@link ConnectionFactory} subyacente; el pool de Spring Boot queda como partición
+ * compartida para el tráfico sin bulkhead.
+ * <p>
+ * Se ejecuta antes que {@link R2dbcProxyConfig}, de modo que el proxy de métricas envuelve a todas las particiones.
+ * Las particiones no son beans: las libera el {@link PartitionedConnectionFactory} junto con el pool compartido
+ * cuando Spring invoca el {@code destroyMethod = "dispose"} que Spring Boot declara sobre el pool.
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolPartitionProperties.class)
+@ConditionalOnProperty(prefix = "security.bulkheads", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolPartitionConfig {
+
+    @Bean
+    public static ConnectionPoolPartitioner connectionPoolPartitioner(ObjectProvider<ConnectionPoolPartitionProperties> partitions,
+                                                                      ObjectProvider<R2dbcProperties> r2dbcProperties) {
+        return new ConnectionPoolPartitioner(partitions, r2dbcProperties);
+    }
+
+    static class ConnectionPoolPartitioner implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ConnectionPoolPartitionProperties> partitions;
+        private final ObjectProvider<R2dbcProperties> r2dbcProperties;
+
+        ConnectionPoolPartitioner(ObjectProvider<ConnectionPoolPartitionProperties> partitions,
+                                  ObjectProvider<R2dbcProperties> r2dbcProperties) {
+            this.partitions = partitions;
+            this.r2dbcProperties = r2dbcProperties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof ConnectionPool sharedPool)) {
+                return bean;
+            }
+            R2dbcProperties.Pool poolSettings = r2dbcProperties.getObject().getPool();
+            Map<Object, Object> targets = new HashMap<>();
+            partitions.getObject().getGroups().forEach((name, partition) -> {
+                if (partition.getPoolSize() > 0) {
+                    targets.put(name, new ConnectionPool(partitionConfiguration(sharedPool.unwrap(), name,
+                            partition.getPoolSize(), poolSettings)));
+                }
+            });
+            if (targets.isEmpty()) {
+                return bean;
+            }
+            PartitionedConnectionFactory partitioned = new PartitionedConnectionFactory();
+            partitioned.setTargetConnectionFactories(targets);
+            partitioned.setDefaultTargetConnectionFactory(sharedPool);
+            partitioned.afterPropertiesSet();
+            return partitioned;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        static ConnectionPoolConfiguration partitionConfiguration(ConnectionFactory connectionFactory, String name,
+                                                                  int poolSize, R2dbcProperties.Pool settings) {
+            ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                    .name("r2dbc-" + name)
+                    .initialSize(Math.min(poolSize, settings.getInitialSize()))
+                    .maxSize(poolSize);
+            // Mismos tiempos que el pool compartido
+            PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+            map.from(settings.getMaxIdleTime()).to(builder::maxIdleTime);
+            map.from(settings.getMaxLifeTime()).to(builder::maxLifeTime);
+            map.from(settings.getMaxAcquireTime()).to(builder::maxAcquireTime);
+            map.from(settings.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+            map.from(settings.getValidationQuery()).to(builder::validationQuery);
+            map.from(settings.getValidationDepth()).to(builder::validationDepth);
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Vista del adaptador sobre {@code security.bulkheads}: solo el tamaño de la partición del pool
+ * de cada bulkhead. El presupuesto de concurrencia lo lee el entry point.
+ */
+@ConfigurationProperties(prefix = "security.bulkheads")
+public class ConnectionPoolPartitionProperties {
+
+    private boolean enabled = true;
+    private Map<String, Partition> groups = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Partition> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<String, Partition> groups) {
+        this.groups = groups;
+    }
+
+    public static class Partition {
+        private int poolSize;
+
+        /**
+         * Conexiones reservadas para el bulkhead; 0 comparte el pool de {@code spring.r2dbc.pool}.
+         */
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+@Configuration
+public class R2dbcExecutionConfig {
+
+    @Bean
+    public QueryExecutionTemplate queryExecutionTemplate(ReactiveTransactionManager transactionManager) {
+        DefaultTransactionDefinition readOnlyDefinition = new DefaultTransactionDefinition();
+        readOnlyDefinition.setReadOnly(true); // El driver de PostgreSQL lo traduce a BEGIN READ ONLY
+        return new QueryExecutionTemplate(
+                TransactionalOperator.create(transactionManager),
+                TransactionalOperator.create(transactionManager, readOnlyDefinition)
+        );
+    }
+}
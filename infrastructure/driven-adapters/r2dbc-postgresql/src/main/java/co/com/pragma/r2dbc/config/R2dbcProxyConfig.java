@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.r2dbc.proxy.ConnectionOwnerRegistry;
+import co.com.pragma.r2dbc.proxy.DisposableConnectionFactory;
+import co.com.pragma.r2dbc.proxy.RequestAwareConnectionFactory;
+import co.com.pragma.r2dbc.proxy.StatementMetricsListener;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Envuelve el {@link ConnectionFactory} del pool con r2dbc-proxy para medir cada sentencia.
+ * El proxy queda por fuera del pool, de modo que la adquisición de la conexión ocurre dentro
+ * de la cadena reactiva de la petición y puede asociarse a su contador.
+ * <p>
+ * El proxy de r2dbc-proxy es un proxy JDK sin {@code dispose()}; se expone dentro de un
+ * {@link DisposableConnectionFactory} para que el {@code destroyMethod = "dispose"} del pool de Spring Boot
+ * siga encontrando el método y libere el pool al cerrar el contexto.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementMetricsProperties.class)
+@ConditionalOnProperty(prefix = "r2dbc.statements", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class R2dbcProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor statementMetricsConnectionFactoryPostProcessor(ObjectProvider<LoggerPort> logger,
+                                                                                  ObjectProvider<StatementMetricsProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof ConnectionFactory connectionFactory)) {
+                    return bean;
+                }
+                ConnectionOwnerRegistry registry = new ConnectionOwnerRegistry();
+                StatementMetricsListener listener = new StatementMetricsListener(
+                        logger.getObject(), registry, properties.getObject().getSlowThreshold());
+                ConnectionFactory proxy = ProxyConnectionFactory.builder(new RequestAwareConnectionFactory(connectionFactory, registry))
+                        .listener(listener)
+                        .build();
+                return new DisposableConnectionFactory(proxy, connectionFactory);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.r2dbc.helper.RepositoryResilience;
+import co.com.pragma.r2dbc.helper.StaleUserCache;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@Configuration
+@EnableConfigurationProperties(RepositoryResilienceProperties.class)
+public class RepositoryResilienceConfig {
+
+    static final String CIRCUIT_BREAKER_NAME = "userRepository";
+
+    @Bean
+    public CircuitBreakerRegistry repositoryCircuitBreakerRegistry(RepositoryResilienceProperties properties, MeterRegistry meterRegistry) {
+        RepositoryResilienceProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                // Un correo o documento duplicado es un error del cliente, no de la base de datos
+                .ignoreExceptions(DataIntegrityViolationException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        // Estado, llamadas y llamadas rechazadas (not_permitted) por breaker
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RepositoryResilience repositoryResilience(CircuitBreakerRegistry repositoryCircuitBreakerRegistry,
+                                                     RepositoryResilienceProperties properties,
+                                                     MeterRegistry meterRegistry,
+                                                     LoggerPort logger) {
+        CircuitBreaker circuitBreaker = repositoryCircuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            meterRegistry.counter("resilience4j.circuitbreaker.transitions",
+                    "name", event.getCircuitBreakerName(),
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+            logger.warn("Circuit breaker {}: {}", event.getCircuitBreakerName(), event.getStateTransition());
+        });
+        return new RepositoryResilience(circuitBreaker, properties.getDefaultTimeout(), properties.getTimeouts());
+    }
+
+    @Bean
+    public StaleUserCache staleUserCache(RepositoryResilienceProperties properties, LoggerPort logger, MeterRegistry meterRegistry) {
+        return new StaleUserCache(properties.getStaleCache().getMaximumSize(), properties.getStaleCache().getMaximumAge(), logger, meterRegistry);
+    }
+}
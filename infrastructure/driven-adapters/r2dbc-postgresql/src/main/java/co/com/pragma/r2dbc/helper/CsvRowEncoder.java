@@ -0,0 +1,42 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.User;
+
+/**
+ * Codifica usuarios como filas CSV para {@code COPY ... WITH (FORMAT csv)}.
+ * Un valor nulo se escribe como campo vacío sin comillas, que PostgreSQL interpreta como NULL.
+ */
+public final class CsvRowEncoder {
+
+    private CsvRowEncoder() {
+    }
+
+    public static String encode(User user) {
+        StringBuilder row = new StringBuilder(128);
+        append(row, user.firstName()).append(',');
+        append(row, user.lastName()).append(',');
+        append(row, null != user.birthDate() ? user.birthDate().toString() : null).append(',');
+        append(row, user.email()).append(',');
+        append(row, user.identityDocument()).append(',');
+        append(row, user.phone()).append(',');
+        append(row, null != user.roleId() ? user.roleId().toString() : null).append(',');
+        append(row, null != user.baseSalary() ? user.baseSalary().toString() : null).append(',');
+        append(row, user.password());
+        return row.append('\n').toString();
+    }
+
+    private static StringBuilder append(StringBuilder row, String value) {
+        if (null == value) {
+            return row;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ('"' == c) {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+}
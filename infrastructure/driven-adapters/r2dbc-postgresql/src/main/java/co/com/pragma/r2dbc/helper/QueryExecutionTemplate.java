@@ -0,0 +1,49 @@
+package co.com.pragma.r2dbc.helper;
+
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Define de forma explícita el modo de ejecución de las consultas de los adaptadores R2DBC.
+ * <ul>
+ *     <li>{@code autocommit}: sentencias de lectura únicas, sin BEGIN/COMMIT alrededor.</li>
+ *     <li>{@code readOnly}: lecturas de varias sentencias que necesitan una vista consistente
+ *     ({@code BEGIN READ ONLY} en PostgreSQL).</li>
+ *     <li>{@code write}: escrituras, siempre dentro de una transacción de lectura/escritura.</li>
+ * </ul>
+ */
+public class QueryExecutionTemplate {
+
+    private final TransactionalOperator writeOperator;
+    private final TransactionalOperator readOnlyOperator;
+
+    public QueryExecutionTemplate(TransactionalOperator writeOperator, TransactionalOperator readOnlyOperator) {
+        this.writeOperator = writeOperator;
+        this.readOnlyOperator = readOnlyOperator;
+    }
+
+    public <T> Mono<T> autocommit(Mono<T> statement) {
+        return statement;
+    }
+
+    public <T> Flux<T> autocommit(Flux<T> statement) {
+        return statement;
+    }
+
+    public <T> Mono<T> readOnly(Mono<T> statements) {
+        return readOnlyOperator.transactional(statements);
+    }
+
+    public <T> Flux<T> readOnly(Flux<T> statements) {
+        return readOnlyOperator.transactional(statements);
+    }
+
+    public <T> Mono<T> write(Mono<T> statements) {
+        return writeOperator.transactional(statements);
+    }
+
+    public <T> Flux<T> write(Flux<T> statements) {
+        return writeOperator.transactional(statements);
+    }
+}
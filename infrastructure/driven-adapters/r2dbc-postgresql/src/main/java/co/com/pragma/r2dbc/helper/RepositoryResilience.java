@@ -0,0 +1,71 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Aplica a cada operación del adaptador un plazo máximo y el circuit breaker de la base de datos.
+ * El plazo cubre la adquisición de la conexión y la ejecución, y se evalúa dentro del breaker para que
+ * los timeouts cuenten como fallos; con el breaker abierto las llamadas fallan de inmediato con
+ * {@link CallNotPermittedException}. Los errores de disponibilidad (plazo, breaker, pool o conexión) salen
+ * como {@link DataSourceUnavailableException}; el resto se propaga sin cambios.
+ */
+public class RepositoryResilience {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> timeouts;
+
+    public RepositoryResilience(CircuitBreaker circuitBreaker, Duration defaultTimeout, Map<String, Duration> timeouts) {
+        this.circuitBreaker = circuitBreaker;
+        this.defaultTimeout = defaultTimeout;
+        this.timeouts = Map.copyOf(timeouts);
+    }
+
+    public <T> Mono<T> protect(String operation, Mono<T> call) {
+        return call.timeout(timeoutFor(operation))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RepositoryResilience::isUnavailable, error -> new DataSourceUnavailableException(operation, error));
+    }
+
+    public <T> Flux<T> protect(String operation, Flux<T> call) {
+        return call.timeout(timeoutFor(operation))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RepositoryResilience::isUnavailable, error -> new DataSourceUnavailableException(operation, error));
+    }
+
+    Duration timeoutFor(String operation) {
+        return timeouts.getOrDefault(operation, defaultTimeout);
+    }
+
+    // El driver y Spring envuelven los errores de conexión: se revisa toda la cadena de causas
+    static boolean isUnavailable(Throwable error) {
+        for (Throwable current = error; null != current; current = current.getCause()) {
+            if (current instanceof TimeoutException
+                    || current instanceof CallNotPermittedException
+                    || current instanceof R2dbcTransientResourceException
+                    || current instanceof R2dbcNonTransientResourceException
+                    || current instanceof R2dbcTimeoutException
+                    || current instanceof DataAccessResourceFailureException
+                    || current instanceof TransientDataAccessResourceException
+                    || current instanceof QueryTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.commonutils.StaleResponseMarker;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.UserProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Copia de las últimas consultas de perfil por email, usada solo cuando la base de datos no está disponible.
+ * Guarda {@link UserProfile}, nunca la contraseña: la autenticación no pasa por aquí y falla cerrada.
+ * Cada lectura exitosa refresca la entrada; en modo degradado la respuesta se marca como obsoleta
+ * en el {@link StaleResponseMarker} de la petición.
+ */
+public class StaleUserCache {
+
+    private final Cache<String, UserProfile> profiles;
+    private final LoggerPort logger;
+    private final Counter staleServed;
+
+    public StaleUserCache(long maximumSize, Duration maximumAge, LoggerPort logger, MeterRegistry meterRegistry) {
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maximumAge)
+                .build();
+        this.logger = logger;
+        this.staleServed = Counter.builder("r2dbc.user.cache.stale.served")
+                .description("Usuarios servidos desde caché con la base de datos no disponible")
+                .register(meterRegistry);
+    }
+
+    public void put(String email, UserProfile profile) {
+        profiles.put(email, profile);
+    }
+
+    public Mono<UserProfile> fallback(String email, Throwable error) {
+        UserProfile cached = profiles.getIfPresent(email);
+        if (null == cached) {
+            return Mono.error(error);
+        }
+        return Mono.deferContextual(context -> {
+            context.<StaleResponseMarker>getOrEmpty(StaleResponseMarker.CONTEXT_KEY).ifPresent(StaleResponseMarker::markStale);
+            staleServed.increment();
+            Throwable cause = null != error.getCause() ? error.getCause() : error;
+            logger.warn("Base de datos no disponible ({}). Sirviendo usuario {} desde caché.", cause.getClass().getSimpleName(), logger.maskEmail(email));
+            return Mono.just(cached);
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package co.com.pragma.r2dbc.interfaces;
 
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.r2dbc.entity.UserEntity;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -10,7 +11,12 @@ import reactor.core.publisher.Mono;
 public interface UserReactiveRepository extends ReactiveCrudRepository<UserEntity, String>, ReactiveQueryByExampleExecutor<UserEntity> {
     Mono<Boolean> existsByEmail(String email);
 
+    Mono<Boolean> existsByIdentityDocument(String identityDocument);
+
     Mono<User> findByEmail(String email);
 
+    // Proyección DTO: la consulta no selecciona la columna password
+    Mono<UserProfile> findProfileByEmail(String email);
+
     Flux<User> findByEmailOrIdentityDocument(String email, String identityDocument);
 }
@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import io.r2dbc.spi.Connection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Relaciona cada conexión adquirida del pool con el contador de la petición que la adquirió.
+ * El pool entrega un objeto de conexión nuevo en cada adquisición, por lo que las entradas
+ * se liberan solas cuando la conexión deja de estar referenciada.
+ */
+public class ConnectionOwnerRegistry {
+
+    private final Map<Connection, RequestStatementCounter> owners = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public void register(Connection connection, RequestStatementCounter counter) {
+        owners.put(connection, counter);
+    }
+
+    public void count(Connection connection, int statements) {
+        RequestStatementCounter counter = owners.get(connection);
+        if (null != counter) {
+            counter.add(statements);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package co.com.pragma.r2dbc.proxy;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+
+/**
+ * Expone un {@link ConnectionFactory} que decora a un bean de Spring Boot (p. ej. el proxy de métricas sobre el pool)
+ * conservando su ciclo de vida: Boot declara el pool con {@code destroyMethod = "dispose"}, y Spring busca ese método
+ * en el objeto que queda expuesto como bean, no en el original. {@link #dispose()} libera el recurso original.
+ */
+public class DisposableConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private final ConnectionFactory delegate;
+    private final ConnectionFactory resource;
+    private volatile boolean disposed;
+
+    /**
+     * @param delegate Factory que atiende {@link #create()}.
+     * @param resource Bean original cuyo ciclo de vida se conserva; se libera si es {@link Disposable}.
+     */
+    public DisposableConnectionFactory(ConnectionFactory delegate, ConnectionFactory resource) {
+        this.delegate = delegate;
+        this.resource = resource;
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return delegate.create();
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        if (resource instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return resource instanceof Disposable disposable ? disposable.isDisposed() : disposed;
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestBulkhead;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elige la partición del pool según el {@link RequestBulkhead} del {@code Context} de Reactor.
+ * Las peticiones sin bulkhead (migraciones, verificación de esquema, actuator) o con un bulkhead
+ * sin partición propia usan el pool compartido.
+ * <p>
+ * Sustituye al bean del pool de Spring Boot, así que es dueño de su ciclo de vida: {@link #dispose()}
+ * libera las particiones y el pool compartido.
+ */
+public class PartitionedConnectionFactory extends AbstractRoutingConnectionFactory implements Disposable {
+
+    private final List<Disposable> partitionPools = new ArrayList<>();
+    private Disposable sharedPool;
+    private volatile boolean disposed;
+
+    @Override
+    public void setTargetConnectionFactories(Map<?, ?> targetConnectionFactories) {
+        super.setTargetConnectionFactories(targetConnectionFactories);
+        partitionPools.clear();
+        targetConnectionFactories.values().stream()
+                .filter(Disposable.class::isInstance)
+                .map(Disposable.class::cast)
+                .forEach(partitionPools::add);
+    }
+
+    @Override
+    public void setDefaultTargetConnectionFactory(Object defaultTargetConnectionFactory) {
+        super.setDefaultTargetConnectionFactory(defaultTargetConnectionFactory);
+        sharedPool = defaultTargetConnectionFactory instanceof Disposable disposable ? disposable : null;
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(
+                context.<RequestBulkhead>getOrEmpty(RequestBulkhead.CONTEXT_KEY).map(RequestBulkhead::name)));
+    }
+
+    /**
+     * Pools que se liberan con {@link #dispose()}: las particiones y, al final, el compartido.
+     */
+    public List<Disposable> getPools() {
+        List<Disposable> pools = new ArrayList<>(partitionPools);
+        if (sharedPool != null) {
+            pools.add(sharedPool);
+        }
+        return List.copyOf(pools);
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        getPools().forEach(Disposable::dispose);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lee el {@link RequestStatementCounter} del {@code Context} de Reactor al adquirir una conexión,
+ * que es el último punto donde el contexto de la petición está disponible, y lo registra para la conexión.
+ */
+public class RequestAwareConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+    private final ConnectionFactory delegate;
+    private final ConnectionOwnerRegistry registry;
+
+    public RequestAwareConnectionFactory(ConnectionFactory delegate, ConnectionOwnerRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> Mono.from(delegate.create())
+                .doOnNext(connection -> context.<RequestStatementCounter>getOrEmpty(RequestStatementCounter.CONTEXT_KEY)
+                        .ifPresent(counter -> registry.register(connection, counter))));
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+}
@@ -0,0 +1,81 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.ConnectionInfo;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Cronometra cada sentencia ejecutada por R2DBC: registra en el log las que superan el umbral,
+ * con los emails enlazados enmascarados y solo el tipo del resto de valores, y suma las sentencias al contador de la petición dueña
+ * de la conexión. BEGIN/COMMIT/ROLLBACK también cuentan, ya que cada uno es un viaje a la base de datos.
+ */
+public class StatementMetricsListener implements ProxyExecutionListener {
+
+    private static final Set<String> TRANSACTION_METHODS = Set.of("beginTransaction", "commitTransaction", "rollbackTransaction");
+
+    private final LoggerPort logger;
+    private final ConnectionOwnerRegistry registry;
+    private final Duration slowThreshold;
+
+    public StatementMetricsListener(LoggerPort logger, ConnectionOwnerRegistry registry, Duration slowThreshold) {
+        this.logger = logger;
+        this.registry = registry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionInfo executionInfo) {
+        ConnectionInfo connectionInfo = executionInfo.getConnectionInfo();
+        if (null != connectionInfo && TRANSACTION_METHODS.contains(executionInfo.getMethod().getName())) {
+            registry.count(connectionInfo.getOriginalConnection(), 1);
+        }
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo executionInfo) {
+        registry.count(executionInfo.getConnectionInfo().getOriginalConnection(), executionInfo.getQueries().size());
+        Duration duration = executionInfo.getExecuteDuration();
+        if (0 <= duration.compareTo(slowThreshold)) {
+            for (QueryInfo query : executionInfo.getQueries()) {
+                logger.warn("Sentencia lenta ({} ms, éxito: {}): {} | parámetros: {}",
+                        duration.toMillis(), executionInfo.isSuccess(), query.getQuery(), maskedBindings(query));
+            }
+        }
+    }
+
+    private String maskedBindings(QueryInfo query) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Bindings bindings : query.getBindingsList()) {
+            for (Binding binding : bindings.getIndexBindings()) {
+                joiner.add(binding.getKey() + "=" + mask(binding.getBoundValue()));
+            }
+            for (Binding binding : bindings.getNamedBindings()) {
+                joiner.add(binding.getKey() + "=" + mask(binding.getBoundValue()));
+            }
+        }
+        return joiner.toString();
+    }
+
+    // Los parámetros de estas consultas son datos personales o secretos (hash BCrypt, salario): solo el email
+    // se registra, enmascarado; del resto basta el tipo, ya que un enmascarado parcial deja fragmentos del valor.
+    private String mask(BoundValue boundValue) {
+        if (boundValue.isNull()) {
+            return "null";
+        }
+        Object value = boundValue.getValue();
+        if (value instanceof String text && text.indexOf('@') > 0) {
+            return logger.maskEmail(text);
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+}
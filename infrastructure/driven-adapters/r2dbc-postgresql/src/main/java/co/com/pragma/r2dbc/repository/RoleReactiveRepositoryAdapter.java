@@ -1,10 +1,10 @@
 package co.com.pragma.r2dbc.repository;
 
 import co.com.pragma.model.role.repository.RoleRepository;
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
 import co.com.pragma.r2dbc.interfaces.RoleReactiveRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 @Repository
@@ -12,10 +12,11 @@ import reactor.core.publisher.Mono;
 public class RoleReactiveRepositoryAdapter implements RoleRepository {
 
     private final RoleReactiveRepository repository;
-    private final TransactionalOperator transactionalOperator;
+    private final QueryExecutionTemplate executionTemplate;
 
     @Override
     public Mono<Boolean> existsById(Integer id) {
-        return repository.existsById(id).as(transactionalOperator::transactional);
+        // Un único SELECT: no necesita BEGIN/COMMIT
+        return executionTemplate.autocommit(repository.existsById(id));
     }
-}
\ No newline at end of file
+}
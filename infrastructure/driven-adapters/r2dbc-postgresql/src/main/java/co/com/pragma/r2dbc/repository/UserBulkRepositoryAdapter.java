@@ -0,0 +1,90 @@
+package co.com.pragma.r2dbc.repository;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.repository.UserBulkRepository;
+import co.com.pragma.r2dbc.helper.CsvRowEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Carga masiva de usuarios con {@code COPY ... FROM STDIN}: una sola sentencia por lote en lugar
+ * de un INSERT por fila. El lote y su checkpoint se confirman en la misma transacción.
+ */
+@Repository
+public class UserBulkRepositoryAdapter implements UserBulkRepository {
+
+    static final String COPY_USERS_SQL = "COPY usuario (nombre, apellido, fecha_nacimiento, correo_electronico, "
+            + "documento_identidad, telefono, id_rol, salario_base, password) FROM STDIN WITH (FORMAT csv)";
+    static final String SELECT_CHECKPOINT_SQL = "SELECT ultima_fila FROM migracion_checkpoint WHERE id_migracion = :migrationId";
+    static final String UPSERT_CHECKPOINT_SQL = "INSERT INTO migracion_checkpoint (id_migracion, ultima_fila, actualizado) "
+            + "VALUES ($1, $2, now()) ON CONFLICT (id_migracion) "
+            + "DO UPDATE SET ultima_fila = EXCLUDED.ultima_fila, actualizado = EXCLUDED.actualizado";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final LoggerPort logger;
+
+    public UserBulkRepositoryAdapter(ConnectionFactory connectionFactory, DatabaseClient databaseClient, LoggerPort logger) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = databaseClient;
+        this.logger = logger;
+    }
+
+    @Override
+    public Mono<Long> findCheckpoint(String migrationId) {
+        return databaseClient.sql(SELECT_CHECKPOINT_SQL)
+                .bind("migrationId", migrationId)
+                .map(row -> row.get("ultima_fila", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> copyBatch(String migrationId, Flux<User> users, long checkpoint) {
+        return Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> copyInTransaction(unwrap(connection), migrationId, users, checkpoint),
+                Connection::close,
+                (connection, error) -> Mono.from(connection.rollbackTransaction())
+                        .onErrorResume(rollbackError -> Mono.empty())
+                        .then(Mono.from(connection.close())),
+                Connection::close
+        );
+    }
+
+    private Mono<Long> copyInTransaction(PostgresqlConnection connection, String migrationId, Flux<User> users, long checkpoint) {
+        Flux<ByteBuf> rows = users.map(user -> Unpooled.wrappedBuffer(CsvRowEncoder.encode(user).getBytes(StandardCharsets.UTF_8)));
+        return connection.beginTransaction()
+                .then(connection.copyIn(COPY_USERS_SQL, rows))
+                .flatMap(copied -> connection.createStatement(UPSERT_CHECKPOINT_SQL)
+                        .bind("$1", migrationId)
+                        .bind("$2", checkpoint)
+                        .execute()
+                        .flatMap(result -> result.getRowsUpdated())
+                        .then(connection.commitTransaction())
+                        .thenReturn(copied))
+                .doOnSuccess(copied -> logger.debug("Lote COPY confirmado para la migración {}: {} filas, checkpoint {}", migrationId, copied, checkpoint))
+                .doOnError(error -> logger.error("Error cargando lote COPY de la migración", error));
+    }
+
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object candidate = connection;
+        while (!(candidate instanceof PostgresqlConnection) && candidate instanceof Wrapped<?> wrapped) {
+            candidate = wrapped.unwrap();
+        }
+        if (candidate instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+        throw new IllegalStateException("La carga masiva con COPY requiere una conexión de r2dbc-postgresql.");
+    }
+}
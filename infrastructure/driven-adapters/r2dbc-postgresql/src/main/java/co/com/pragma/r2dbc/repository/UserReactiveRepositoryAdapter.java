@@ -1,15 +1,19 @@
 package co.com.pragma.r2dbc.repository;
 
 import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.model.user.repository.UserRepository;
 import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.helper.RepositoryResilience;
+import co.com.pragma.r2dbc.helper.StaleUserCache;
 import co.com.pragma.r2dbc.interfaces.UserReactiveRepository;
 import co.com.pragma.r2dbc.mapper.UserDataMapper;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -21,44 +25,89 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         UserReactiveRepository
         > implements UserRepository {
 
+    // Nombres de operación, usados como clave de r2dbc.resilience.timeouts
+    static final String SAVE_USER = "saveUser";
+    static final String EXIST_BY_EMAIL = "existByEmail";
+    static final String EXIST_BY_IDENTITY_DOCUMENT = "existByIdentityDocument";
+    static final String GET_USER_BY_EMAIL = "getUserByEmail";
+    static final String GET_USER_PROFILE_BY_EMAIL = "getUserProfileByEmail";
+    static final String GET_USER_BY_EMAIL_OR_IDENTITY_DOCUMENT = "getUserByEmailOrIdentityDocument";
+
     private final LoggerPort logger;
-    private final TransactionalOperator transactionalOperator;
+    private final QueryExecutionTemplate executionTemplate;
     private final UserDataMapper userDataMapper;
+    private final RepositoryResilience resilience;
+    private final StaleUserCache staleUserCache;
 
-    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper, LoggerPort logger, TransactionalOperator transactional, UserDataMapper userDataMapper) {
+    public UserReactiveRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper, LoggerPort logger, QueryExecutionTemplate executionTemplate, UserDataMapper userDataMapper,
+                                         RepositoryResilience resilience, StaleUserCache staleUserCache) {
         super(logger, repository, mapper, userDataMapper::toDomain);
         this.logger = logger;
-        this.transactionalOperator = transactional;
+        this.executionTemplate = executionTemplate;
         this.userDataMapper = userDataMapper;
+        this.resilience = resilience;
+        this.staleUserCache = staleUserCache;
     }
 
     @Override
     public Mono<User> saveUser(User user) {
         UserEntity userEntity = userDataMapper.toEntity(user);
         return repository.save(userEntity)
-                .doOnSubscribe(subscription -> logger.info("Guardando usuario en la base de datos con email: {}", logger.maskEmail(user.email())))
+                .doOnSubscribe(subscription -> {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Guardando usuario en la base de datos con email: {}", logger.maskEmail(user.email()));
+                    }
+                })
                 .map(userDataMapper::toDomain) // Map the saved entity back to the domain model
                 .doOnSuccess(savedUser -> logger.info("Usuario guardado exitosamente en BD con ID: {}", savedUser.id()))
                 // Añadimos un log específico para el caso de error durante el guardado
                 .doOnError(error -> logger.error("Error al guardar el usuario", error))
-                .as(transactionalOperator::transactional);
+                .as(executionTemplate::write)
+                .as(call -> resilience.protect(SAVE_USER, call));
     }
 
     @Override
     public Mono<Boolean> existByEmail(String email) {
-        logger.debug("Verificando existencia de email en BD: {}", logger.maskEmail(email));
-        return repository.existsByEmail(email);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Verificando existencia de email en BD: {}", logger.maskEmail(email));
+        }
+        return resilience.protect(EXIST_BY_EMAIL, executionTemplate.autocommit(repository.existsByEmail(email)));
+    }
+
+    @Override
+    public Mono<Boolean> existByIdentityDocument(String identityDocument) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Verificando existencia de documento de identidad en BD: {}", logger.maskDocument(identityDocument));
+        }
+        return resilience.protect(EXIST_BY_IDENTITY_DOCUMENT, executionTemplate.autocommit(repository.existsByIdentityDocument(identityDocument)));
     }
 
     @Override
     public Mono<User> getUserByEmail(String email) {
-        logger.debug("Buscando usuario por email en BD: {}", logger.maskEmail(email));
-        return repository.findByEmail(email);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buscando usuario por email en BD: {}", logger.maskEmail(email));
+        }
+        // Sin modo degradado: la autenticación no puede validar contra una contraseña o un estado obsoletos
+        return resilience.protect(GET_USER_BY_EMAIL, executionTemplate.autocommit(repository.findByEmail(email)));
+    }
+
+    @Override
+    public Mono<UserProfile> getUserProfileByEmail(String email) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buscando perfil de usuario por email en BD: {}", logger.maskEmail(email));
+        }
+        return resilience.protect(GET_USER_PROFILE_BY_EMAIL, executionTemplate.autocommit(repository.findProfileByEmail(email)))
+                .doOnNext(profile -> staleUserCache.put(email, profile))
+                // Modo degradado: si la base de datos no está disponible se usa la última consulta conocida
+                .onErrorResume(DataSourceUnavailableException.class, error -> staleUserCache.fallback(email, error));
     }
 
     public Flux<User> getUserByEmailOrIdentityDocument(String email, String identityDocument) {
-        logger.debug("Buscando usuario por email o documento de identidad en BD: {} - {}", logger.maskEmail(email), identityDocument);
-        return repository.findByEmailOrIdentityDocument(email, identityDocument);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buscando usuario por email o documento de identidad en BD: {} - {}", logger.maskEmail(email), identityDocument);
+        }
+        return resilience.protect(GET_USER_BY_EMAIL_OR_IDENTITY_DOCUMENT,
+                executionTemplate.autocommit(repository.findByEmailOrIdentityDocument(email, identityDocument)));
     }
 
 }
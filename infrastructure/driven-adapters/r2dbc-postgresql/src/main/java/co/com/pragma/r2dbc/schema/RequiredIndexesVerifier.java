@@ -0,0 +1,65 @@
+package co.com.pragma.r2dbc.schema;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Verifica al arrancar que existan los índices de los que dependen las consultas de los adaptadores.
+ * Si falta alguno el arranque falla, en lugar de degradar cada búsqueda a un escaneo secuencial.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // Antes de cualquier otro runner que use la base de datos
+@ConditionalOnProperty(prefix = "schema.verification", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequiredIndexesVerifier implements ApplicationRunner {
+
+    static final Set<String> REQUIRED_INDEXES = Set.of(
+            "rol_pkey",
+            "usuario_pkey",
+            "ux_usuario_correo_electronico",
+            "ux_usuario_documento_identidad",
+            "ix_usuario_id_rol"
+    );
+    static final String SELECT_INDEXES_SQL = "SELECT indexname FROM pg_indexes "
+            + "WHERE schemaname = current_schema() AND tablename IN ('rol', 'usuario')";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final DatabaseClient databaseClient;
+    private final LoggerPort logger;
+
+    public RequiredIndexesVerifier(DatabaseClient databaseClient, LoggerPort logger) {
+        this.databaseClient = databaseClient;
+        this.logger = logger;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> present = databaseClient.sql(SELECT_INDEXES_SQL)
+                .map(row -> row.get("indexname", String.class))
+                .all()
+                .collectList()
+                .block(TIMEOUT);
+        Set<String> missing = missingIndexes(null != present ? present : List.of());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Faltan índices requeridos en la base de datos: " + missing);
+        }
+        logger.info("Índices requeridos verificados: {}", REQUIRED_INDEXES.size());
+    }
+
+    static Set<String> missingIndexes(Collection<String> present) {
+        Set<String> missing = new TreeSet<>(REQUIRED_INDEXES);
+        missing.removeAll(present);
+        return missing;
+    }
+}
@@ -0,0 +1,38 @@
+-- Tablas base del microservicio de autenticación.
+-- Idempotente: algunas instancias ya tienen estas tablas creadas fuera de control de versiones.
+
+CREATE TABLE IF NOT EXISTS rol
+(
+    unique_id   INTEGER      NOT NULL,
+    nombre      VARCHAR(50)  NOT NULL,
+    descripcion VARCHAR(255),
+    CONSTRAINT rol_pkey PRIMARY KEY (unique_id)
+);
+
+CREATE TABLE IF NOT EXISTS usuario
+(
+    id_usuario          VARCHAR(36)    NOT NULL DEFAULT gen_random_uuid()::text,
+    nombre              VARCHAR(100)   NOT NULL,
+    apellido            VARCHAR(100)   NOT NULL,
+    fecha_nacimiento    DATE,
+    correo_electronico  VARCHAR(255)   NOT NULL,
+    documento_identidad VARCHAR(50)    NOT NULL,
+    telefono            VARCHAR(30),
+    id_rol              INTEGER,
+    salario_base        NUMERIC(15, 2) NOT NULL,
+    password            VARCHAR(255)   NOT NULL,
+    CONSTRAINT usuario_pkey PRIMARY KEY (id_usuario)
+);
+
+DO
+$$
+    BEGIN
+        IF NOT EXISTS (SELECT 1
+                       FROM pg_constraint
+                       WHERE conname = 'fk_usuario_rol'
+                         AND connamespace = current_schema()::regnamespace) THEN
+            ALTER TABLE usuario
+                ADD CONSTRAINT fk_usuario_rol FOREIGN KEY (id_rol) REFERENCES rol (unique_id);
+        END IF;
+    END
+$$;
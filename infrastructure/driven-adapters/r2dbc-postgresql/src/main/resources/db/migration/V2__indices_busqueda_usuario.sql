@@ -0,0 +1,10 @@
+-- Un índice por cada ruta de búsqueda de UserReactiveRepository:
+--   existsByEmail / findByEmail         -> correo_electronico
+--   findByEmailOrIdentityDocument       -> correo_electronico OR documento_identidad (BitmapOr de ambos índices)
+--   validación de FK al borrar un rol   -> id_rol
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_correo_electronico ON usuario (correo_electronico);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_documento_identidad ON usuario (documento_identidad);
+
+CREATE INDEX IF NOT EXISTS ix_usuario_id_rol ON usuario (id_rol);
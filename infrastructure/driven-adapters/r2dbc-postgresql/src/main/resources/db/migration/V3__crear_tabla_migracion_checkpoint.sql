@@ -0,0 +1,9 @@
+-- Checkpoint reanudable de UserBulkRepositoryAdapter (carga masiva con COPY).
+
+CREATE TABLE IF NOT EXISTS migracion_checkpoint
+(
+    id_migracion VARCHAR(100) NOT NULL,
+    ultima_fila  BIGINT       NOT NULL,
+    actualizado  TIMESTAMP    NOT NULL DEFAULT now(),
+    CONSTRAINT migracion_checkpoint_pkey PRIMARY KEY (id_migracion)
+);
@@ -1,11 +1,20 @@
 package co.com.pragma.r2dbc;
 
+import co.com.pragma.commonutils.StaleResponseMarker;
 import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
+import co.com.pragma.r2dbc.helper.RepositoryResilience;
+import co.com.pragma.r2dbc.helper.StaleUserCache;
 import co.com.pragma.r2dbc.interfaces.UserReactiveRepository;
 import co.com.pragma.r2dbc.mapper.UserDataMapper;
 import co.com.pragma.r2dbc.repository.UserReactiveRepositoryAdapter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,8 +27,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -45,12 +57,16 @@ class UserReactiveRepositoryAdapterTest {
     LoggerPort logger;
 
     private User user;
+    private UserProfile profile;
     private UserEntity userEntity;
 
     @BeforeEach
     void setUp() {
         // Inicializar repositoryAdapter manualmente, pasando todos los mocks
-        repositoryAdapter = new UserReactiveRepositoryAdapter(repository, mapper, logger, transactionalOperator, userDataMapper);
+        repositoryAdapter = new UserReactiveRepositoryAdapter(repository, mapper, logger,
+                new QueryExecutionTemplate(transactionalOperator, transactionalOperator), userDataMapper,
+                new RepositoryResilience(CircuitBreaker.ofDefaults("test"), Duration.ofSeconds(2), Map.of()),
+                new StaleUserCache(100, Duration.ofMinutes(1), logger, new SimpleMeterRegistry()));
 
         // Se crean objetos de ejemplo para usar en todos los tests
         user = new User(
@@ -66,6 +82,9 @@ class UserReactiveRepositoryAdapterTest {
                 ""
         );
 
+        profile = new UserProfile("1", "John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", 1, 50000.0);
+
         userEntity = new UserEntity(
                 "1",
                 "John",
@@ -158,4 +177,84 @@ class UserReactiveRepositoryAdapterTest {
                 .expectNext(true)
                 .verifyComplete();
     }
+
+    @Test
+    void shouldCheckIfIdentityDocumentExists() {
+        // Arrange
+        final String identityDocument = "123456789";
+        when(repository.existsByIdentityDocument(identityDocument)).thenReturn(Mono.just(true));
+
+        // Act
+        Mono<Boolean> result = repositoryAdapter.existByIdentityDocument(identityDocument);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldServeLastKnownProfileWhenDatabaseIsUnavailable() {
+        // Arrange: la primera lectura calienta la caché y la segunda falla por conexión
+        final String email = "john.doe@example.com";
+        StaleResponseMarker marker = new StaleResponseMarker();
+        when(repository.findProfileByEmail(email))
+                .thenReturn(Mono.just(profile))
+                .thenReturn(Mono.error(new R2dbcNonTransientResourceException("Conexión rechazada")));
+
+        StepVerifier.create(repositoryAdapter.getUserProfileByEmail(email))
+                .expectNext(profile)
+                .verifyComplete();
+
+        // Act
+        Mono<UserProfile> result = repositoryAdapter.getUserProfileByEmail(email)
+                .contextWrite(context -> context.put(StaleResponseMarker.CONTEXT_KEY, marker));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(profile)
+                .verifyComplete();
+        assertTrue(marker.isStale());
+    }
+
+    @Test
+    void shouldReportUnavailabilityWhenDatabaseFailsWithColdCache() {
+        // Arrange
+        final String email = "john.doe@example.com";
+        when(repository.findProfileByEmail(email)).thenReturn(Mono.error(new R2dbcNonTransientResourceException("Conexión rechazada")));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.getUserProfileByEmail(email))
+                .expectError(DataSourceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldNotServeStaleDataForNonAvailabilityErrors() {
+        // Arrange
+        final String email = "john.doe@example.com";
+        when(repository.findProfileByEmail(email))
+                .thenReturn(Mono.just(profile))
+                .thenReturn(Mono.error(new IllegalStateException("Error de mapeo")));
+        StepVerifier.create(repositoryAdapter.getUserProfileByEmail(email)).expectNext(profile).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.getUserProfileByEmail(email))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldFailClosedOnAuthenticationLookupWhenDatabaseIsUnavailable() {
+        // Arrange: aunque el perfil esté en caché, la lectura completa nunca usa la copia obsoleta
+        final String email = "john.doe@example.com";
+        when(repository.findProfileByEmail(email)).thenReturn(Mono.just(profile));
+        StepVerifier.create(repositoryAdapter.getUserProfileByEmail(email)).expectNext(profile).verifyComplete();
+        when(repository.findByEmail(email)).thenReturn(Mono.error(new R2dbcNonTransientResourceException("Conexión rechazada")));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.getUserByEmail(email))
+                .expectError(DataSourceUnavailableException.class)
+                .verify();
+    }
 }
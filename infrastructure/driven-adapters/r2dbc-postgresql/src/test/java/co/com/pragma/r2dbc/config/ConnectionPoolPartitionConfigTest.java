@@ -0,0 +1,75 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.r2dbc.proxy.PartitionedConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ConnectionPoolPartitionConfigTest {
+
+    @Test
+    void shouldDisposeSharedAndPartitionPoolsWhenContextCloses() {
+        // Arrange: igual que Spring Boot, el pool se declara con destroyMethod = "dispose"
+        ConnectionPool sharedPool = new ConnectionPool(ConnectionPoolConfiguration.builder(mock(ConnectionFactory.class)).build());
+        List<Disposable> pools = new ArrayList<>();
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(ConnectionPoolPartitionConfig.class, R2dbcProxyConfig.class)
+                .withPropertyValues("security.bulkheads.groups.login.pool-size=2",
+                        "security.bulkheads.groups.user-reads.pool-size=3")
+                .withBean(LoggerPort.class, () -> mock(LoggerPort.class))
+                .withBean(R2dbcProperties.class, R2dbcProperties::new)
+                .withBean("connectionFactory", ConnectionPool.class, () -> sharedPool,
+                        definition -> definition.setDestroyMethodName("dispose"));
+
+        // Act: el contexto se cierra al terminar run
+        runner.run(context -> {
+            pools.addAll(partitioned(context.getBean(ConnectionFactory.class)).getPools());
+            assertTrue(pools.stream().noneMatch(Disposable::isDisposed));
+        });
+
+        // Assert: dos particiones más el pool compartido
+        assertEquals(3, pools.size());
+        assertTrue(pools.contains(sharedPool));
+        assertTrue(pools.stream().allMatch(Disposable::isDisposed));
+    }
+
+    @Test
+    void shouldKeepBootPoolWhenNoPartitionIsConfigured() {
+        // Arrange
+        ConnectionPool sharedPool = new ConnectionPool(ConnectionPoolConfiguration.builder(mock(ConnectionFactory.class)).build());
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(ConnectionPoolPartitionConfig.class)
+                .withBean(R2dbcProperties.class, R2dbcProperties::new)
+                .withBean("connectionFactory", ConnectionPool.class, () -> sharedPool,
+                        definition -> definition.setDestroyMethodName("dispose"));
+
+        // Act
+        runner.run(context -> assertFalse(sharedPool.isDisposed()));
+
+        // Assert
+        assertTrue(sharedPool.isDisposed());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PartitionedConnectionFactory partitioned(ConnectionFactory connectionFactory) {
+        Object current = connectionFactory;
+        while (!(current instanceof PartitionedConnectionFactory) && current instanceof Wrapped<?> wrapped) {
+            current = ((Wrapped<ConnectionFactory>) wrapped).unwrap();
+        }
+        return (PartitionedConnectionFactory) current;
+    }
+}
@@ -0,0 +1,37 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.r2dbc.proxy.DisposableConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class R2dbcProxyConfigTest {
+
+    @Test
+    void shouldDisposeBootPoolWhenContextCloses() {
+        // Arrange: igual que Spring Boot, el pool se declara con destroyMethod = "dispose"
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(mock(ConnectionFactory.class)).build());
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(R2dbcProxyConfig.class)
+                .withBean(LoggerPort.class, () -> mock(LoggerPort.class))
+                .withBean("connectionFactory", ConnectionPool.class, () -> pool,
+                        definition -> definition.setDestroyMethodName("dispose"));
+
+        // Act: el contexto se cierra al terminar run
+        runner.run(context -> {
+            assertInstanceOf(DisposableConnectionFactory.class, context.getBean(ConnectionFactory.class));
+            assertFalse(pool.isDisposed());
+        });
+
+        // Assert
+        assertTrue(pool.isDisposed());
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowEncoderTest {
+
+    @Test
+    void shouldQuoteEveryValueAndEndWithNewLine() {
+        User user = new User(null, "John", "Doe", LocalDate.of(1990, 5, 15),
+                "john@example.com", "123", "300", 1, 50000.0, "$2a$10$hash");
+
+        assertEquals("\"John\",\"Doe\",\"1990-05-15\",\"john@example.com\",\"123\",\"300\",\"1\",\"50000.0\",\"$2a$10$hash\"\n",
+                CsvRowEncoder.encode(user));
+    }
+
+    @Test
+    void shouldEscapeQuotesAndKeepDelimitersInsideValues() {
+        User user = new User(null, "Jo\"hn", "Doe, Jr", LocalDate.of(1990, 5, 15),
+                "john@example.com", "123", "300", 1, 50000.0, "hash");
+
+        assertEquals("\"Jo\"\"hn\",\"Doe, Jr\",\"1990-05-15\",\"john@example.com\",\"123\",\"300\",\"1\",\"50000.0\",\"hash\"\n",
+                CsvRowEncoder.encode(user));
+    }
+
+    @Test
+    void shouldWriteNullsAsUnquotedEmptyFields() {
+        User user = new User(null, "John", "Doe", null, "john@example.com", "123", null, null, null, "hash");
+
+        assertEquals("\"John\",\"Doe\",,\"john@example.com\",\"123\",,,,\"hash\"\n", CsvRowEncoder.encode(user));
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.pragma.r2dbc.helper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryExecutionTemplateTest {
+
+    @Mock
+    private TransactionalOperator writeOperator;
+
+    @Mock
+    private TransactionalOperator readOnlyOperator;
+
+    private QueryExecutionTemplate executionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        executionTemplate = new QueryExecutionTemplate(writeOperator, readOnlyOperator);
+    }
+
+    @Test
+    void autocommitShouldNotOpenTransaction() {
+        Mono<String> mono = Mono.just("value");
+        Flux<String> flux = Flux.just("a", "b");
+
+        assertSame(mono, executionTemplate.autocommit(mono));
+        assertSame(flux, executionTemplate.autocommit(flux));
+        verifyNoInteractions(writeOperator, readOnlyOperator);
+    }
+
+    @Test
+    void readOnlyShouldUseReadOnlyOperator() {
+        Mono<String> mono = Mono.just("value");
+        Flux<String> flux = Flux.just("a", "b");
+        when(readOnlyOperator.transactional(mono)).thenReturn(mono);
+        when(readOnlyOperator.transactional(flux)).thenReturn(flux);
+
+        StepVerifier.create(executionTemplate.readOnly(mono)).expectNext("value").verifyComplete();
+        StepVerifier.create(executionTemplate.readOnly(flux)).expectNext("a", "b").verifyComplete();
+
+        verify(readOnlyOperator).transactional(mono);
+        verify(readOnlyOperator).transactional(flux);
+        verifyNoInteractions(writeOperator);
+    }
+
+    @Test
+    void writeShouldUseReadWriteOperator() {
+        Mono<String> mono = Mono.just("value");
+        Flux<String> flux = Flux.just("a", "b");
+        when(writeOperator.transactional(mono)).thenReturn(mono);
+        when(writeOperator.transactional(flux)).thenReturn(flux);
+
+        StepVerifier.create(executionTemplate.write(mono)).expectNext("value").verifyComplete();
+        StepVerifier.create(executionTemplate.write(flux)).expectNext("a", "b").verifyComplete();
+
+        verify(writeOperator).transactional(mono);
+        verify(writeOperator).transactional(flux);
+        verifyNoInteractions(readOnlyOperator);
+    }
+}
@@ -0,0 +1,84 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryResilienceTest {
+
+    private CircuitBreaker circuitBreaker;
+    private RepositoryResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("test");
+        resilience = new RepositoryResilience(circuitBreaker, Duration.ofSeconds(2), Map.of("slow", Duration.ofMillis(50)));
+    }
+
+    @Test
+    void shouldUsePerOperationTimeoutOrDefault() {
+        assertEquals(Duration.ofMillis(50), resilience.timeoutFor("slow"));
+        assertEquals(Duration.ofSeconds(2), resilience.timeoutFor("other"));
+    }
+
+    @Test
+    void shouldPassThroughSuccessfulCalls() {
+        StepVerifier.create(resilience.protect("other", Mono.just("value"))).expectNext("value").verifyComplete();
+        StepVerifier.create(resilience.protect("other", Flux.just("a", "b"))).expectNext("a", "b").verifyComplete();
+        assertEquals(2, circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    void shouldFailCallsExceedingTheirDeadlineAndRecordThemAsFailures() {
+        StepVerifier.create(resilience.protect("slow", Mono.never()))
+                .expectErrorMatches(error -> error instanceof DataSourceUnavailableException
+                        && error.getCause() instanceof TimeoutException)
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void shouldShortCircuitWhenBreakerIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        StepVerifier.create(resilience.protect("other", Mono.just("value")))
+                .expectErrorMatches(error -> error instanceof DataSourceUnavailableException
+                        && error.getCause() instanceof CallNotPermittedException)
+                .verify();
+
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfNotPermittedCalls());
+    }
+
+    @Test
+    void shouldPropagateNonAvailabilityErrorsUnchanged() {
+        IllegalArgumentException error = new IllegalArgumentException("consulta inválida");
+
+        StepVerifier.create(resilience.protect("other", Mono.error(error)))
+                .expectErrorMatches(error::equals)
+                .verify();
+    }
+
+    @Test
+    void shouldRecognizeWrappedConnectionFailures() {
+        assertTrue(RepositoryResilience.isUnavailable(new DataAccessResourceFailureException("pool",
+                new R2dbcNonTransientResourceException("Conexión rechazada"))));
+        assertFalse(RepositoryResilience.isUnavailable(new DataIntegrityViolationException("duplicado")));
+    }
+}
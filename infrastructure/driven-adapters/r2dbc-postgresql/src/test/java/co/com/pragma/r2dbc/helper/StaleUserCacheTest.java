@@ -0,0 +1,74 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.commonutils.StaleResponseMarker;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.UserProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class StaleUserCacheTest {
+
+    private static final String EMAIL = "john@example.com";
+
+    @Mock
+    private LoggerPort logger;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StaleUserCache cache;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StaleUserCache(10, Duration.ofMinutes(1), logger, meterRegistry);
+        profile = new UserProfile("1", "John", "Doe", LocalDate.of(1990, 1, 1), EMAIL, "123", "300", 1, 1000.0);
+    }
+
+    @Test
+    void shouldPropagateOriginalErrorWhenUserIsNotCached() {
+        IllegalStateException error = new IllegalStateException("down");
+
+        StepVerifier.create(cache.fallback(EMAIL, error))
+                .expectErrorMatches(error::equals)
+                .verify();
+    }
+
+    @Test
+    void shouldServeCachedUserAndMarkResponseAsStale() {
+        StaleResponseMarker marker = new StaleResponseMarker();
+        cache.put(EMAIL, profile);
+
+        StepVerifier.create(cache.fallback(EMAIL, new IllegalStateException("down"))
+                        .contextWrite(context -> context.put(StaleResponseMarker.CONTEXT_KEY, marker)))
+                .expectNext(profile)
+                .verifyComplete();
+
+        assertTrue(marker.isStale());
+        assertEquals(1.0, meterRegistry.get("r2dbc.user.cache.stale.served").counter().count());
+    }
+
+    @Test
+    void shouldServeCachedUserWithoutMarkerInContext() {
+        StaleResponseMarker marker = new StaleResponseMarker();
+        cache.put(EMAIL, profile);
+
+        StepVerifier.create(cache.fallback(EMAIL, new IllegalStateException("down")))
+                .expectNext(profile)
+                .verifyComplete();
+
+        assertFalse(marker.isStale());
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.pragma.r2dbc.proxy;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DisposableConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory delegate;
+    @Mock
+    private ConnectionFactory resource;
+    @Mock
+    private Connection connection;
+
+    @Test
+    void shouldCreateConnectionsThroughTheDelegate() {
+        // Arrange
+        doReturn(Mono.just(connection)).when(delegate).create();
+        DisposableConnectionFactory connectionFactory = new DisposableConnectionFactory(delegate, resource);
+
+        // Act & Assert
+        StepVerifier.create(Mono.from(connectionFactory.create()))
+                .expectNext(connection)
+                .verifyComplete();
+        assertSame(delegate, connectionFactory.unwrap());
+        verifyNoInteractions(resource);
+    }
+
+    @Test
+    void shouldReportDisposedWhenResourceIsNotDisposable() {
+        // Arrange
+        DisposableConnectionFactory connectionFactory = new DisposableConnectionFactory(delegate, resource);
+
+        // Act
+        connectionFactory.dispose();
+
+        // Assert
+        assertTrue(connectionFactory.isDisposed());
+    }
+}
@@ -0,0 +1,87 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestBulkhead;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory sharedPool;
+    @Mock
+    private ConnectionFactory loginPool;
+    @Mock
+    private Connection sharedConnection;
+    @Mock
+    private Connection loginConnection;
+
+    private PartitionedConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new PartitionedConnectionFactory();
+        connectionFactory.setTargetConnectionFactories(Map.of("login", loginPool));
+        connectionFactory.setDefaultTargetConnectionFactory(sharedPool);
+        connectionFactory.afterPropertiesSet();
+        lenient().doReturn(Mono.just(sharedConnection)).when(sharedPool).create();
+        lenient().doReturn(Mono.just(loginConnection)).when(loginPool).create();
+    }
+
+    @Test
+    void shouldUseBulkheadPartitionFromContext() {
+        StepVerifier.create(Mono.from(connectionFactory.create())
+                        .contextWrite(context -> context.put(RequestBulkhead.CONTEXT_KEY, new RequestBulkhead("login"))))
+                .expectNext(loginConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldUseSharedPoolOutsideOfBulkhead() {
+        StepVerifier.create(Mono.from(connectionFactory.create()))
+                .expectNext(sharedConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldUseSharedPoolForBulkheadWithoutPartition() {
+        StepVerifier.create(Mono.from(connectionFactory.create())
+                        .contextWrite(context -> context.put(RequestBulkhead.CONTEXT_KEY, new RequestBulkhead("user-reads"))))
+                .expectNext(sharedConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDisposePartitionsAndSharedPool() {
+        // Arrange
+        Disposable partition = mock(Disposable.class, withSettings().extraInterfaces(ConnectionFactory.class));
+        Disposable shared = mock(Disposable.class, withSettings().extraInterfaces(ConnectionFactory.class));
+        PartitionedConnectionFactory disposable = new PartitionedConnectionFactory();
+        disposable.setTargetConnectionFactories(Map.of("login", partition));
+        disposable.setDefaultTargetConnectionFactory(shared);
+
+        // Act
+        disposable.dispose();
+
+        // Assert
+        verify(partition).dispose();
+        verify(shared).dispose();
+        assertTrue(disposable.isDisposed());
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class RequestAwareConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory delegate;
+    @Mock
+    private Connection connection;
+
+    private final ConnectionOwnerRegistry registry = new ConnectionOwnerRegistry();
+    private RequestAwareConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new RequestAwareConnectionFactory(delegate, registry);
+        doReturn(Mono.just(connection)).when(delegate).create();
+    }
+
+    @Test
+    void shouldRegisterConnectionForRequestCounterInContext() {
+        RequestStatementCounter counter = new RequestStatementCounter();
+
+        StepVerifier.create(connectionFactory.create()
+                        .contextWrite(context -> context.put(RequestStatementCounter.CONTEXT_KEY, counter)))
+                .expectNext(connection)
+                .verifyComplete();
+        registry.count(connection, 2);
+
+        assertEquals(2, counter.count());
+    }
+
+    @Test
+    void shouldCreateConnectionOutsideOfRequest() {
+        StepVerifier.create(connectionFactory.create())
+                .expectNext(connection)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldExposeDelegate() {
+        assertSame(delegate, connectionFactory.unwrap());
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.pragma.r2dbc.proxy;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.ConnectionInfo;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.spi.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatementMetricsListenerTest {
+
+    private static final String SQL = "SELECT * FROM usuario WHERE correo_electronico = $1";
+
+    @Mock
+    private LoggerPort logger;
+    @Mock
+    private Connection connection;
+    @Mock
+    private ConnectionInfo connectionInfo;
+    @Mock
+    private QueryExecutionInfo queryExecutionInfo;
+
+    private final ConnectionOwnerRegistry registry = new ConnectionOwnerRegistry();
+    private final RequestStatementCounter counter = new RequestStatementCounter();
+    private StatementMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new StatementMetricsListener(logger, registry, Duration.ofMillis(100));
+        registry.register(connection, counter);
+        when(connectionInfo.getOriginalConnection()).thenReturn(connection);
+        when(queryExecutionInfo.getConnectionInfo()).thenReturn(connectionInfo);
+        when(queryExecutionInfo.getQueries()).thenReturn(List.of(query("john@example.com")));
+        when(logger.maskEmail("john@example.com")).thenReturn("j***@example.com");
+    }
+
+    @Test
+    void shouldCountFastStatementsWithoutLogging() {
+        when(queryExecutionInfo.getExecuteDuration()).thenReturn(Duration.ofMillis(5));
+
+        listener.afterQuery(queryExecutionInfo);
+
+        assertEquals(1, counter.count());
+        verify(logger, never()).warn(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shouldLogSlowStatementsWithMaskedBindings() {
+        when(queryExecutionInfo.getExecuteDuration()).thenReturn(Duration.ofMillis(250));
+        when(queryExecutionInfo.isSuccess()).thenReturn(true);
+
+        listener.afterQuery(queryExecutionInfo);
+
+        verify(logger).warn(anyString(), eq(250L), eq(true), eq(SQL), eq("[$1=j***@example.com]"));
+    }
+
+    @Test
+    void shouldLogOnlyTheTypeOfNonEmailBindings() {
+        when(queryExecutionInfo.getQueries()).thenReturn(List.of(query("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy"), query(3)));
+        when(queryExecutionInfo.getExecuteDuration()).thenReturn(Duration.ofMillis(250));
+        when(queryExecutionInfo.isSuccess()).thenReturn(true);
+
+        listener.afterQuery(queryExecutionInfo);
+
+        verify(logger).warn(anyString(), eq(250L), eq(true), eq(SQL), eq("[$1=<String>]"));
+        verify(logger).warn(anyString(), eq(250L), eq(true), eq(SQL), eq("[$1=<Integer>]"));
+        verify(logger, never()).maskDocument(anyString());
+    }
+
+    @Test
+    void shouldCountTransactionControlMethods() throws NoSuchMethodException {
+        MethodExecutionInfo begin = mock(MethodExecutionInfo.class);
+        when(begin.getConnectionInfo()).thenReturn(connectionInfo);
+        when(begin.getMethod()).thenReturn(Connection.class.getMethod("beginTransaction"));
+        MethodExecutionInfo metadata = mock(MethodExecutionInfo.class);
+        when(metadata.getConnectionInfo()).thenReturn(connectionInfo);
+        when(metadata.getMethod()).thenReturn(Connection.class.getMethod("getMetadata"));
+
+        listener.afterMethod(begin);
+        listener.afterMethod(metadata);
+
+        assertEquals(1, counter.count());
+    }
+
+    @Test
+    void shouldIgnoreConnectionsWithoutOwner() {
+        when(connectionInfo.getOriginalConnection()).thenReturn(mock(Connection.class));
+        when(queryExecutionInfo.getExecuteDuration()).thenReturn(Duration.ofMillis(5));
+
+        listener.afterQuery(queryExecutionInfo);
+
+        assertEquals(0, counter.count());
+    }
+
+    private static QueryInfo query(Object value) {
+        BoundValue boundValue = mock(BoundValue.class);
+        when(boundValue.getValue()).thenReturn(value);
+        Binding binding = mock(Binding.class);
+        when(binding.getKey()).thenReturn("$1");
+        when(binding.getBoundValue()).thenReturn(boundValue);
+        Bindings bindings = mock(Bindings.class);
+        TreeSet<Binding> indexBindings = new TreeSet<>((a, b) -> 0);
+        indexBindings.add(binding);
+        when(bindings.getIndexBindings()).thenReturn(indexBindings);
+        when(bindings.getNamedBindings()).thenReturn(new TreeSet<>());
+        QueryInfo queryInfo = mock(QueryInfo.class);
+        when(queryInfo.getQuery()).thenReturn(SQL);
+        when(queryInfo.getBindingsList()).thenReturn(List.of(bindings));
+        return queryInfo;
+    }
+}
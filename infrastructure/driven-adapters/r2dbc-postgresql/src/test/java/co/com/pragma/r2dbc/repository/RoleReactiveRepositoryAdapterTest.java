@@ -1,6 +1,7 @@
 package co.com.pragma.r2dbc.repository;
 
 import co.com.pragma.model.role.repository.RoleRepository;
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
 import co.com.pragma.r2dbc.interfaces.RoleReactiveRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,8 @@ import reactor.test.StepVerifier;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,7 +31,8 @@ class RoleReactiveRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        roleReactiveRepositoryAdapter = new RoleReactiveRepositoryAdapter(roleReactiveRepository, transactionalOperator);
+        QueryExecutionTemplate executionTemplate = new QueryExecutionTemplate(transactionalOperator, transactionalOperator);
+        roleReactiveRepositoryAdapter = new RoleReactiveRepositoryAdapter(roleReactiveRepository, executionTemplate);
     }
 
     @Test
@@ -42,7 +46,6 @@ class RoleReactiveRepositoryAdapterTest {
         Mono<Boolean> existsMono = Mono.just(true);
 
         when(roleReactiveRepository.existsById(roleId)).thenReturn(existsMono);
-        when(transactionalOperator.transactional(existsMono)).thenReturn(existsMono);
 
         StepVerifier.create(roleReactiveRepositoryAdapter.existsById(roleId))
                 .expectNext(true)
@@ -57,7 +60,6 @@ class RoleReactiveRepositoryAdapterTest {
         Mono<Boolean> existsMono = Mono.just(false);
 
         when(roleReactiveRepository.existsById(roleId)).thenReturn(existsMono);
-        when(transactionalOperator.transactional(existsMono)).thenReturn(existsMono);
 
         StepVerifier.create(roleReactiveRepositoryAdapter.existsById(roleId))
                 .expectNext(false)
@@ -72,7 +74,6 @@ class RoleReactiveRepositoryAdapterTest {
         Mono<Boolean> existsMono = Mono.just(false);
 
         when(roleReactiveRepository.existsById(roleId)).thenReturn(existsMono);
-        when(transactionalOperator.transactional(existsMono)).thenReturn(existsMono);
 
         StepVerifier.create(roleReactiveRepositoryAdapter.existsById(roleId))
                 .expectNext(false)
@@ -82,16 +83,16 @@ class RoleReactiveRepositoryAdapterTest {
     }
 
     @Test
-    void shouldApplyTransactionalOperator() {
+    void shouldNotWrapSingleSelectInTransaction() {
         Integer roleId = 1;
         Mono<Boolean> existsMono = Mono.just(true);
 
         when(roleReactiveRepository.existsById(roleId)).thenReturn(existsMono);
-        when(transactionalOperator.transactional(existsMono)).thenReturn(existsMono);
 
         Mono<Boolean> result = roleReactiveRepositoryAdapter.existsById(roleId);
 
         assertNotNull(result);
         verify(roleReactiveRepository).existsById(roleId);
+        verify(transactionalOperator, never()).transactional(any(Mono.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package co.com.pragma.r2dbc.repository;
+
+import co.com.pragma.commonutils.MicrometerOperationMetricsAdapter;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.User;
+import co.com.pragma.r2dbc.entity.UserEntity;
+import co.com.pragma.r2dbc.helper.QueryExecutionTemplate;
+import co.com.pragma.r2dbc.helper.RepositoryResilience;
+import co.com.pragma.r2dbc.helper.StaleUserCache;
+import co.com.pragma.r2dbc.interfaces.RoleReactiveRepository;
+import co.com.pragma.r2dbc.interfaces.UserReactiveRepository;
+import co.com.pragma.r2dbc.mapper.UserDataMapper;
+import co.com.pragma.usecase.user.UserUseCase;
+import co.com.pragma.usecase.validation.UserValidator;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cuenta las sentencias SQL que emite cada caso de uso a través de los adaptadores R2DBC.
+ * Cada transacción suma su BEGIN y su COMMIT, de modo que envolver una lectura simple
+ * en una transacción hace fallar estas pruebas.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatementCountPerUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final String DOCUMENT = "123456789";
+
+    @Mock
+    private UserReactiveRepository userRepository;
+    @Mock
+    private RoleReactiveRepository roleRepository;
+    @Mock
+    private TransactionalOperator writeOperator;
+    @Mock
+    private TransactionalOperator readOnlyOperator;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private LoggerPort logger;
+    @Mock
+    private PasswordEncryptor passwordEncryptor;
+
+    private final List<String> statements = new ArrayList<>();
+    private UserUseCase userUseCase;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        QueryExecutionTemplate executionTemplate = new QueryExecutionTemplate(writeOperator, readOnlyOperator);
+        UserReactiveRepositoryAdapter userAdapter = new UserReactiveRepositoryAdapter(
+                userRepository, objectMapper, logger, executionTemplate, Mappers.getMapper(UserDataMapper.class),
+                new RepositoryResilience(CircuitBreaker.ofDefaults("test"), Duration.ofSeconds(2), Map.of()),
+                new StaleUserCache(100, Duration.ofMinutes(1), logger, new SimpleMeterRegistry()));
+        RoleReactiveRepositoryAdapter roleAdapter = new RoleReactiveRepositoryAdapter(roleRepository, executionTemplate);
+        userUseCase = new UserUseCase(userAdapter, new UserValidator(userAdapter, roleAdapter), passwordEncryptor,
+                new MicrometerOperationMetricsAdapter(new SimpleMeterRegistry()));
+
+        user = new User(null, "John", "Doe", LocalDate.of(1990, 5, 15),
+                EMAIL, DOCUMENT, "3001234567", 1, 50000.0, "password");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveUserShouldIssueThreeAutocommitReadsAndOneTransactionalInsert() {
+        when(roleRepository.existsById(1)).thenReturn(statement("SELECT rol", true));
+        when(userRepository.existsByEmail(EMAIL)).thenReturn(statement("SELECT usuario", false));
+        when(userRepository.existsByIdentityDocument(DOCUMENT)).thenReturn(statement("SELECT usuario", false));
+        when(passwordEncryptor.encode("password")).thenReturn("encoded");
+        when(userRepository.save(any(UserEntity.class))).thenAnswer(invocation -> statement("INSERT usuario", invocation.getArgument(0)));
+        when(writeOperator.transactional(any(Mono.class))).thenAnswer(invocation -> Mono.fromRunnable(() -> statements.add("BEGIN"))
+                .then((Mono<Object>) invocation.getArgument(0))
+                .doOnSuccess(ignored -> statements.add("COMMIT")));
+
+        StepVerifier.create(userUseCase.saveUser(user))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(6, statements.size(), () -> "Sentencias emitidas: " + statements);
+        assertEquals(List.of("BEGIN", "INSERT usuario", "COMMIT"), statements.subList(3, 6));
+    }
+
+    @Test
+    void getUserByEmailShouldIssueSingleStatement() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(statement("SELECT usuario", user));
+
+        StepVerifier.create(userUseCase.getUserByEmail(EMAIL))
+                .expectNext(user)
+                .verifyComplete();
+
+        assertEquals(List.of("SELECT usuario"), statements);
+    }
+
+    @Test
+    void getUserByEmailOrIdentityDocumentShouldIssueSingleStatement() {
+        when(userRepository.findByEmailOrIdentityDocument(EMAIL, DOCUMENT))
+                .thenReturn(Flux.defer(() -> {
+                    statements.add("SELECT usuario");
+                    return Flux.just(user);
+                }));
+
+        StepVerifier.create(userUseCase.getUserByEmailOrIdentityDocument(EMAIL, DOCUMENT))
+                .expectNext(user)
+                .verifyComplete();
+
+        assertEquals(List.of("SELECT usuario"), statements);
+    }
+
+    private <T> Mono<T> statement(String sql, T result) {
+        return Mono.fromCallable(() -> {
+            statements.add(sql);
+            return result;
+        });
+    }
+}
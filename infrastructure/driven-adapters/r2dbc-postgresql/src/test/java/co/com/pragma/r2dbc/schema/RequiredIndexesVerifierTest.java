@@ -0,0 +1,71 @@
+package co.com.pragma.r2dbc.schema;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequiredIndexesVerifierTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private LoggerPort logger;
+
+    private RequiredIndexesVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new RequiredIndexesVerifier(databaseClient, logger);
+    }
+
+    @Test
+    void shouldReportNoMissingIndexesWhenAllArePresent() {
+        assertTrue(RequiredIndexesVerifier.missingIndexes(RequiredIndexesVerifier.REQUIRED_INDEXES).isEmpty());
+    }
+
+    @Test
+    void shouldReportMissingDocumentIndex() {
+        List<String> present = List.of("rol_pkey", "usuario_pkey", "ux_usuario_correo_electronico", "ix_usuario_id_rol", "otro_indice");
+
+        assertEquals(Set.of("ux_usuario_documento_identidad"), RequiredIndexesVerifier.missingIndexes(present));
+    }
+
+    @Test
+    void shouldFailStartupWhenIndexesAreMissing() {
+        when(databaseClient.sql(RequiredIndexesVerifier.SELECT_INDEXES_SQL).map(any(Function.class)).all())
+                .thenReturn(Flux.just("rol_pkey", "usuario_pkey"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> verifier.run(new DefaultApplicationArguments()));
+
+        assertTrue(exception.getMessage().contains("ux_usuario_documento_identidad"));
+    }
+
+    @Test
+    void shouldStartWhenAllIndexesArePresent() {
+        when(databaseClient.sql(RequiredIndexesVerifier.SELECT_INDEXES_SQL).map(any(Function.class)).all())
+                .thenReturn(Flux.fromIterable(RequiredIndexesVerifier.REQUIRED_INDEXES));
+
+        assertDoesNotThrow(() -> verifier.run(new DefaultApplicationArguments()));
+    }
+}
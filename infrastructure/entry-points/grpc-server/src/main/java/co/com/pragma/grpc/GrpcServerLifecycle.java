@@ -0,0 +1,113 @@
+package co.com.pragma.grpc;
+
+import co.com.pragma.grpc.config.GrpcServerProperties;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.grpc.BindableService;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerCredentials;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.TlsServerCredentials;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arranca el servidor gRPC en su propio puerto junto con el contexto de Spring y lo detiene con una
+ * espera acotada para las llamadas en curso.
+ */
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcServerProperties properties;
+    private final List<BindableService> services;
+    private final ServerInterceptor authInterceptor;
+    private final LoggerPort logger;
+    private final HealthStatusManager health = new HealthStatusManager();
+    private volatile Server server;
+
+    public GrpcServerLifecycle(GrpcServerProperties properties, List<BindableService> services,
+                               ServerInterceptor authInterceptor, LoggerPort logger) {
+        this.properties = properties;
+        this.services = services;
+        this.authInterceptor = authInterceptor;
+        this.logger = logger;
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.getPort(), credentials(properties.getTransportSecurity()))
+                // Los servicios no bloquean: se evita el salto a un pool de hilos por cada llamada
+                .directExecutor()
+                .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection())
+                .addService(health.getHealthService());
+        services.forEach(service -> builder.addService(ServerInterceptors.intercept(service, authInterceptor)));
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible iniciar el servidor gRPC en el puerto " + properties.getPort(), e);
+        }
+        if (properties.getTransportSecurity().isEnabled()) {
+            logger.info("Servidor gRPC escuchando con TLS en el puerto {}", server.getPort());
+        } else {
+            logger.warn("Servidor gRPC escuchando SIN TLS en el puerto {}: los tokens viajan en texto plano", server.getPort());
+        }
+    }
+
+    static ServerCredentials credentials(GrpcServerProperties.TransportSecurity tls) {
+        if (!tls.isEnabled()) {
+            return InsecureServerCredentials.create();
+        }
+        if (null == tls.getCertChain() || null == tls.getPrivateKey()) {
+            throw new IllegalStateException("grpc.server.transport-security requiere cert-chain y private-key; "
+                    + "para texto plano use grpc.server.transport-security.enabled=false");
+        }
+        try (InputStream certChain = tls.getCertChain().getInputStream();
+             InputStream privateKey = tls.getPrivateKey().getInputStream()) {
+            TlsServerCredentials.Builder builder = TlsServerCredentials.newBuilder()
+                    .keyManager(certChain, privateKey)
+                    .clientAuth(TlsServerCredentials.ClientAuth.valueOf(tls.getClientAuth().name()));
+            if (null != tls.getTrustCertCollection()) {
+                try (InputStream trustCerts = tls.getTrustCertCollection().getInputStream()) {
+                    builder.trustManager(trustCerts);
+                }
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible leer el certificado o la clave TLS del servidor gRPC", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (null == current) {
+            return;
+        }
+        health.enterTerminalState();
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(properties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return null != server;
+    }
+
+    int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,38 @@
+package co.com.pragma.grpc.config;
+
+import co.com.pragma.grpc.GrpcServerLifecycle;
+import co.com.pragma.grpc.security.JwtServerInterceptor;
+import co.com.pragma.grpc.security.TokenVerifier;
+import co.com.pragma.grpc.service.UserLookupGrpcService;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.security.util.JWTUtil;
+import co.com.pragma.usecase.user.UserUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(GrpcServerProperties.class)
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean
+    public TokenVerifier grpcTokenVerifier(JWTUtil jwtUtil) {
+        return new TokenVerifier(jwtUtil);
+    }
+
+    @Bean
+    public UserLookupGrpcService userLookupGrpcService(UserUseCase userUseCase, TokenVerifier grpcTokenVerifier, LoggerPort logger) {
+        return new UserLookupGrpcService(userUseCase, grpcTokenVerifier, logger);
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(GrpcServerProperties properties, UserLookupGrpcService userLookupGrpcService,
+                                                   TokenVerifier grpcTokenVerifier, LoggerPort logger) {
+        return new GrpcServerLifecycle(properties, List.of(userLookupGrpcService),
+                new JwtServerInterceptor(grpcTokenVerifier), logger);
+    }
+}
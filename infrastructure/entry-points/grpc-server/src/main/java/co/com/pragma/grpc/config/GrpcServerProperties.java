@@ -0,0 +1,129 @@
+package co.com.pragma.grpc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "grpc.server")
+public class GrpcServerProperties {
+
+    // Desactivado por defecto: el puerto transporta tokens bearer y solo debe abrirse a propósito
+    private boolean enabled = false;
+    private int port = 9090;
+    private int maxConcurrentCallsPerConnection = 200;
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+    private TransportSecurity transportSecurity = new TransportSecurity();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getMaxConcurrentCallsPerConnection() {
+        return maxConcurrentCallsPerConnection;
+    }
+
+    public void setMaxConcurrentCallsPerConnection(int maxConcurrentCallsPerConnection) {
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+    }
+
+    public Duration getShutdownGracePeriod() {
+        return shutdownGracePeriod;
+    }
+
+    public void setShutdownGracePeriod(Duration shutdownGracePeriod) {
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    public TransportSecurity getTransportSecurity() {
+        return transportSecurity;
+    }
+
+    public void setTransportSecurity(TransportSecurity transportSecurity) {
+        this.transportSecurity = transportSecurity;
+    }
+
+    /**
+     * TLS del puerto gRPC. Está activo por defecto: sin certificado y clave el servidor no arranca, salvo que se
+     * desactive explícitamente (p. ej. detrás de una malla de servicios que ya cifra el tráfico).
+     */
+    public static class TransportSecurity {
+
+        private boolean enabled = true;
+
+        /**
+         * Cadena de certificados del servidor en PEM.
+         */
+        private Resource certChain;
+
+        /**
+         * Clave privada del servidor en PEM (PKCS#8).
+         */
+        private Resource privateKey;
+
+        /**
+         * CAs en PEM con las que se validan los certificados de cliente (mTLS). Sin ellas se usan las del sistema.
+         */
+        private Resource trustCertCollection;
+
+        private ClientAuth clientAuth = ClientAuth.NONE;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Resource getCertChain() {
+            return certChain;
+        }
+
+        public void setCertChain(Resource certChain) {
+            this.certChain = certChain;
+        }
+
+        public Resource getPrivateKey() {
+            return privateKey;
+        }
+
+        public void setPrivateKey(Resource privateKey) {
+            this.privateKey = privateKey;
+        }
+
+        public Resource getTrustCertCollection() {
+            return trustCertCollection;
+        }
+
+        public void setTrustCertCollection(Resource trustCertCollection) {
+            this.trustCertCollection = trustCertCollection;
+        }
+
+        public ClientAuth getClientAuth() {
+            return clientAuth;
+        }
+
+        public void setClientAuth(ClientAuth clientAuth) {
+            this.clientAuth = clientAuth;
+        }
+    }
+
+    public enum ClientAuth {
+        NONE,
+        OPTIONAL,
+        REQUIRE
+    }
+}
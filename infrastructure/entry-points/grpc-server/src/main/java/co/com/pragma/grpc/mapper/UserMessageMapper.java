@@ -0,0 +1,45 @@
+package co.com.pragma.grpc.mapper;
+
+import co.com.pragma.grpc.proto.UserReply;
+import co.com.pragma.model.user.User;
+
+/**
+ * Los campos de protobuf no admiten null: los valores ausentes se dejan en su valor por defecto.
+ */
+public final class UserMessageMapper {
+
+    private UserMessageMapper() {
+    }
+
+    public static UserReply toReply(User user) {
+        UserReply.Builder reply = UserReply.newBuilder();
+        if (null != user.id()) {
+            reply.setId(user.id());
+        }
+        if (null != user.firstName()) {
+            reply.setFirstName(user.firstName());
+        }
+        if (null != user.lastName()) {
+            reply.setLastName(user.lastName());
+        }
+        if (null != user.birthDate()) {
+            reply.setBirthDate(user.birthDate().toString());
+        }
+        if (null != user.email()) {
+            reply.setEmail(user.email());
+        }
+        if (null != user.identityDocument()) {
+            reply.setIdentityDocument(user.identityDocument());
+        }
+        if (null != user.phone()) {
+            reply.setPhone(user.phone());
+        }
+        if (null != user.roleId()) {
+            reply.setRoleId(user.roleId());
+        }
+        if (null != user.baseSalary()) {
+            reply.setBaseSalary(user.baseSalary());
+        }
+        return reply.build();
+    }
+}
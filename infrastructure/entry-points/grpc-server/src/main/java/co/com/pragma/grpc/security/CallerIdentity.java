@@ -0,0 +1,9 @@
+package co.com.pragma.grpc.security;
+
+import java.util.List;
+
+/**
+ * Identidad del servicio que llama, extraída de su JWT.
+ */
+public record CallerIdentity(String email, List<String> roles) {
+}
@@ -0,0 +1,50 @@
+package co.com.pragma.grpc.security;
+
+import co.com.pragma.grpc.proto.UserLookupServiceGrpc;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Autentica cada llamada con el token {@code authorization: Bearer} de los metadatos y deja la identidad
+ * en {@link #CALLER}. {@code ValidateToken} queda exento: el token a validar viaja en el propio mensaje.
+ */
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<CallerIdentity> CALLER = Context.key("caller-identity");
+
+    static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> UNAUTHENTICATED_METHODS = Set.of(
+            UserLookupServiceGrpc.getValidateTokenMethod().getFullMethodName());
+
+    private final TokenVerifier tokenVerifier;
+
+    public JwtServerInterceptor(TokenVerifier tokenVerifier) {
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        if (UNAUTHENTICATED_METHODS.contains(call.getMethodDescriptor().getFullMethodName())) {
+            return next.startCall(call, headers);
+        }
+        String header = headers.get(AUTHORIZATION);
+        Optional<CallerIdentity> caller = null != header && header.startsWith(BEARER_PREFIX)
+                ? tokenVerifier.verify(header.substring(BEARER_PREFIX.length()))
+                : Optional.empty();
+        if (caller.isEmpty()) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Token ausente o inválido"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return Contexts.interceptCall(Context.current().withValue(CALLER, caller.get()), call, headers, next);
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.pragma.grpc.security;
+
+import co.com.pragma.security.util.JWTUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Verifica tokens con el mismo {@link JWTUtil} que el login y el filtro JWT de la API REST,
+ * de modo que un token vale igual por REST que por gRPC.
+ */
+public class TokenVerifier {
+
+    static final String ROLES_CLAIM = "roles";
+
+    private final JWTUtil jwtUtil;
+
+    public TokenVerifier(JWTUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * @return La identidad del token, o vacío si está mal formado, expiró o la firma no coincide.
+     */
+    public Optional<CallerIdentity> verify(String token) {
+        if (null == token || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            if (!Boolean.TRUE.equals(jwtUtil.validateToken(token))) {
+                return Optional.empty();
+            }
+            Claims claims = jwtUtil.getAllClaimsFromToken(token);
+            return Optional.of(new CallerIdentity(claims.getSubject(), roles(claims)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<String> roles(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return null == roles ? List.of() : roles.stream().map(String::valueOf).toList();
+    }
+}
@@ -0,0 +1,136 @@
+package co.com.pragma.grpc.service;
+
+import co.com.pragma.grpc.mapper.UserMessageMapper;
+import co.com.pragma.grpc.proto.FindUsersRequest;
+import co.com.pragma.grpc.proto.GetUserByEmailRequest;
+import co.com.pragma.grpc.proto.UserLookupServiceGrpc;
+import co.com.pragma.grpc.proto.UserReply;
+import co.com.pragma.grpc.proto.ValidateTokenReply;
+import co.com.pragma.grpc.proto.ValidateTokenRequest;
+import co.com.pragma.grpc.security.CallerIdentity;
+import co.com.pragma.grpc.security.JwtServerInterceptor;
+import co.com.pragma.grpc.security.TokenVerifier;
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.security.model.RoleConstants;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Consultas de usuarios para servicios internos sobre gRPC. Aplica las mismas reglas que la API REST:
+ * ADMIN y ADVISOR consultan cualquier usuario, CLIENT solo su propio email.
+ * Los handlers solo se suscriben al caso de uso, por lo que pueden ejecutarse en los hilos de Netty.
+ */
+public class UserLookupGrpcService extends UserLookupServiceGrpc.UserLookupServiceImplBase {
+
+    private static final Set<String> UNRESTRICTED_ROLES = Set.of(normalize(RoleConstants.ADMIN), normalize(RoleConstants.ADVISOR));
+    private static final String CLIENT_ROLE = normalize(RoleConstants.CLIENT);
+
+    private final UserUseCase useCase;
+    private final TokenVerifier tokenVerifier;
+    private final LoggerPort logger;
+
+    public UserLookupGrpcService(UserUseCase useCase, TokenVerifier tokenVerifier, LoggerPort logger) {
+        this.useCase = useCase;
+        this.tokenVerifier = tokenVerifier;
+        this.logger = logger;
+    }
+
+    @Override
+    public void getUserByEmail(GetUserByEmailRequest request, StreamObserver<UserReply> responseObserver) {
+        String email = request.getEmail();
+        if (email.isEmpty()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(ErrorMessages.EMAIL_REQUIRED).asRuntimeException());
+            return;
+        }
+        if (!canLookup(JwtServerInterceptor.CALLER.get(), email)) {
+            responseObserver.onError(Status.PERMISSION_DENIED.asRuntimeException());
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Consulta gRPC de usuario por email: {}", logger.maskEmail(email));
+        }
+        Disposable subscription = useCase.getUserByEmail(email)
+                .map(UserMessageMapper::toReply)
+                .switchIfEmpty(Mono.error(() -> Status.NOT_FOUND.asRuntimeException()))
+                .subscribe(responseObserver::onNext,
+                        error -> responseObserver.onError(toStatus(error)),
+                        responseObserver::onCompleted);
+        cancelOnClientCancel(responseObserver, subscription);
+    }
+
+    @Override
+    public void findUsers(FindUsersRequest request, StreamObserver<UserReply> responseObserver) {
+        String email = request.getEmail().isEmpty() ? null : request.getEmail();
+        String identityDocument = request.getIdentityDocument().isEmpty() ? null : request.getIdentityDocument();
+        if (null == email && null == identityDocument) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(ErrorMessages.EMAIL_OR_DOCUMENT_REQUIRED).asRuntimeException());
+            return;
+        }
+        Disposable subscription = useCase.getUserByEmailOrIdentityDocument(email, identityDocument)
+                .map(UserMessageMapper::toReply)
+                .subscribe(responseObserver::onNext,
+                        error -> responseObserver.onError(toStatus(error)),
+                        responseObserver::onCompleted);
+        cancelOnClientCancel(responseObserver, subscription);
+    }
+
+    @Override
+    public void validateToken(ValidateTokenRequest request, StreamObserver<ValidateTokenReply> responseObserver) {
+        ValidateTokenReply reply = tokenVerifier.verify(request.getToken())
+                .map(caller -> ValidateTokenReply.newBuilder()
+                        .setValid(true)
+                        .setEmail(caller.email())
+                        .addAllRoles(caller.roles())
+                        .build())
+                .orElseGet(() -> ValidateTokenReply.newBuilder().setValid(false).build());
+        responseObserver.onNext(reply);
+        responseObserver.onCompleted();
+    }
+
+    static boolean canLookup(CallerIdentity caller, String requestedEmail) {
+        if (null == caller) {
+            return false;
+        }
+        Set<String> roles = caller.roles().stream()
+                .map(UserLookupGrpcService::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        if (roles.stream().anyMatch(UNRESTRICTED_ROLES::contains)) {
+            return true;
+        }
+        return roles.contains(CLIENT_ROLE) && null != caller.email() && caller.email().equalsIgnoreCase(requestedEmail);
+    }
+
+    private Throwable toStatus(Throwable error) {
+        if (error instanceof StatusRuntimeException) {
+            return error;
+        }
+        if (error instanceof DataSourceUnavailableException) {
+            logger.warn("Base de datos no disponible en la consulta gRPC: {}", error.getMessage());
+            return Status.UNAVAILABLE.withCause(error).asRuntimeException();
+        }
+        logger.error("Error en la consulta gRPC de usuarios: {}", error);
+        return Status.INTERNAL.withDescription(ErrorMessages.INTERNAL_SERVER_ERROR).asRuntimeException();
+    }
+
+    // Si el cliente cancela la llamada, se cancela también la consulta en curso
+    private static void cancelOnClientCancel(StreamObserver<?> responseObserver, Disposable subscription) {
+        if (responseObserver instanceof ServerCallStreamObserver<?> serverObserver) {
+            serverObserver.setOnCancelHandler(subscription::dispose);
+        }
+    }
+
+    // Normalizar roles removiendo el prefijo ROLE_ para comparación
+    private static String normalize(String role) {
+        return role.startsWith("ROLE_") ? role.substring(5) : role;
+    }
+}
@@ -0,0 +1,75 @@
+package co.com.pragma.grpc;
+
+import co.com.pragma.grpc.config.GrpcServerProperties;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ServerInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GrpcServerLifecycleTest {
+
+    @Mock
+    private LoggerPort logger;
+    @Mock
+    private ServerInterceptor authInterceptor;
+
+    private GrpcServerProperties properties;
+    private GrpcServerLifecycle lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GrpcServerProperties();
+        properties.setPort(0);
+        lifecycle = new GrpcServerLifecycle(properties, List.of(), authInterceptor, logger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lifecycle.stop();
+    }
+
+    @Test
+    void shouldBeDisabledWithTlsRequiredByDefault() {
+        GrpcServerProperties defaults = new GrpcServerProperties();
+
+        assertFalse(defaults.isEnabled());
+        assertTrue(defaults.getTransportSecurity().isEnabled());
+    }
+
+    @Test
+    void shouldRefuseToStartWithTlsButNoCertificate() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, lifecycle::start);
+        assertFalse(lifecycle.isRunning());
+    }
+
+    @Test
+    void shouldStartInPlaintextOnlyWhenTlsIsExplicitlyDisabled() {
+        // Arrange
+        properties.getTransportSecurity().setEnabled(false);
+
+        // Act
+        lifecycle.start();
+
+        // Assert
+        assertTrue(lifecycle.isRunning());
+        assertInstanceOf(InsecureServerCredentials.class, GrpcServerLifecycle.credentials(properties.getTransportSecurity()));
+        verify(logger).warn(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,192 @@
+package co.com.pragma.grpc.service;
+
+import co.com.pragma.grpc.proto.FindUsersRequest;
+import co.com.pragma.grpc.proto.GetUserByEmailRequest;
+import co.com.pragma.grpc.proto.UserLookupServiceGrpc;
+import co.com.pragma.grpc.proto.UserReply;
+import co.com.pragma.grpc.proto.ValidateTokenReply;
+import co.com.pragma.grpc.proto.ValidateTokenRequest;
+import co.com.pragma.grpc.security.CallerIdentity;
+import co.com.pragma.grpc.security.JwtServerInterceptor;
+import co.com.pragma.grpc.security.TokenVerifier;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.User;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupGrpcServiceTest {
+
+    private static final String ADVISOR_TOKEN = "advisor-token";
+    private static final String CLIENT_TOKEN = "client-token";
+
+    @Mock
+    private UserUseCase useCase;
+    @Mock
+    private TokenVerifier tokenVerifier;
+    @Mock
+    private LoggerPort logger;
+
+    private Server server;
+    private ManagedChannel channel;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        UserLookupGrpcService service = new UserLookupGrpcService(useCase, tokenVerifier, logger);
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, new JwtServerInterceptor(tokenVerifier)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        user = new User("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                null, 3, 2500000.0, "hash");
+        lenient().when(tokenVerifier.verify(ADVISOR_TOKEN))
+                .thenReturn(Optional.of(new CallerIdentity("asesor@example.com", List.of("ADVISOR"))));
+        lenient().when(tokenVerifier.verify(CLIENT_TOKEN))
+                .thenReturn(Optional.of(new CallerIdentity("cliente@example.com", List.of("ROLE_CLIENT"))));
+        lenient().when(logger.maskEmail(anyString())).thenReturn("***");
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnUserForAuthorizedCaller() {
+        // Arrange
+        when(useCase.getUserByEmail("ana@example.com")).thenReturn(Mono.just(user));
+
+        // Act
+        UserReply reply = stub(ADVISOR_TOKEN).getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail("ana@example.com").build());
+
+        // Assert
+        assertEquals("id-1", reply.getId());
+        assertEquals("1990-05-20", reply.getBirthDate());
+        assertEquals(3, reply.getRoleId());
+        assertEquals("", reply.getPhone());
+    }
+
+    @Test
+    void shouldReportNotFound() {
+        // Arrange
+        when(useCase.getUserByEmail("nadie@example.com")).thenReturn(Mono.empty());
+
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> stub(ADVISOR_TOKEN)
+                .getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail("nadie@example.com").build()));
+
+        // Assert
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    @Test
+    void shouldReportUnavailableWhenDatabaseIsDown() {
+        // Arrange
+        when(useCase.getUserByEmail("ana@example.com")).thenReturn(Mono.error(
+                new DataSourceUnavailableException("getUserByEmail", new TimeoutException("plazo agotado"))));
+
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> stub(ADVISOR_TOKEN)
+                .getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail("ana@example.com").build()));
+
+        // Assert
+        assertEquals(Status.Code.UNAVAILABLE, error.getStatus().getCode());
+    }
+
+    @Test
+    void shouldRejectCallWithoutToken() {
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> UserLookupServiceGrpc.newBlockingStub(channel)
+                .getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail("ana@example.com").build()));
+
+        // Assert
+        assertEquals(Status.Code.UNAUTHENTICATED, error.getStatus().getCode());
+        verifyNoInteractions(useCase);
+    }
+
+    @Test
+    void shouldLetClientReadOnlyOwnUser() {
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> stub(CLIENT_TOKEN)
+                .getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail("ana@example.com").build()));
+
+        // Assert
+        assertEquals(Status.Code.PERMISSION_DENIED, error.getStatus().getCode());
+        verifyNoInteractions(useCase);
+    }
+
+    @Test
+    void shouldStreamEveryMatchingUser() {
+        // Arrange
+        when(useCase.getUserByEmailOrIdentityDocument(null, "123")).thenReturn(Flux.just(user, user));
+
+        // Act
+        List<UserReply> replies = new ArrayList<>();
+        stub(CLIENT_TOKEN).findUsers(FindUsersRequest.newBuilder().setIdentityDocument("123").build()).forEachRemaining(replies::add);
+
+        // Assert
+        assertEquals(2, replies.size());
+    }
+
+    @Test
+    void shouldValidateTokenWithoutCallerCredentials() {
+        // Arrange
+        when(tokenVerifier.verify("otro-token")).thenReturn(Optional.empty());
+
+        // Act
+        UserLookupServiceGrpc.UserLookupServiceBlockingStub anonymous = UserLookupServiceGrpc.newBlockingStub(channel);
+        ValidateTokenReply valid = anonymous.validateToken(ValidateTokenRequest.newBuilder().setToken(ADVISOR_TOKEN).build());
+        ValidateTokenReply invalid = anonymous.validateToken(ValidateTokenRequest.newBuilder().setToken("otro-token").build());
+
+        // Assert
+        assertTrue(valid.getValid());
+        assertEquals("asesor@example.com", valid.getEmail());
+        assertEquals(List.of("ADVISOR"), valid.getRolesList());
+        assertFalse(invalid.getValid());
+    }
+
+    private UserLookupServiceGrpc.UserLookupServiceBlockingStub stub(String token) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return UserLookupServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
@@ -3,32 +3,39 @@ package co.com.pragma.api;
 import co.com.pragma.api.dto.request.UserRequestRecord;
 import co.com.pragma.api.exception.InvalidRequestException;
 import co.com.pragma.api.mapper.UserDTOMapper;
+import co.com.pragma.api.negotiation.ContentNegotiation;
+import co.com.pragma.api.validation.UserRequestValidator;
 import co.com.pragma.model.constants.ErrorMessages;
 import co.com.pragma.model.constants.QueryParameterConstants;
 import co.com.pragma.model.log.gateways.LoggerPort;
 import co.com.pragma.model.user.User;
 import co.com.pragma.usecase.user.UserUseCase;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 @Component
 public class Handler implements UserApi {
+    private static final ParameterizedTypeReference<List<User>> USER_LIST = new ParameterizedTypeReference<>() {
+    };
+
     private final LoggerPort logger;
 
     private final UserUseCase useCase;
     private final UserDTOMapper mapper;
-    private final Validator validator;
+    private final UserRequestValidator validator;
 
-    public Handler(LoggerPort logger, UserUseCase useCase, UserDTOMapper mapper, Validator validator) {
+    public Handler(LoggerPort logger, UserUseCase useCase, UserDTOMapper mapper, UserRequestValidator validator) {
         this.logger = logger;
         this.useCase = useCase;
         this.mapper = mapper;
@@ -45,7 +52,7 @@ public class Handler implements UserApi {
                 .map(mapper::toModel)
                 .flatMap(useCase::saveUser)
                 .flatMap(user -> ServerResponse.ok()
-                        .contentType(APPLICATION_JSON)
+                        .contentType(ContentNegotiation.select(serverRequest.headers().accept()))
                         .bodyValue(mapper.toResponse(user)));
     }
 
@@ -55,10 +62,11 @@ public class Handler implements UserApi {
         return serverRequest.queryParam(QueryParameterConstants.EMAIL)
                 .map(email -> {
                     logger.info("Recibida petición para obtener usuario por email: {}", logger.maskEmail(email));
-                    return useCase.getUserByEmail(email)
+                    // Consulta de solo lectura: con la base de datos caída puede responder la última copia conocida
+                    return useCase.getUserProfileByEmail(email)
                             .map(mapper::toResponse) // Use instance method reference
                             .flatMap(response -> ServerResponse.ok()
-                                    .contentType(APPLICATION_JSON)
+                                    .contentType(ContentNegotiation.select(serverRequest.headers().accept()))
                                     .bodyValue(response))
                             .switchIfEmpty(ServerResponse.notFound().build()); // Handle user not found
                 })
@@ -74,17 +82,28 @@ public class Handler implements UserApi {
                 .flatMap(req -> {
                     String email = req.queryParam(QueryParameterConstants.EMAIL).orElse(null);
                     String identityDocument = req.queryParam(QueryParameterConstants.IDENTITY_DOCUMENT).orElse(null);
-                    return ServerResponse.ok()
-                            .contentType(APPLICATION_JSON)
-                            .body(useCase.getUserByEmailOrIdentityDocument(email, identityDocument), User.class);
+                    return usersResponse(ContentNegotiation.select(req.headers().accept()),
+                            useCase.getUserByEmailOrIdentityDocument(email, identityDocument));
                 })
                 .switchIfEmpty(ServerResponse.badRequest()
                         .bodyValue("{\"error\": \"" + ErrorMessages.EMAIL_OR_DOCUMENT_REQUIRED + "\"}"));
     }
 
+    // Los codecs binarios no escriben secuencias de objetos: la lista se agrega antes de codificarla
+    private Mono<ServerResponse> usersResponse(MediaType mediaType, Flux<User> users) {
+        if (ContentNegotiation.isBinary(mediaType)) {
+            return ServerResponse.ok()
+                    .contentType(mediaType)
+                    .body(users.collectList(), USER_LIST);
+        }
+        return ServerResponse.ok()
+                .contentType(APPLICATION_JSON)
+                .body(users, User.class);
+    }
+
     // This method validates the UserRequestRecord DTO for the save operation.
     private Mono<UserRequestRecord> validateRequest(UserRequestRecord request) {
-        Set<ConstraintViolation<UserRequestRecord>> violations = validator.validate(request);
+        Map<String, String> violations = validator.validate(request);
         if (violations.isEmpty()) {
             return Mono.just(request);
         }
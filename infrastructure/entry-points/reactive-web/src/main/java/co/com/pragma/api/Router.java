@@ -1,11 +1,21 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.auth.AuthHandler;
+import co.com.pragma.api.auth.AuthRequest;
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.api.negotiation.ContentNegotiation;
 import co.com.pragma.model.constants.ApiConstants;
 import co.com.pragma.model.constants.HttpConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springdoc.core.annotations.RouterOperation;
 import org.springdoc.core.annotations.RouterOperations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -20,12 +30,13 @@ public class Router {
     // Method names for documentation
     public static final String SAVE_USE_CASE = "saveUseCase";
     public static final String GET_USER_BY_EMAIL = "getUserByEmail";
+    public static final String LOGIN = "login";
 
     @Bean
     @RouterOperations(
             {
-                    @RouterOperation(path = ApiConstants.USERS_ENDPOINT, produces = HttpConstants.APPLICATION_JSON, method = RequestMethod.POST, beanClass = Handler.class, beanMethod = SAVE_USE_CASE),
-                    @RouterOperation(path = ApiConstants.USERS_ENDPOINT, produces = HttpConstants.APPLICATION_JSON, method = RequestMethod.GET, beanClass = Handler.class, beanMethod = GET_USER_BY_EMAIL)
+                    @RouterOperation(path = ApiConstants.USERS_ENDPOINT, produces = {HttpConstants.APPLICATION_JSON, MediaType.APPLICATION_CBOR_VALUE, ContentNegotiation.APPLICATION_SMILE_VALUE}, method = RequestMethod.POST, beanClass = Handler.class, beanMethod = SAVE_USE_CASE),
+                    @RouterOperation(path = ApiConstants.USERS_ENDPOINT, produces = {HttpConstants.APPLICATION_JSON, MediaType.APPLICATION_CBOR_VALUE, ContentNegotiation.APPLICATION_SMILE_VALUE}, method = RequestMethod.GET, beanClass = Handler.class, beanMethod = GET_USER_BY_EMAIL)
             }
 
     )
@@ -34,4 +45,21 @@ public class Router {
                 .and(route(GET(ApiConstants.USERS_ENDPOINT), handler::getUserByEmail))
                 .andRoute(GET(ApiConstants.USERS_SEARCH_ENDPOINT), handler::getUserByEmailOrIdentityDocument);
     }
-}
\ No newline at end of file
+
+    @Bean
+    @RouterOperation(path = ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH,
+            produces = {HttpConstants.APPLICATION_JSON, MediaType.APPLICATION_CBOR_VALUE, ContentNegotiation.APPLICATION_SMILE_VALUE},
+            method = RequestMethod.POST, beanClass = AuthHandler.class, beanMethod = LOGIN,
+            operation = @Operation(
+                    operationId = LOGIN,
+                    summary = "Iniciar sesión",
+                    requestBody = @RequestBody(required = true, content = @Content(schema = @Schema(implementation = AuthRequest.class))),
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Token emitido", content = @Content(schema = @Schema(implementation = LoginResponseRecord.class))),
+                            @ApiResponse(responseCode = "401", description = "Credenciales inválidas", content = @Content(schema = @Schema(implementation = LoginResponseRecord.class)))
+                    }
+            ))
+    public RouterFunction<ServerResponse> authRoutes(AuthHandler authHandler) {
+        return route(POST(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH), authHandler::login);
+    }
+}
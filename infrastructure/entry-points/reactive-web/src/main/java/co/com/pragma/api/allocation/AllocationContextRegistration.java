@@ -0,0 +1,43 @@
+package co.com.pragma.api.allocation;
+
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshot;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Registra el {@link AllocationThreadLocalAccessor} y el hook de {@code Schedulers} que propaga la petición a las
+ * tareas planificadas. Ambos son estado global del proceso: se deshacen al cerrar el contexto para que un contexto
+ * nuevo (tests, reinicios de devtools) no herede un accesor o un hook del anterior.
+ */
+public class AllocationContextRegistration implements InitializingBean, DisposableBean {
+
+    public static final String SCHEDULE_HOOK_KEY = RequestAllocations.CONTEXT_KEY;
+
+    private final AllocationThreadLocalAccessor accessor;
+    private final ContextRegistry registry;
+
+    public AllocationContextRegistration(AllocationThreadLocalAccessor accessor, ContextRegistry registry) {
+        this.accessor = accessor;
+        this.registry = registry;
+    }
+
+    public AllocationThreadLocalAccessor getAccessor() {
+        return accessor;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        registry.registerThreadLocalAccessor(accessor);
+        Schedulers.onScheduleHook(SCHEDULE_HOOK_KEY, task -> ContextSnapshot
+                .captureAllUsing(RequestAllocations.CONTEXT_KEY::equals, registry)
+                .wrap(task));
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.resetOnScheduleHook(SCHEDULE_HOOK_KEY);
+        registry.removeThreadLocalAccessor(RequestAllocations.CONTEXT_KEY);
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.pragma.api.allocation;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Atribuye a cada {@link RequestAllocations} lo que el hilo asignó mientras la petición estuvo activa en él.
+ * Con la propagación automática de Reactor, el {@code ThreadLocal} se restaura cada vez que la petición
+ * continúa en otro hilo (event loop HTTP, loop de R2DBC, boundedElastic) y se limpia al salir: en cada cambio
+ * se cierra el tramo en curso con la diferencia del contador de bytes asignados del hilo, que es monótono
+ * por hilo, y se abre el siguiente. La suma de tramos es exacta aunque la petición salte entre hilos.
+ */
+public class AllocationThreadLocalAccessor implements ThreadLocalAccessor<RequestAllocations> {
+
+    private final ThreadLocal<Segment> current = new ThreadLocal<>();
+    private final LongSupplier currentThreadAllocatedBytes;
+
+    public AllocationThreadLocalAccessor(LongSupplier currentThreadAllocatedBytes) {
+        this.currentThreadAllocatedBytes = currentThreadAllocatedBytes;
+    }
+
+    @Override
+    public Object key() {
+        return RequestAllocations.CONTEXT_KEY;
+    }
+
+    @Override
+    public RequestAllocations getValue() {
+        Segment segment = current.get();
+        return null == segment ? null : segment.allocations;
+    }
+
+    @Override
+    public void setValue(RequestAllocations value) {
+        switchTo(value);
+    }
+
+    @Override
+    public void restore(RequestAllocations previousValue) {
+        switchTo(previousValue);
+    }
+
+    // Se invoca tanto al entrar en un ámbito sin el valor como al salir de uno sin valor previo
+    @Override
+    public void reset() {
+        switchTo(null);
+    }
+
+    /**
+     * Suma a {@code allocations} el tramo abierto en este hilo, si le pertenece, y lo reinicia desde ahora.
+     * Se usa al terminar la petición, antes de que el ámbito actual se cierre.
+     */
+    public void checkpoint(RequestAllocations allocations) {
+        Segment segment = current.get();
+        if (null != segment && segment.allocations == allocations) {
+            long now = currentThreadAllocatedBytes.getAsLong();
+            allocations.add(now - segment.start);
+            segment.start = now;
+        }
+    }
+
+    private void switchTo(RequestAllocations next) {
+        Segment segment = current.get();
+        if (null == segment && null == next) {
+            return; // Peticiones no muestreadas: no se lee el contador
+        }
+        long now = currentThreadAllocatedBytes.getAsLong();
+        if (null != segment) {
+            segment.allocations.add(now - segment.start);
+        }
+        if (null == next) {
+            current.remove();
+        } else if (null == segment) {
+            current.set(new Segment(next, now));
+        } else {
+            segment.allocations = next;
+            segment.start = now;
+        }
+    }
+
+    private static final class Segment {
+
+        private RequestAllocations allocations;
+        private long start;
+
+        private Segment(RequestAllocations allocations, long start) {
+            this.allocations = allocations;
+            this.start = start;
+        }
+    }
+}
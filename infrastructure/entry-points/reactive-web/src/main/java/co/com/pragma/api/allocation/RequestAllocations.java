@@ -0,0 +1,25 @@
+package co.com.pragma.api.allocation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bytes asignados por una petición muestreada, sumados sobre todos los hilos que la atendieron.
+ * Viaja en el {@code Context} de Reactor bajo {@link #CONTEXT_KEY}; {@link AllocationThreadLocalAccessor}
+ * le suma cada tramo de ejecución en un hilo.
+ */
+public final class RequestAllocations {
+
+    public static final String CONTEXT_KEY = RequestAllocations.class.getName();
+
+    private final LongAdder bytes = new LongAdder();
+
+    void add(long allocatedBytes) {
+        if (allocatedBytes > 0) {
+            bytes.add(allocatedBytes);
+        }
+    }
+
+    public long bytes() {
+        return bytes.sum();
+    }
+}
@@ -0,0 +1,131 @@
+package co.com.pragma.api.auth;
+
+import co.com.pragma.api.auth.strategy.RoleStrategyContext;
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.api.negotiation.ContentNegotiation;
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
+import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.security.util.JWTUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static co.com.pragma.model.metrics.OperationMetrics.OPERATION_LOGIN;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_BAD_CREDENTIALS;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_ERROR;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_SUCCESS;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_UNKNOWN_USER;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_DB;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_HASH;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_ROLES;
+import static co.com.pragma.model.metrics.OperationMetrics.PHASE_SIGN;
+
+/**
+ * Login expuesto como ruta funcional (ver {@code Router#authRoutes}).
+ * El cuerpo se decodifica directamente con {@link ServerRequest#bodyToMono(Class)}; un cuerpo vacío o mal formado
+ * termina en el {@code GlobalExceptionHandler} con 400, igual que con el antiguo {@code @RequestBody}.
+ * Si la base de datos no está disponible el login falla cerrado con 503: nunca se valida contra datos en caché.
+ */
+@Component
+public class AuthHandler {
+
+    static final String SERVICE_UNAVAILABLE_MESSAGE = "El servicio de autenticación no está disponible temporalmente.";
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    private final JWTUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final PasswordEncryptor passwordEncryptor;
+    private final LoggerPort logger;
+    private final RoleStrategyContext roleStrategyContext;
+    private final OperationMetricsPort operationMetrics;
+
+    public AuthHandler(JWTUtil jwtUtil, UserRepository userRepository, PasswordEncryptor passwordEncryptor,
+                       LoggerPort logger, RoleStrategyContext roleStrategyContext, OperationMetricsPort operationMetrics) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.passwordEncryptor = passwordEncryptor;
+        this.logger = logger;
+        this.roleStrategyContext = roleStrategyContext;
+        this.operationMetrics = operationMetrics;
+    }
+
+    public Mono<ServerResponse> login(ServerRequest serverRequest) {
+        MediaType mediaType = ContentNegotiation.select(serverRequest.headers().accept());
+        return serverRequest.bodyToMono(AuthRequest.class)
+                .switchIfEmpty(Mono.error(new ServerWebInputException(ErrorMessages.INVALID_REQUEST_BODY)))
+                .flatMap(authRequest -> authenticate(authRequest, mediaType));
+    }
+
+    private Mono<ServerResponse> authenticate(AuthRequest authRequest, MediaType mediaType) {
+        logger.info("Login attempt for username: {}", authRequest.username());
+        return operationMetrics.timePhase(OPERATION_LOGIN, PHASE_DB, userRepository.getUserByEmail(authRequest.username()))
+                .doOnNext(user -> logger.debug("User found: {}", user.email()))
+                .switchIfEmpty(Mono.fromRunnable(() -> operationMetrics.recordOutcome(OPERATION_LOGIN, OUTCOME_UNKNOWN_USER)))
+                .filterWhen(user -> operationMetrics.timePhase(OPERATION_LOGIN, PHASE_HASH,
+                                Mono.fromCallable(() -> passwordEncryptor.matches(authRequest.password(), user.password())))
+                        .doOnNext(matches -> {
+                            logger.debug("Password match for user {}: {}", user.email(), matches);
+                            if (!matches) {
+                                operationMetrics.recordOutcome(OPERATION_LOGIN, OUTCOME_BAD_CREDENTIALS);
+                            }
+                        }))
+                .flatMap(user -> {
+                    logger.debug("Mapping roles for user: {}", user.email());
+                    return operationMetrics.timePhase(OPERATION_LOGIN, PHASE_ROLES, Mono.fromCallable(() -> mapRoleIdToRoleName(user.roleId())))
+                            .flatMap(roles -> {
+                                logger.debug("Roles mapped: {}", roles);
+                                return operationMetrics.timePhase(OPERATION_LOGIN, PHASE_SIGN, Mono.fromCallable(() -> jwtUtil.generateToken(user.email(), roles)));
+                            })
+                            .flatMap(token -> {
+                                if (logger.isInfoEnabled()) {
+                                    logger.info("Token generated for user {}: {}", user.email(), token.substring(0, Math.min(token.length(), 20)) + "...");
+                                }
+                                operationMetrics.recordOutcome(OPERATION_LOGIN, OUTCOME_SUCCESS);
+                                return respond(HttpStatus.OK, mediaType, LoginResponseRecord.ofToken(token));
+                            });
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    logger.warn("Login failed for username: {}. Invalid credentials.", authRequest.username());
+                    return respond(HttpStatus.UNAUTHORIZED, mediaType, LoginResponseRecord.ofError(ErrorMessages.INVALID_CREDENTIALS));
+                }))
+                .onErrorResume(DataSourceUnavailableException.class, e -> {
+                    logger.warn("Login unavailable for username {}: {}", authRequest.username(), e.getMessage());
+                    operationMetrics.recordOutcome(OPERATION_LOGIN, OUTCOME_ERROR);
+                    return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                            .contentType(mediaType)
+                            .bodyValue(LoginResponseRecord.ofError(SERVICE_UNAVAILABLE_MESSAGE));
+                })
+                .onErrorResume(e -> {
+                    logger.error("An unexpected error occurred during login for username {}: {}", e);
+                    operationMetrics.recordOutcome(OPERATION_LOGIN, OUTCOME_ERROR);
+                    return respond(HttpStatus.INTERNAL_SERVER_ERROR, mediaType, LoginResponseRecord.ofError(ErrorMessages.INTERNAL_SERVER_ERROR));
+                });
+    }
+
+    private Mono<ServerResponse> respond(HttpStatus status, MediaType mediaType, LoginResponseRecord body) {
+        return ServerResponse.status(status)
+                .contentType(mediaType)
+                .bodyValue(body);
+    }
+
+    private List<String> mapRoleIdToRoleName(Integer roleId) {
+        logger.debug("Mapping roles for roleId: {}", roleId);
+        if (null == roleId) {
+            logger.debug("Role ID is null, returning empty roles list.");
+            return List.of();
+        }
+        return roleStrategyContext.getRolesForUser(roleId);
+    }
+}
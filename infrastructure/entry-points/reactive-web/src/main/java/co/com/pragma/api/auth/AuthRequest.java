@@ -0,0 +1,7 @@
+package co.com.pragma.api.auth;
+
+public record AuthRequest(
+        String username,
+        String password
+) {
+}
@@ -0,0 +1,38 @@
+package co.com.pragma.api.concurrency;
+
+import co.com.pragma.model.constants.ApiConstants;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.util.Optional;
+
+/**
+ * Grupos de rutas con presupuesto de concurrencia propio. La clasificación se hace sobre el método y la ruta
+ * de la petición, antes de que Spring resuelva el handler, para poder rechazar sin tocar seguridad ni negocio.
+ */
+public enum RouteGroup {
+    LOGIN,
+    USER_WRITES,
+    USER_READS;
+
+    private static final String LOGIN_ENDPOINT = ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH;
+
+    /**
+     * Nombre del grupo en configuración y en las etiquetas de métricas, p. ej. {@code user-writes}.
+     */
+    public String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static Optional<RouteGroup> classify(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        HttpMethod method = request.getMethod();
+        if (LOGIN_ENDPOINT.equals(path)) {
+            return HttpMethod.POST.equals(method) ? Optional.of(LOGIN) : Optional.empty();
+        }
+        if (path.equals(ApiConstants.USERS_SEARCH_ENDPOINT) || path.startsWith(ApiConstants.USERS_ENDPOINT)) {
+            return HttpMethod.GET.equals(method) ? Optional.of(USER_READS) : Optional.of(USER_WRITES);
+        }
+        return Optional.empty();
+    }
+}
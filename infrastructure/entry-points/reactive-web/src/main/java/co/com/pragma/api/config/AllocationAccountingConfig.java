@@ -0,0 +1,55 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.allocation.AllocationContextRegistration;
+import co.com.pragma.api.allocation.AllocationThreadLocalAccessor;
+import co.com.pragma.api.filter.AllocationAccountingWebFilter;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.reactor.ReactorProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Contabilidad opcional de asignaciones por petición. Requiere {@code spring.reactor.context-propagation=auto}
+ * (propagación automática de contexto de Reactor, la activa Spring Boot) para que {@link AllocationThreadLocalAccessor}
+ * vea cada salto de hilo, y envuelve las tareas de los {@code Scheduler} para que el trabajo en boundedElastic
+ * también se atribuya a la petición. Ambos registros son globales y los deshace {@link AllocationContextRegistration}
+ * al cerrar el contexto.
+ */
+@Configuration
+@EnableConfigurationProperties(AllocationAccountingProperties.class)
+@ConditionalOnProperty(prefix = "web.allocation-accounting", name = "enabled", havingValue = "true")
+public class AllocationAccountingConfig {
+
+    @Bean
+    public AllocationContextRegistration allocationContextRegistration(ReactorProperties reactorProperties) {
+        if (ReactorProperties.ContextPropagationMode.AUTO != reactorProperties.getContextPropagation()) {
+            throw new IllegalStateException("web.allocation-accounting requiere spring.reactor.context-propagation=auto");
+        }
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        AllocationThreadLocalAccessor accessor = new AllocationThreadLocalAccessor(threads::getCurrentThreadAllocatedBytes);
+        return new AllocationContextRegistration(accessor, ContextRegistry.getInstance());
+    }
+
+    @Bean
+    public AllocationAccountingWebFilter allocationAccountingWebFilter(AllocationContextRegistration registration,
+                                                                       MeterRegistry meterRegistry,
+                                                                       AllocationAccountingProperties properties) {
+        return new AllocationAccountingWebFilter(registration.getAccessor(), meterRegistry, properties.getSampleRate());
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("web.allocation-accounting requiere una JVM que mida la memoria asignada por hilo");
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
@@ -0,0 +1,30 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "web.allocation-accounting")
+public class AllocationAccountingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Fracción de peticiones cuyas asignaciones se contabilizan.
+     */
+    private double sampleRate = 0.1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
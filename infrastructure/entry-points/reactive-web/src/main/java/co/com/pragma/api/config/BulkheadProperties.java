@@ -0,0 +1,53 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.concurrency.RouteGroup;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Presupuesto fijo de concurrencia por bulkhead. El tamaño de la partición del pool
+ * ({@code pool-size}) se declara en el mismo bloque y lo lee el adaptador R2DBC.
+ */
+@ConfigurationProperties(prefix = "security.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Map<RouteGroup, Group> groups = new EnumMap<>(RouteGroup.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<RouteGroup, Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<RouteGroup, Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Configuración del bulkhead, o los valores por defecto si no está declarado en application.yaml.
+     */
+    public Group group(RouteGroup routeGroup) {
+        return groups.getOrDefault(routeGroup, new Group());
+    }
+
+    public static class Group {
+        private int maxConcurrentCalls = 25;
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+    }
+}
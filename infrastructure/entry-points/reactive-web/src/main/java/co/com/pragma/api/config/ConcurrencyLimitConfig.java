@@ -0,0 +1,19 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.filter.ConcurrencyLimitWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitWebFilter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.serialization.ApiSerializationModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Módulos de Jackson para la capa web. Spring Boot los registra en el {@code ObjectMapper} autoconfigurado,
+ * que es el mismo que usan los codecs de WebFlux y el {@code GlobalExceptionHandler}.
+ */
+@Configuration
+public class JacksonSerializationConfig {
+
+    /**
+     * Reemplaza el acceso reflexivo a getters/accessors de records por lambdas generadas en tiempo de ejecución.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module apiSerializationModule() {
+        return new ApiSerializationModule();
+    }
+}
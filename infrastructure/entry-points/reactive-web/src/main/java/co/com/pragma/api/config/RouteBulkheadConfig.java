@@ -0,0 +1,40 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.concurrency.RouteGroup;
+import co.com.pragma.api.filter.BulkheadWebFilter;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "security.bulkheads", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RouteBulkheadConfig {
+
+    @Bean
+    public BulkheadRegistry routeBulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        for (RouteGroup group : RouteGroup.values()) {
+            registry.bulkhead(group.key(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(properties.group(group).getMaxConcurrentCalls())
+                    // Sin espera: esperar un permiso bloquearía el event loop
+                    .maxWaitDuration(Duration.ZERO)
+                    .build());
+        }
+        // Llamadas disponibles y máximas por bulkhead
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadWebFilter bulkheadWebFilter(BulkheadRegistry routeBulkheadRegistry, MeterRegistry meterRegistry) {
+        return new BulkheadWebFilter(routeBulkheadRegistry, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.filter.ServerTimingWebFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingConfig {
+
+    @Bean
+    public ServerTimingWebFilter serverTimingWebFilter(ServerTimingProperties properties) {
+        return new ServerTimingWebFilter(properties);
+    }
+}
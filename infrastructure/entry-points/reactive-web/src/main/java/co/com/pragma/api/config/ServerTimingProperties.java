@@ -0,0 +1,46 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "web.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Añade la cabecera a todas las respuestas de login y usuarios.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cabecera con la que un cliente de confianza (gateway, front-end en pruebas) la pide por petición.
+     */
+    private String trustedHeader = "X-Server-Timing-Token";
+
+    /**
+     * Valor esperado en {@link #trustedHeader}; sin valor configurado solo aplica {@link #enabled}.
+     */
+    private String trustedToken;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getTrustedHeader() {
+        return trustedHeader;
+    }
+
+    public void setTrustedHeader(String trustedHeader) {
+        this.trustedHeader = trustedHeader;
+    }
+
+    public String getTrustedToken() {
+        return trustedToken;
+    }
+
+    public void setTrustedToken(String trustedToken) {
+        this.trustedToken = trustedToken;
+    }
+}
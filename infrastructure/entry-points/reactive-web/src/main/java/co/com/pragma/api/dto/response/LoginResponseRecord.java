@@ -0,0 +1,19 @@
+package co.com.pragma.api.dto.response;
+
+/**
+ * Respuesta del login: contiene el token emitido o el mensaje de error, nunca ambos.
+ * Se serializa con un esquema fijo, ver {@code LoginResponseSerializer}.
+ */
+public record LoginResponseRecord(
+        String token,
+        String error
+) {
+
+    public static LoginResponseRecord ofToken(String token) {
+        return new LoginResponseRecord(token, null);
+    }
+
+    public static LoginResponseRecord ofError(String error) {
+        return new LoginResponseRecord(null, error);
+    }
+}
@@ -0,0 +1,44 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.exception.strategy.ExceptionHandlerStrategy;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resuelve la estrategia de manejo para cada tipo de excepción una sola vez y la memoriza por clase.
+ * La primera estrategia que soporta el tipo, según el orden definido con {@code @Order}, es la elegida;
+ * las siguientes excepciones del mismo tipo se despachan sin recorrer la lista de estrategias.
+ */
+public final class ExceptionStrategyResolver {
+
+    private final List<ExceptionHandlerStrategy> strategies;
+
+    private final ClassValue<ExceptionHandlerStrategy> resolved = new ClassValue<>() {
+        @Override
+        protected ExceptionHandlerStrategy computeValue(Class<?> type) {
+            return scan(type.asSubclass(Throwable.class));
+        }
+    };
+
+    public ExceptionStrategyResolver(List<ExceptionHandlerStrategy> strategies) {
+        // Spring ya entrega la lista ordenada, pero se reordena para no depender del punto de inyección
+        List<ExceptionHandlerStrategy> ordered = new ArrayList<>(strategies);
+        AnnotationAwareOrderComparator.sort(ordered);
+        this.strategies = List.copyOf(ordered);
+    }
+
+    public ExceptionHandlerStrategy resolve(Class<? extends Throwable> type) {
+        return resolved.get(type);
+    }
+
+    private ExceptionHandlerStrategy scan(Class<? extends Throwable> type) {
+        for (ExceptionHandlerStrategy strategy : strategies) {
+            if (strategy.supports(type)) {
+                return strategy;
+            }
+        }
+        throw new IllegalStateException("No se encontró un manejador de excepciones por defecto.");
+    }
+}
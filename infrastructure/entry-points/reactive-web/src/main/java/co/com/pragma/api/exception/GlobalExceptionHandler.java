@@ -1,50 +1,73 @@
 package co.com.pragma.api.exception;
 
+import co.com.pragma.api.exception.dto.ErrorBody;
 import co.com.pragma.api.exception.strategy.ExceptionHandlerStrategy;
 import co.com.pragma.model.log.gateways.LoggerPort;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Order(-2) // Se asegura de que se ejecute antes que el manejador de errores por defecto de Spring
 public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
 
     private final LoggerPort logger;
-    private final ObjectMapper objectMapper;
-    private final List<ExceptionHandlerStrategy> strategies;
+    // Writer resuelto una vez para ErrorBody: evita buscar el serializador raíz en cada error
+    private final ObjectWriter errorBodyWriter;
+    private final ExceptionStrategyResolver strategyResolver;
+    // Cuerpos constantes ya serializados; el conjunto es acotado porque solo entran los marcados como estáticos
+    private final Map<ErrorBody, byte[]> encodedStaticBodies = new ConcurrentHashMap<>();
 
     public GlobalExceptionHandler(LoggerPort logger, ObjectMapper objectMapper, List<ExceptionHandlerStrategy> strategies) {
         this.logger = logger;
-        this.objectMapper = objectMapper;
-        this.strategies = strategies;
+        this.errorBodyWriter = objectMapper.writerFor(ErrorBody.class);
+        this.strategyResolver = new ExceptionStrategyResolver(strategies);
     }
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        // Encuentra la primera estrategia que soporta el tipo de excepción
-        return strategies.stream()
-                .filter(strategy -> strategy.supports(ex.getClass()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No se encontró un manejador de excepciones por defecto."))
+        // La primera estrategia que soporta el tipo de excepción, memorizada por clase
+        return strategyResolver.resolve(ex.getClass())
                 .handle(ex, exchange)
                 .flatMap(errorWrapper -> {
-                    exchange.getResponse().setStatusCode(errorWrapper.httpStatus());
-                    exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(errorWrapper.httpStatus());
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
                     try {
-                        byte[] bytes = objectMapper.writeValueAsBytes(errorWrapper.body());
-                        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
+                        DataBuffer buffer = errorWrapper.staticBody()
+                                ? sharedBuffer(response, errorWrapper.body())
+                                : response.bufferFactory().wrap(errorBodyWriter.writeValueAsBytes(errorWrapper.body()));
+                        return response.writeWith(Mono.just(buffer));
                     } catch (JsonProcessingException e) {
                         logger.error("Error escribiendo la respuesta de error en formato JSON", e);
                         return Mono.error(e);
                     }
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * Envuelve los bytes pre-serializados en una vista de solo lectura: cada respuesta obtiene su propio
+     * {@link DataBuffer} (con su propia posición) sin copiar ni volver a serializar el contenido.
+     */
+    private DataBuffer sharedBuffer(ServerHttpResponse response, ErrorBody body) throws JsonProcessingException {
+        byte[] bytes = encodedStaticBodies.get(body);
+        if (bytes == null) {
+            bytes = errorBodyWriter.writeValueAsBytes(body);
+            encodedStaticBodies.putIfAbsent(body, bytes);
+        }
+        return response.bufferFactory().wrap(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+}
@@ -1,23 +1,21 @@
 package co.com.pragma.api.exception;
 
-import jakarta.validation.ConstraintViolation;
-
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Excepción para solicitudes inválidas debido a errores de validación.
- * Incluye el conjunto de violaciones de restricciones.
+ * Incluye las violaciones de restricciones como campo → mensaje.
  */
 public class InvalidRequestException extends RuntimeException {
-    private final Set<? extends ConstraintViolation<?>> violations;
+    private final Map<String, String> violations;
 
-    public InvalidRequestException(String message, Set<? extends ConstraintViolation<?>> violations) {
+    public InvalidRequestException(String message, Map<String, String> violations) {
         super(message);
         this.violations = violations;
     }
 
 
-    public Set<? extends ConstraintViolation<?>> getViolations() {
+    public Map<String, String> getViolations() {
         return violations;
     }
-}
\ No newline at end of file
+}
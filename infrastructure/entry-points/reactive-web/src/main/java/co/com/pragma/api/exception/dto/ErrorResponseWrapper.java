@@ -2,8 +2,23 @@ package co.com.pragma.api.exception.dto;
 
 import org.springframework.http.HttpStatus;
 
+/**
+ * Respuesta de error producida por una estrategia.
+ *
+ * @param staticBody {@code true} cuando el cuerpo no varía entre peticiones; en ese caso se serializa
+ *                   una sola vez y se reutiliza en las siguientes respuestas.
+ */
 public record ErrorResponseWrapper(
         HttpStatus httpStatus,
-        ErrorBody body
+        ErrorBody body,
+        boolean staticBody
 ) {
-}
\ No newline at end of file
+
+    public ErrorResponseWrapper(HttpStatus httpStatus, ErrorBody body) {
+        this(httpStatus, body, false);
+    }
+
+    public static ErrorResponseWrapper constant(HttpStatus httpStatus, ErrorBody body) {
+        return new ErrorResponseWrapper(httpStatus, body, true);
+    }
+}
@@ -20,6 +20,10 @@ import reactor.core.publisher.Mono;
 @Order(Ordered.HIGHEST_PRECEDENCE) // Se ejecutará antes que el DefaultExceptionHandler
 public class AccessDeniedExceptionHandler implements ExceptionHandlerStrategy {
 
+    private static final HttpStatus STATUS = HttpStatus.FORBIDDEN; // 403 para acceso denegado
+    private static final ErrorBody BODY = new ErrorBody(STATUS.value(), STATUS.getReasonPhrase(),
+            "Acceso denegado. No tiene los permisos necesarios para realizar esta acción.", null);
+
     private final LoggerPort logger;
 
     public AccessDeniedExceptionHandler(LoggerPort logger) {
@@ -33,12 +37,8 @@ public class AccessDeniedExceptionHandler implements ExceptionHandlerStrategy {
 
     @Override
     public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
-        final HttpStatus status = HttpStatus.FORBIDDEN; // 403 para acceso denegado
-        final String message = "Acceso denegado. No tiene los permisos necesarios para realizar esta acción.";
-
         logger.warn("Acceso denegado para la petición: {}", ex.getMessage());
 
-        ErrorBody body = new ErrorBody(status.value(), status.getReasonPhrase(), message, null);
-        return Mono.just(new ErrorResponseWrapper(status, body));
+        return Mono.just(ErrorResponseWrapper.constant(STATUS, BODY));
     }
 }
@@ -0,0 +1,45 @@
+package co.com.pragma.api.exception.strategy;
+
+import co.com.pragma.api.exception.dto.ErrorBody;
+import co.com.pragma.api.exception.dto.ErrorResponseWrapper;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Estrategia para {@link DataSourceUnavailableException}: la base de datos no está disponible y no hay
+ * copia que servir. Responde 503 con {@code Retry-After} en lugar del 500 genérico.
+ */
+@Component
+@Order(3)
+public class DataSourceUnavailableExceptionHandler implements ExceptionHandlerStrategy {
+
+    static final String RETRY_AFTER_SECONDS = "5";
+    private static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+    private static final ErrorBody BODY = new ErrorBody(STATUS.value(), STATUS.getReasonPhrase(),
+            "El servicio no está disponible temporalmente. Intente nuevamente en unos segundos.", null);
+
+    private final LoggerPort logger;
+
+    public DataSourceUnavailableExceptionHandler(LoggerPort logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public boolean supports(Class<? extends Throwable> type) {
+        return DataSourceUnavailableException.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
+        logger.warn("Base de datos no disponible en la operación {}: {}", ex.getMessage(), String.valueOf(ex.getCause()));
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+
+        return Mono.just(ErrorResponseWrapper.constant(STATUS, BODY));
+    }
+}
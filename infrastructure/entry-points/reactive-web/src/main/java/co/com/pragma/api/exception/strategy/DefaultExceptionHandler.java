@@ -14,6 +14,10 @@ import reactor.core.publisher.Mono;
 @Order(Ordered.LOWEST_PRECEDENCE) // Se ejecutará al final si ninguna otra estrategia coincide
 public class DefaultExceptionHandler implements ExceptionHandlerStrategy {
 
+    private static final HttpStatus STATUS = HttpStatus.INTERNAL_SERVER_ERROR;
+    private static final ErrorBody BODY = new ErrorBody(STATUS.value(), "Internal Server Error",
+            "Ocurrió un error inesperado. Por favor, contacte al soporte.", null);
+
     private final LoggerPort logger;
 
     public DefaultExceptionHandler(LoggerPort logger) {
@@ -27,12 +31,8 @@ public class DefaultExceptionHandler implements ExceptionHandlerStrategy {
 
     @Override
     public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
-        final HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         logger.error("Ocurrió una excepción no controlada para la petición", ex);
 
-        final String message = "Ocurrió un error inesperado. Por favor, contacte al soporte.";
-        ErrorBody body = new ErrorBody(status.value(), "Internal Server Error", message, null);
-
-        return Mono.just(new ErrorResponseWrapper(status, body));
+        return Mono.just(ErrorResponseWrapper.constant(STATUS, BODY));
     }
 }
\ No newline at end of file
@@ -19,6 +19,10 @@ import reactor.core.publisher.Mono;
 @Order(Ordered.HIGHEST_PRECEDENCE) // Se ejecutará antes que el DefaultExceptionHandler
 public class ExpiredJwtExceptionHandler implements ExceptionHandlerStrategy {
 
+    private static final HttpStatus STATUS = HttpStatus.UNAUTHORIZED; // 401 para token expirado
+    private static final ErrorBody BODY = new ErrorBody(STATUS.value(), STATUS.getReasonPhrase(),
+            "El token de autenticación ha expirado. Por favor, inicie sesión nuevamente.", null);
+
     private final LoggerPort logger;
 
     public ExpiredJwtExceptionHandler(LoggerPort logger) {
@@ -32,12 +36,8 @@ public class ExpiredJwtExceptionHandler implements ExceptionHandlerStrategy {
 
     @Override
     public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
-        final HttpStatus status = HttpStatus.UNAUTHORIZED; // 401 para token expirado
-        final String message = "El token de autenticación ha expirado. Por favor, inicie sesión nuevamente.";
-
         logger.warn("Token JWT expirado para la petición: {}", ex.getMessage());
 
-        ErrorBody body = new ErrorBody(status.value(), status.getReasonPhrase(), message, null);
-        return Mono.just(new ErrorResponseWrapper(status, body));
+        return Mono.just(ErrorResponseWrapper.constant(STATUS, BODY));
     }
 }
@@ -4,7 +4,6 @@ import co.com.pragma.api.exception.InvalidRequestException;
 import co.com.pragma.api.exception.dto.ErrorBody;
 import co.com.pragma.api.exception.dto.ErrorResponseWrapper;
 import co.com.pragma.model.log.gateways.LoggerPort;
-import jakarta.validation.ConstraintViolation;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -12,7 +11,6 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 @Order(0) // Prioridad más alta para excepciones específicas
@@ -34,11 +32,7 @@ public class InvalidRequestExceptionHandler implements ExceptionHandlerStrategy
         final HttpStatus status = HttpStatus.BAD_REQUEST;
         InvalidRequestException exception = (InvalidRequestException) ex;
 
-        Map<String, String> messages = exception.getViolations().stream()
-                .collect(Collectors.toMap(
-                        v -> v.getPropertyPath().toString(),
-                        ConstraintViolation::getMessage
-                ));
+        Map<String, String> messages = exception.getViolations();
 
         logger.info("Error de validación en la petición [{}]: {}", exchange.getRequest().getPath(), messages);
 
@@ -15,6 +15,12 @@ import reactor.core.publisher.Mono;
 @Order(1)
 public class ServerWebInputExceptionHandler implements ExceptionHandlerStrategy {
 
+    private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+    private static final ErrorBody INVALID_FORMAT_BODY = new ErrorBody(STATUS.value(),
+            ErrorMessages.INVALID_INPUT_CATEGORY, ErrorMessages.INVALID_REQUEST_FORMAT, null);
+    private static final ErrorBody INVALID_DATE_BODY = new ErrorBody(STATUS.value(),
+            ErrorMessages.INVALID_INPUT_CATEGORY, ErrorMessages.INVALID_DATE_FORMAT_MESSAGE, null);
+
     private final LoggerPort logger;
 
     public ServerWebInputExceptionHandler(LoggerPort logger) {
@@ -28,17 +34,15 @@ public class ServerWebInputExceptionHandler implements ExceptionHandlerStrategy
 
     @Override
     public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
-        final HttpStatus status = HttpStatus.BAD_REQUEST;
         ServerWebInputException exception = (ServerWebInputException) ex;
 
         logger.info("Error de entrada en la petición", exception.getReason());
 
-        String reason = ErrorMessages.INVALID_REQUEST_FORMAT;
+        ErrorBody body = INVALID_FORMAT_BODY;
         if (ex.getMessage().contains("LocalDate")) {
-            reason = ErrorMessages.INVALID_DATE_FORMAT_MESSAGE;
+            body = INVALID_DATE_BODY;
         }
 
-        ErrorBody body = new ErrorBody(status.value(), ErrorMessages.INVALID_INPUT_CATEGORY, reason, null);
-        return Mono.just(new ErrorResponseWrapper(status, body));
+        return Mono.just(ErrorResponseWrapper.constant(STATUS, body));
     }
 }
\ No newline at end of file
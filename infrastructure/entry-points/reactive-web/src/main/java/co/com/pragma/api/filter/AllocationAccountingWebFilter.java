@@ -0,0 +1,72 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.allocation.AllocationThreadLocalAccessor;
+import co.com.pragma.api.allocation.RequestAllocations;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Muestrea los bytes asignados por petición y los publica en el histograma {@code http.server.requests.allocated},
+ * etiquetado por método y patrón de ruta. Solo las peticiones muestreadas llevan {@link RequestAllocations}
+ * en el {@code Context}; el resto no lee ningún contador. Va antes que la seguridad y los límites de concurrencia
+ * para incluir también su costo.
+ */
+public class AllocationAccountingWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = ConcurrencyLimitWebFilter.ORDER - 10;
+    static final String ALLOCATION_METRIC = "http.server.requests.allocated";
+
+    private final AllocationThreadLocalAccessor accessor;
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public AllocationAccountingWebFilter(AllocationThreadLocalAccessor accessor, MeterRegistry meterRegistry, double sampleRate) {
+        this.accessor = accessor;
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return chain.filter(exchange);
+        }
+        RequestAllocations allocations = new RequestAllocations();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    accessor.checkpoint(allocations);
+                    summary(StatementCountWebFilter.route(exchange), exchange.getRequest().getMethod().name())
+                            .record(allocations.bytes());
+                })
+                .contextWrite(context -> context.put(RequestAllocations.CONTEXT_KEY, allocations));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // Un histograma por ruta y método, creado una sola vez: el registro del meter no ocurre por petición
+    private DistributionSummary summary(String uri, String method) {
+        return summaries.computeIfAbsent(new MeterKey(uri, method), key -> DistributionSummary.builder(ALLOCATION_METRIC)
+                .description("Bytes asignados en la JVM por petición HTTP muestreada")
+                .baseUnit("bytes")
+                .tag("uri", key.uri())
+                .tag("method", key.method())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private record MeterKey(String uri, String method) {
+    }
+}
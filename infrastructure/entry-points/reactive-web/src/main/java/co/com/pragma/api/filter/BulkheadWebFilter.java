@@ -0,0 +1,65 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.concurrency.RouteGroup;
+import co.com.pragma.commonutils.RequestBulkhead;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Aísla cada grupo de rutas en su propio bulkhead: un techo fijo de peticiones concurrentes y, a través del
+ * {@link RequestBulkhead} que deja en el {@code Context}, su propia partición del pool de conexiones.
+ * Complementa al límite adaptativo de {@link ConcurrencyLimitWebFilter}, que corre justo antes.
+ */
+public class BulkheadWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = ConcurrencyLimitWebFilter.ORDER + 10;
+    static final String REJECTED_METRIC = "http.server.bulkhead.rejected";
+
+    private final Map<RouteGroup, Bulkhead> bulkheads = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, RequestBulkhead> contextValues = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> rejections = new EnumMap<>(RouteGroup.class);
+
+    public BulkheadWebFilter(BulkheadRegistry registry, MeterRegistry meterRegistry) {
+        for (RouteGroup group : RouteGroup.values()) {
+            bulkheads.put(group, registry.bulkhead(group.key()));
+            contextValues.put(group, new RequestBulkhead(group.key()));
+            rejections.put(group, Counter.builder(REJECTED_METRIC)
+                    .description("Peticiones rechazadas con 503 por bulkhead lleno")
+                    .tag("bulkhead", group.key())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Optional<RouteGroup> group = RouteGroup.classify(exchange.getRequest());
+        if (group.isEmpty()) {
+            return chain.filter(exchange);
+        }
+        Bulkhead bulkhead = bulkheads.get(group.get());
+        if (!bulkhead.tryAcquirePermission()) {
+            rejections.get(group.get()).increment();
+            return ConcurrencyLimitWebFilter.reject(exchange.getResponse());
+        }
+        RequestBulkhead requestBulkhead = contextValues.get(group.get());
+        return chain.filter(exchange)
+                .doFinally(signal -> bulkhead.onComplete())
+                .contextWrite(context -> context.put(RequestBulkhead.CONTEXT_KEY, requestBulkhead));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
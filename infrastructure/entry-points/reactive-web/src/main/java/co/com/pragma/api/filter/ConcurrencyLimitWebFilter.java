@@ -0,0 +1,132 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.concurrency.AimdConcurrencyLimiter;
+import co.com.pragma.api.concurrency.RouteGroup;
+import co.com.pragma.api.config.ConcurrencyLimitProperties;
+import co.com.pragma.api.exception.InvalidRequestException;
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Limita la concurrencia por grupo de rutas (login, escrituras y lecturas de usuarios) con un límite AIMD
+ * adaptativo y responde 503 al exceso. Se ejecuta antes de la cadena de Spring Security, de modo que
+ * el trabajo rechazado no llega a validar el JWT.
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+    // WebFilterChainProxy (donde corre JWTAuthenticationFilter) usa el orden -100
+    public static final int ORDER = -200;
+    static final String LIMIT_METRIC = "http.server.concurrency.limit";
+    static final String IN_FLIGHT_METRIC = "http.server.concurrency.inflight";
+    static final String REJECTED_METRIC = "http.server.concurrency.rejected";
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Map<RouteGroup, AimdConcurrencyLimiter> limiters = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> rejections = new EnumMap<>(RouteGroup.class);
+
+    public ConcurrencyLimitWebFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        for (RouteGroup group : RouteGroup.values()) {
+            ConcurrencyLimitProperties.Group config = properties.group(group);
+            AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(config.getInitialLimit(), config.getMinLimit(),
+                    config.getMaxLimit(), config.getBackoffRatio(), config.getLatencyThreshold());
+            limiters.put(group, limiter);
+            Gauge.builder(LIMIT_METRIC, limiter, AimdConcurrencyLimiter::getLimit)
+                    .description("Límite de concurrencia adaptativo vigente")
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_METRIC, limiter, AimdConcurrencyLimiter::getInFlight)
+                    .description("Peticiones en curso")
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            rejections.put(group, Counter.builder(REJECTED_METRIC)
+                    .description("Peticiones rechazadas con 503 por exceder el límite de concurrencia")
+                    .tag("group", group.key())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Optional<RouteGroup> group = RouteGroup.classify(exchange.getRequest());
+        if (group.isEmpty()) {
+            return chain.filter(exchange);
+        }
+        AimdConcurrencyLimiter limiter = limiters.get(group.get());
+        if (!limiter.tryAcquire()) {
+            rejections.get(group.get()).increment();
+            return reject(exchange.getResponse());
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> release(limiter, exchange.getResponse().getStatusCode(), System.nanoTime() - start))
+                .doOnError(error -> release(limiter, error))
+                .doOnCancel(limiter::onIgnore);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static void release(AimdConcurrencyLimiter limiter, HttpStatusCode status, long latencyNanos) {
+        if (null != status && status.is5xxServerError()) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(latencyNanos);
+        }
+    }
+
+    // Un error del cliente (400, 401, 403, 409...) no dice nada de la capacidad del servicio: no reduce el límite
+    private static void release(AimdConcurrencyLimiter limiter, Throwable error) {
+        if (isOverload(error)) {
+            limiter.onDropped();
+        } else {
+            limiter.onIgnore();
+        }
+    }
+
+    /**
+     * Indica si el error señala saturación: tiempos de espera, pool o conexión a la base de datos no disponibles,
+     * o cualquier otro fallo que termina en 5xx. Los errores que el manejador global responde con 4xx no cuentan.
+     */
+    static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; null != cause; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof ConnectException
+                    || cause instanceof DataSourceUnavailableException) {
+                return true;
+            }
+        }
+        if (error instanceof ErrorResponse response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return !(error instanceof BusinessException || error instanceof InvalidRequestException
+                || error instanceof AccessDeniedException || error instanceof ExpiredJwtException);
+    }
+
+    static Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return response.setComplete();
+    }
+}
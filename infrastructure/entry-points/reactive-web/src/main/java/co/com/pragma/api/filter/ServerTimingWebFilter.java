@@ -0,0 +1,96 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.config.ServerTimingProperties;
+import co.com.pragma.commonutils.RequestTimings;
+import co.com.pragma.model.constants.ApiConstants;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Cabecera {@code Server-Timing} opcional en login y usuarios, con la duración de cada fase
+ * (validate, db, hash, roles, sign) más la serialización de la respuesta.
+ * Las fases las anota el {@code OperationMetricsPort} en el {@link RequestTimings} del {@code Context};
+ * la serialización se mide aquí, desde que se escribe el cuerpo hasta que el codec entrega el buffer,
+ * justo antes de confirmar la respuesta.
+ */
+public class ServerTimingWebFilter implements WebFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    static final String SERIALIZE_PHASE = "serialize";
+
+    private static final String LOGIN_PATH = ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH;
+
+    private final ServerTimingProperties properties;
+    private final byte[] trustedToken;
+
+    public ServerTimingWebFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+        String token = properties.getTrustedToken();
+        this.trustedToken = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!isTimedRoute(exchange) || !isRequested(exchange)) {
+            return chain.filter(exchange);
+        }
+        RequestTimings timings = new RequestTimings();
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            String value = timings.toHeaderValue();
+            if (!value.isEmpty()) {
+                response.getHeaders().set(SERVER_TIMING_HEADER, value);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange.mutate().response(new SerializationTimingResponse(response, timings)).build())
+                .contextWrite(context -> context.put(RequestTimings.CONTEXT_KEY, timings));
+    }
+
+    static boolean isTimedRoute(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        return path.equals(LOGIN_PATH) || path.equals(ApiConstants.USERS_ENDPOINT);
+    }
+
+    private boolean isRequested(ServerWebExchange exchange) {
+        if (properties.isEnabled()) {
+            return true;
+        }
+        if (trustedToken == null) {
+            return false;
+        }
+        String header = exchange.getRequest().getHeaders().getFirst(properties.getTrustedHeader());
+        // Comparación en tiempo constante: el token no debe poder adivinarse midiendo la respuesta
+        return header != null && MessageDigest.isEqual(trustedToken, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class SerializationTimingResponse extends ServerHttpResponseDecorator {
+
+        private final RequestTimings timings;
+
+        SerializationTimingResponse(ServerHttpResponse delegate, RequestTimings timings) {
+            super(delegate);
+            this.timings = timings;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!(body instanceof Mono<? extends DataBuffer> singleBuffer)) {
+                // Cuerpos en streaming: la cabecera sale con el primer elemento, no hay serialización completa que medir
+                return super.writeWith(body);
+            }
+            long start = System.nanoTime();
+            // El codec codifica de forma perezosa al suscribirse; la respuesta se confirma al recibir el buffer
+            return super.writeWith(singleBuffer.doOnNext(buffer -> timings.add(SERIALIZE_PHASE, System.nanoTime() - start)));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.commonutils.StaleResponseMarker;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Informa al cliente cuando la respuesta se sirvió desde la caché de respaldo del repositorio
+ * porque la base de datos no estaba disponible.
+ */
+@Component
+public class StaleResponseWebFilter implements WebFilter {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        StaleResponseMarker marker = new StaleResponseMarker();
+        exchange.getResponse().beforeCommit(() -> {
+            if (marker.isStale()) {
+                exchange.getResponse().getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(StaleResponseMarker.CONTEXT_KEY, marker));
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica cuántas sentencias SQL emite cada petición como histograma etiquetado por ruta.
+ * El contador viaja en el {@code Context} de Reactor y lo incrementa el adaptador R2DBC.
+ */
+@Component
+public class StatementCountWebFilter implements WebFilter {
+
+    static final String METRIC_NAME = "http.server.requests.db.statements";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public StatementCountWebFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RequestStatementCounter counter = new RequestStatementCounter();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestStatementCounter.CONTEXT_KEY, counter))
+                .doFinally(signal -> summary(route(exchange), exchange.getRequest().getMethod().name())
+                        .record(counter.count()));
+    }
+
+    // El histograma de cada ruta y método se registra una sola vez y se reutiliza en las peticiones siguientes
+    private DistributionSummary summary(String uri, String method) {
+        return summaries.computeIfAbsent(new MeterKey(uri, method), key -> DistributionSummary.builder(METRIC_NAME)
+                .description("Sentencias SQL emitidas por petición")
+                .tag("uri", key.uri())
+                .tag("method", key.method())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // Usa el patrón de la ruta y no la URL real para acotar la cardinalidad de la etiqueta.
+    static String route(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE);
+        if (null == pattern) {
+            pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        }
+        return pattern instanceof PathPattern pathPattern ? pathPattern.getPatternString() : UNKNOWN_ROUTE;
+    }
+
+    private record MeterKey(String uri, String method) {
+    }
+}
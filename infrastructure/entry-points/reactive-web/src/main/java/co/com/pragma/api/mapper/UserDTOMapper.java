@@ -3,6 +3,7 @@ package co.com.pragma.api.mapper;
 import co.com.pragma.api.dto.request.UserRequestRecord;
 import co.com.pragma.api.dto.response.UserResponseRecord;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
@@ -11,6 +12,8 @@ import org.mapstruct.ReportingPolicy;
 public interface UserDTOMapper {
     UserResponseRecord toResponse(User user);
 
+    UserResponseRecord toResponse(UserProfile profile);
+
     // El 'id' es generado por el sistema, no se provee en la petición, por lo que se ignora.
     @Mapping(target = "id", ignore = true)
     User toModel(UserRequestRecord request);
@@ -0,0 +1,56 @@
+package co.com.pragma.api.negotiation;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Selección del formato de respuesta para los endpoints de usuarios y login.
+ * JSON es el formato por defecto; los servicios internos pueden pedir CBOR o Smile con la cabecera
+ * {@code Accept} para ahorrar tamaño de payload y costo de parseo. Los DTOs son los mismos en los tres formatos.
+ */
+public final class ContentNegotiation {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private static final List<MediaType> BINARY_TYPES = List.of(MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private ContentNegotiation() {
+    }
+
+    /**
+     * Devuelve el tipo de respuesta según la cabecera {@code Accept}: el primer tipo aceptado (por calidad)
+     * que sea CBOR o Smile, o JSON en cualquier otro caso.
+     */
+    public static MediaType select(List<MediaType> accepted) {
+        // Una sola pasada, sin ordenar: gana la mayor calidad y, a igual calidad, el primero de la cabecera
+        MediaType selected = null;
+        double selectedQuality = 0;
+        for (MediaType mediaType : accepted) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= selectedQuality) {
+                continue;
+            }
+            MediaType producible = producible(mediaType);
+            if (producible != null) {
+                selected = producible;
+                selectedQuality = quality;
+            }
+        }
+        return selected == null ? MediaType.APPLICATION_JSON : selected;
+    }
+
+    public static boolean isBinary(MediaType mediaType) {
+        return !MediaType.APPLICATION_JSON.equals(mediaType);
+    }
+
+    private static MediaType producible(MediaType accepted) {
+        for (MediaType binaryType : BINARY_TYPES) {
+            if (binaryType.equalsTypeAndSubtype(accepted)) {
+                return binaryType;
+            }
+        }
+        return accepted.isCompatibleWith(MediaType.APPLICATION_JSON) ? MediaType.APPLICATION_JSON : null;
+    }
+}
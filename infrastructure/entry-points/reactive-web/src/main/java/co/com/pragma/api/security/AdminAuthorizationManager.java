@@ -0,0 +1,50 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.security.model.RoleConstants;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gestor de autorización para los endpoints de diagnóstico del actuator (p. ej. {@code /actuator/jfr}).
+ * Requiere que el usuario autenticado tenga el rol ROLE_ADMIN.
+ */
+@Component("adminAuthorizationManager") // Nombre del bean para usar en application.yaml
+public class AdminAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private final LoggerPort logger;
+
+    public AdminAuthorizationManager(LoggerPort logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext object) {
+        return authorize(authentication, object).cast(AuthorizationDecision.class);
+    }
+
+    @Override
+    public Mono<AuthorizationResult> authorize(Mono<Authentication> authentication, AuthorizationContext object) {
+        return authentication
+                .filter(Authentication::isAuthenticated)
+                .map(auth -> {
+                    boolean isAdmin = auth.getAuthorities().stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .anyMatch(role -> RoleConstants.ADMIN.equals(role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role));
+                    if (!isAdmin) {
+                        logger.warn("AdminAuthorizationManager: User {} without ADMIN role tried to access {}", auth.getName(),
+                                object.getExchange().getRequest().getPath().value());
+                    }
+                    return new AuthorizationDecision(isAdmin);
+                })
+                .defaultIfEmpty(new AuthorizationDecision(false))
+                .cast(AuthorizationResult.class);
+    }
+}
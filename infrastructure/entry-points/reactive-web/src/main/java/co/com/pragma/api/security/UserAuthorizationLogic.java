@@ -39,7 +39,11 @@ public class UserAuthorizationLogic {
      */
     public Mono<AuthorizationDecision> authorize(Mono<Authentication> authentication, AuthorizationContext context) {
         return authentication
-                .doOnNext(auth -> logger.debug("UserAuthorizationLogic: Authorizing authentication for user: {} with authorities: {}", auth.getName(), auth.getAuthorities()))
+                .doOnNext(auth -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("UserAuthorizationLogic: Authorizing authentication for user: {} with authorities: {}", auth.getName(), auth.getAuthorities());
+                    }
+                })
                 .filter(Authentication::isAuthenticated)
                 .map(auth -> {
                     Set<String> userRoles = auth.getAuthorities().stream()
@@ -51,7 +55,9 @@ public class UserAuthorizationLogic {
                             .map(role -> role.startsWith("ROLE_") ? role.substring(5) : role)
                             .collect(java.util.stream.Collectors.toUnmodifiableSet());
 
-                    logger.debug("UserAuthorizationLogic: User {} has roles: {} (normalized: {})", auth.getName(), userRoles, normalizedRoles);
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("UserAuthorizationLogic: User {} has roles: {} (normalized: {})", auth.getName(), userRoles, normalizedRoles);
+                    }
 
                     // Regla 1: Si es ADMIN o ADVISOR, tiene acceso.
                     if (normalizedRoles.stream().anyMatch(REQUIRED_ROLES_ADMIN_ADVISOR::contains)) {
@@ -64,7 +70,9 @@ public class UserAuthorizationLogic {
                         String requestedEmail = context.getExchange().getRequest().getQueryParams().getFirst("email");
                         String authenticatedUserEmail = auth.getName(); // El nombre del usuario autenticado es el email
 
-                        logger.debug("UserAuthorizationLogic: Client user {}. Requested email: {}. Authenticated email: {}", authenticatedUserEmail, requestedEmail, authenticatedUserEmail);
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("UserAuthorizationLogic: Client user {}. Requested email: {}. Authenticated email: {}", authenticatedUserEmail, requestedEmail, authenticatedUserEmail);
+                        }
 
                         boolean isOwner = authenticatedUserEmail.equalsIgnoreCase(requestedEmail);
                         if (isOwner) {
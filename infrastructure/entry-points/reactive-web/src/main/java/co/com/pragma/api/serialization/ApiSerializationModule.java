@@ -0,0 +1,15 @@
+package co.com.pragma.api.serialization;
+
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Serializadores especializados para las respuestas de la API que están en la ruta caliente.
+ */
+public class ApiSerializationModule extends SimpleModule {
+
+    public ApiSerializationModule() {
+        super("ApiSerializationModule");
+        addSerializer(LoginResponseRecord.class, new LoginResponseSerializer());
+    }
+}
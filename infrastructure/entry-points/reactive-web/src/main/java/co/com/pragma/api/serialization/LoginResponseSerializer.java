@@ -0,0 +1,38 @@
+package co.com.pragma.api.serialization;
+
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializa {@link LoginResponseRecord} con un esquema fijo: los nombres de campo van pre-codificados
+ * y no se introspecciona el record ni se resuelven serializadores por propiedad.
+ * Produce el mismo JSON que el antiguo {@code Map.of("token", ...)} / {@code Map.of("error", ...)}.
+ */
+public class LoginResponseSerializer extends StdSerializer<LoginResponseRecord> {
+
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString ERROR = new SerializedString("error");
+
+    public LoginResponseSerializer() {
+        super(LoginResponseRecord.class);
+    }
+
+    @Override
+    public void serialize(LoginResponseRecord value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        if (value.token() != null) {
+            generator.writeFieldName(TOKEN);
+            generator.writeString(value.token());
+        }
+        if (value.error() != null) {
+            generator.writeFieldName(ERROR);
+            generator.writeString(value.error());
+        }
+        generator.writeEndObject();
+    }
+}
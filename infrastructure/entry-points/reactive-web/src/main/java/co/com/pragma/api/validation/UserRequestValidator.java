@@ -0,0 +1,140 @@
+package co.com.pragma.api.validation;
+
+import co.com.pragma.api.dto.request.UserRequestRecord;
+import co.com.pragma.model.constants.ErrorMessages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.net.IDN;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Validador especializado para {@link UserRequestRecord}.
+ * Aplica las mismas restricciones declaradas en el record ({@code @NotBlank}, {@code @NotNull}, {@code @Past},
+ * {@code @Email}) con comprobaciones directas, sin recorrer metadatos por reflexión en cada petición.
+ * Los mensajes por defecto de {@code @Past} y {@code @Email} se obtienen una sola vez del {@link Validator}
+ * de Jakarta, para que la respuesta sea idéntica a la de la validación declarativa (incluida la localización).
+ * <p>
+ * Si se agrega o cambia una anotación en {@link UserRequestRecord}, este validador debe actualizarse también.
+ */
+@Component
+public class UserRequestValidator {
+
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String BIRTH_DATE = "birthDate";
+    static final String EMAIL = "email";
+    static final String IDENTITY_DOCUMENT = "identityDocument";
+    static final String PHONE = "phone";
+    static final String ROLE_ID = "roleId";
+    static final String BASE_SALARY = "baseSalary";
+    static final String PASSWORD = "password";
+
+    // Mismas expresiones que usa Hibernate Validator para @Email (parte local y dominio)
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 255;
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\")";
+    private static final String LOCAL_PART_WORD = "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+    private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+            LOCAL_PART_WORD + "(?:\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE);
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+    private static final String DOMAIN = DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*";
+    private static final String IP_V4_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+    private static final String IP_V6_DOMAIN = "[0-9a-f:.]+";
+    private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+            DOMAIN + "|\\[" + IP_V4_DOMAIN + "\\]|\\[IPv6:" + IP_V6_DOMAIN + "\\]", Pattern.CASE_INSENSITIVE);
+
+    private final String pastMessage;
+    private final String emailMessage;
+
+    public UserRequestValidator(Validator validator) {
+        this.pastMessage = defaultMessage(validator, BIRTH_DATE, LocalDate.now().plusDays(1));
+        this.emailMessage = defaultMessage(validator, EMAIL, "correo-invalido");
+    }
+
+    /**
+     * Valida la petición y devuelve las violaciones como campo → mensaje.
+     * Devuelve un mapa vacío inmutable cuando la petición es válida, sin reservar memoria adicional.
+     */
+    public Map<String, String> validate(UserRequestRecord request) {
+        Map<String, String> violations = null;
+        violations = notBlank(violations, FIRST_NAME, request.firstName(), ErrorMessages.FIRST_NAME_REQUIRED);
+        violations = notBlank(violations, LAST_NAME, request.lastName(), ErrorMessages.LAST_NAME_REQUIRED);
+        if (request.birthDate() == null) {
+            violations = add(violations, BIRTH_DATE, ErrorMessages.BIRTH_DATE_REQUIRED);
+        } else if (!request.birthDate().isBefore(LocalDate.now())) {
+            violations = add(violations, BIRTH_DATE, pastMessage);
+        }
+        violations = notBlank(violations, EMAIL, request.email(), ErrorMessages.EMAIL_FIELD_REQUIRED);
+        if (!isValidEmail(request.email())) {
+            violations = add(violations, EMAIL, emailMessage);
+        }
+        violations = notBlank(violations, IDENTITY_DOCUMENT, request.identityDocument(), ErrorMessages.IDENTITY_DOCUMENT_REQUIRED);
+        violations = notBlank(violations, PHONE, request.phone(), ErrorMessages.PHONE_REQUIRED);
+        violations = notBlank(violations, ROLE_ID, request.roleId(), ErrorMessages.ROLE_ID_REQUIRED);
+        if (request.baseSalary() == null) {
+            violations = add(violations, BASE_SALARY, ErrorMessages.BASE_SALARY_REQUIRED);
+        }
+        violations = notBlank(violations, PASSWORD, request.password(), ErrorMessages.PASSWORD_REQUIRED);
+        return violations == null ? Map.of() : violations;
+    }
+
+    static boolean isValidEmail(String value) {
+        // Igual que @Email: null y cadena vacía se consideran válidos (los cubre @NotBlank)
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        int splitPosition = value.lastIndexOf('@');
+        if (splitPosition < 0) {
+            return false;
+        }
+        String localPart = value.substring(0, splitPosition);
+        String domainPart = value.substring(splitPosition + 1);
+        return localPart.length() <= MAX_LOCAL_PART_LENGTH
+                && LOCAL_PART_PATTERN.matcher(localPart).matches()
+                && isValidDomain(domainPart);
+    }
+
+    private static boolean isValidDomain(String domain) {
+        if (domain.isEmpty() || domain.endsWith(".")) {
+            return false;
+        }
+        String asciiDomain;
+        try {
+            asciiDomain = IDN.toASCII(domain);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return asciiDomain.length() <= MAX_DOMAIN_LENGTH && DOMAIN_PATTERN.matcher(domain).matches();
+    }
+
+    private static Map<String, String> notBlank(Map<String, String> violations, String field, String value, String message) {
+        if (value == null || value.trim().isEmpty()) {
+            return add(violations, field, message);
+        }
+        return violations;
+    }
+
+    private static Map<String, String> add(Map<String, String> violations, String field, String message) {
+        Map<String, String> target = violations == null ? new LinkedHashMap<>() : violations;
+        // Un campo reporta una sola violación: la primera restricción que falla
+        target.putIfAbsent(field, message);
+        return target;
+    }
+
+    private static String defaultMessage(Validator validator, String property, Object invalidValue) {
+        Set<ConstraintViolation<UserRequestRecord>> violations =
+                validator.validateValue(UserRequestRecord.class, property, invalidValue);
+        return violations.stream()
+                .findFirst()
+                .map(ConstraintViolation::getMessage)
+                .orElseThrow(() -> new IllegalStateException("No se pudo resolver el mensaje de validación para " + property));
+    }
+}
@@ -4,12 +4,12 @@ import co.com.pragma.api.dto.request.UserRequestRecord;
 import co.com.pragma.api.dto.response.UserResponseRecord;
 import co.com.pragma.api.exception.InvalidRequestException;
 import co.com.pragma.api.mapper.UserDTOMapper;
+import co.com.pragma.api.negotiation.ContentNegotiation;
+import co.com.pragma.api.validation.UserRequestValidator;
 import co.com.pragma.model.log.gateways.LoggerPort;
 import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
 import co.com.pragma.usecase.user.UserUseCase;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Path;
-import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,16 +29,14 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,13 +53,14 @@ class HandlerTest {
     private UserDTOMapper mapper;
 
     @Mock
-    private Validator validator;
+    private UserRequestValidator validator;
 
     @InjectMocks
     private Handler handler;
 
     private UserRequestRecord userRequest;
     private User userModel;
+    private UserProfile userProfile;
     private UserResponseRecord userResponse;
 
     static Stream<Arguments> getUserByEmailOrIdentityDocumentTestCases() {
@@ -73,17 +72,10 @@ class HandlerTest {
         );
     }
 
-    @SuppressWarnings("unchecked")
     static Stream<Arguments> validationTestCases() {
-        ConstraintViolation<UserRequestRecord> violation = mock(ConstraintViolation.class);
-        Path propertyPath = mock(Path.class);
-        when(propertyPath.toString()).thenReturn("firstName");
-        when(violation.getPropertyPath()).thenReturn(propertyPath);
-        when(violation.getMessage()).thenReturn("Error message");
-
         return Stream.of(
-                Arguments.of(Collections.emptySet(), true, "Should succeed with no validation errors"),
-                Arguments.of(Set.of(violation), false, "Should fail with validation errors")
+                Arguments.of(Collections.emptyMap(), true, "Should succeed with no validation errors"),
+                Arguments.of(Map.of("firstName", "Error message"), false, "Should fail with validation errors")
         );
     }
 
@@ -114,6 +106,9 @@ class HandlerTest {
                 "hashedPassword"
         );
 
+        userProfile = new UserProfile("1", "John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com",
+                "123456789", "3001234567", 1, 50000.0);
+
         userResponse = new UserResponseRecord(
                 "1",
                 "John",
@@ -133,7 +128,7 @@ class HandlerTest {
         MockServerRequest request = MockServerRequest.builder()
                 .body(Mono.just(userRequest));
 
-        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptySet());
+        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptyMap());
         when(mapper.toModel(userRequest)).thenReturn(userModel);
         when(useCase.saveUser(userModel)).thenReturn(Mono.just(userModel));
         when(mapper.toResponse(userModel)).thenReturn(userResponse);
@@ -170,19 +165,12 @@ class HandlerTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void saveUseCaseShouldFailWithValidationErrors() {
         // Arrange
         MockServerRequest request = MockServerRequest.builder()
                 .body(Mono.just(userRequest));
 
-        ConstraintViolation<UserRequestRecord> violation = mock(ConstraintViolation.class);
-        Path propertyPath = mock(Path.class);
-        lenient().when(propertyPath.toString()).thenReturn("firstName");
-        lenient().when(violation.getPropertyPath()).thenReturn(propertyPath);
-        lenient().when(violation.getMessage()).thenReturn("First name is required");
-
-        Set<ConstraintViolation<UserRequestRecord>> violations = Set.of(violation);
+        Map<String, String> violations = Map.of("firstName", "First name is required");
         when(validator.validate(any(UserRequestRecord.class))).thenReturn(violations);
 
         // Act
@@ -203,8 +191,8 @@ class HandlerTest {
                 .build();
 
         when(logger.maskEmail(email)).thenReturn("jo***@example.com");
-        when(useCase.getUserByEmail(email)).thenReturn(Mono.just(userModel));
-        when(mapper.toResponse(userModel)).thenReturn(userResponse);
+        when(useCase.getUserProfileByEmail(email)).thenReturn(Mono.just(userProfile));
+        when(mapper.toResponse(userProfile)).thenReturn(userResponse);
 
         // Act
         Mono<ServerResponse> result = handler.getUserByEmail(request);
@@ -216,8 +204,8 @@ class HandlerTest {
                 })
                 .verifyComplete();
 
-        verify(useCase).getUserByEmail(email);
-        verify(mapper).toResponse(userModel);
+        verify(useCase).getUserProfileByEmail(email);
+        verify(mapper).toResponse(userProfile);
     }
 
     @Test
@@ -229,7 +217,7 @@ class HandlerTest {
                 .build();
 
         when(logger.maskEmail(email)).thenReturn("no***@example.com");
-        when(useCase.getUserByEmail(email)).thenReturn(Mono.empty());
+        when(useCase.getUserProfileByEmail(email)).thenReturn(Mono.empty());
 
         // Act
         Mono<ServerResponse> result = handler.getUserByEmail(request);
@@ -317,9 +305,52 @@ class HandlerTest {
         verify(useCase).getUserByEmailOrIdentityDocument(email, null);
     }
 
+    @Test
+    void getUserByEmailOrIdentityDocumentShouldNegotiateCbor() {
+        // Arrange
+        final String email = "test@example.com";
+        MockServerRequest request = MockServerRequest.builder()
+                .header("Accept", MediaType.APPLICATION_CBOR_VALUE)
+                .queryParam("email", email)
+                .build();
+
+        when(useCase.getUserByEmailOrIdentityDocument(email, null))
+                .thenReturn(Flux.just(userModel));
+
+        // Act
+        Mono<ServerResponse> result = handler.getUserByEmailOrIdentityDocument(request);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(MediaType.APPLICATION_CBOR, response.headers().getContentType()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getUserByEmailShouldNegotiateSmile() {
+        // Arrange
+        final String email = "john.doe@example.com";
+        MockServerRequest request = MockServerRequest.builder()
+                .header("Accept", ContentNegotiation.APPLICATION_SMILE_VALUE)
+                .queryParam("email", email)
+                .build();
+
+        when(logger.maskEmail(anyString())).thenReturn(email);
+        when(useCase.getUserProfileByEmail(email)).thenReturn(Mono.just(userProfile));
+        when(mapper.toResponse(userProfile)).thenReturn(userResponse);
+
+        // Act
+        Mono<ServerResponse> result = handler.getUserByEmail(request);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(ContentNegotiation.APPLICATION_SMILE, response.headers().getContentType()))
+                .verifyComplete();
+    }
+
     @ParameterizedTest
     @MethodSource("validationTestCases")
-    void saveUseCaseShouldHandleValidationCorrectly(Set<ConstraintViolation<UserRequestRecord>> violations,
+    void saveUseCaseShouldHandleValidationCorrectly(Map<String, String> violations,
                                                     boolean shouldSucceed, String scenario) {
         // Arrange
         MockServerRequest request = MockServerRequest.builder()
@@ -358,7 +389,7 @@ class HandlerTest {
                 .build();
 
         when(logger.maskEmail(email)).thenReturn(maskedEmail);
-        when(useCase.getUserByEmail(anyString())).thenReturn(Mono.empty());
+        when(useCase.getUserProfileByEmail(anyString())).thenReturn(Mono.empty());
 
         // Act
         handler.getUserByEmail(request);
@@ -8,14 +8,12 @@ import co.com.pragma.api.exception.strategy.DefaultExceptionHandler;
 import co.com.pragma.api.exception.strategy.InvalidRequestExceptionHandler;
 import co.com.pragma.api.exception.strategy.ServerWebInputExceptionHandler;
 import co.com.pragma.api.mapper.UserDTOMapper;
+import co.com.pragma.api.validation.UserRequestValidator;
 import co.com.pragma.model.exception.BusinessException;
 import co.com.pragma.model.log.gateways.LoggerPort;
 import co.com.pragma.model.security.PasswordEncryptor;
 import co.com.pragma.model.user.User;
 import co.com.pragma.usecase.user.UserUseCase;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Path;
-import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,10 +32,9 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.Collections;
-import java.util.Set;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -65,7 +62,7 @@ class RouterRestTest {
     @MockitoBean
     private UserDTOMapper userDTOMapper;
     @MockitoBean
-    private Validator validator;
+    private UserRequestValidator validator;
     @MockitoBean
     private LoggerPort loggerPort;
     @MockitoBean
@@ -107,7 +104,7 @@ class RouterRestTest {
         User savedUser = new User("gen-id-123", userModel.firstName(), userModel.lastName(), userModel.birthDate(), userModel.email(), userModel.identityDocument(), userModel.phone(), userModel.roleId(), userModel.baseSalary(), "encryptedPassword");
         UserResponseRecord response = new UserResponseRecord("gen-id-123", "John", "Doe", LocalDate.of(1990, 5, 15), "john.doe@example.com", "123456789", "3001234567", "1", 50000.0);
 
-        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptySet());
+        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptyMap());
         when(userDTOMapper.toModel(any(UserRequestRecord.class))).thenReturn(userModel);
         when(passwordEncryptor.encode(any(String.class))).thenReturn("encryptedPassword");
         when(userUseCase.saveUser(any(User.class))).thenReturn(Mono.just(savedUser));
@@ -124,17 +121,10 @@ class RouterRestTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void saveUserShouldFailOnInvalidRequest() {
         UserRequestRecord invalidRequest = new UserRequestRecord(null, "Doe", LocalDate.now(), "email", "doc", "phone", "1", 1.0, "");
 
-        ConstraintViolation<UserRequestRecord> violation = mock(ConstraintViolation.class);
-        Path propertyPath = mock(Path.class);
-        when(propertyPath.toString()).thenReturn("firstName");
-        when(violation.getPropertyPath()).thenReturn(propertyPath);
-        when(violation.getMessage()).thenReturn("El primer nombre no puede estar vacío");
-
-        Set<ConstraintViolation<UserRequestRecord>> violations = Set.of(violation);
+        Map<String, String> violations = Map.of("firstName", "El primer nombre no puede estar vacío");
         when(validator.validate(any(UserRequestRecord.class))).thenReturn(violations);
 
         webTestClient.post()
@@ -153,7 +143,7 @@ class RouterRestTest {
     void saveUserShouldFailOnBusinessException() {
         final String errorMessage = "El correo electrónico 'john.doe@example.com' ya se encuentra registrado.";
 
-        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptySet());
+        when(validator.validate(any(UserRequestRecord.class))).thenReturn(Collections.emptyMap());
         when(userDTOMapper.toModel(any(UserRequestRecord.class))).thenReturn(userModel);
         when(userUseCase.saveUser(any(User.class))).thenReturn(Mono.error(new BusinessException(errorMessage)));
 
@@ -0,0 +1,42 @@
+package co.com.pragma.api.allocation;
+
+import io.micrometer.context.ContextRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationContextRegistrationTest {
+
+    private final ContextRegistry registry = new ContextRegistry();
+    private final AllocationContextRegistration registration =
+            new AllocationContextRegistration(new AllocationThreadLocalAccessor(() -> 0L), registry);
+
+    @AfterEach
+    void tearDown() {
+        Schedulers.resetOnScheduleHook(AllocationContextRegistration.SCHEDULE_HOOK_KEY);
+    }
+
+    @Test
+    void shouldUndoAccessorAndScheduleHookOnDestroy() {
+        // Arrange
+        Runnable task = () -> { };
+        registration.afterPropertiesSet();
+        assertTrue(hasAllocationAccessor());
+
+        // Act
+        registration.destroy();
+
+        // Assert: sin hook, la tarea planificada es la original
+        assertFalse(hasAllocationAccessor());
+        assertSame(task, Schedulers.onSchedule(task));
+    }
+
+    private boolean hasAllocationAccessor() {
+        return registry.getThreadLocalAccessors().stream()
+                .anyMatch(accessor -> RequestAllocations.CONTEXT_KEY.equals(accessor.key()));
+    }
+}
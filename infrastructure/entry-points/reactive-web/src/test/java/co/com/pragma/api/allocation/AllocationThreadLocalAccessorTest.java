@@ -0,0 +1,110 @@
+package co.com.pragma.api.allocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AllocationThreadLocalAccessorTest {
+
+    // Contador falso por hilo, como getCurrentThreadAllocatedBytes
+    private final Map<Thread, Long> allocatedByThread = new ConcurrentHashMap<>();
+    private final AllocationThreadLocalAccessor accessor =
+            new AllocationThreadLocalAccessor(() -> allocatedByThread.getOrDefault(Thread.currentThread(), 0L));
+
+    @AfterEach
+    void tearDown() {
+        accessor.reset();
+    }
+
+    @Test
+    void shouldSumSegmentsFromEveryThreadTheRequestHopsTo() throws InterruptedException {
+        // Arrange
+        RequestAllocations allocations = new RequestAllocations();
+        allocate(1_000);
+
+        // Act
+        accessor.setValue(allocations);
+        allocate(100);
+        accessor.reset();
+        allocate(5_000); // Fuera del ámbito de la petición
+
+        Thread other = new Thread(() -> {
+            accessor.setValue(allocations);
+            allocate(50);
+            accessor.restore(null);
+        });
+        other.start();
+        other.join();
+
+        // Assert
+        assertEquals(150, allocations.bytes());
+        assertNull(accessor.getValue());
+    }
+
+    @Test
+    void shouldSplitBytesBetweenRequestsInterleavedOnTheSameThread() {
+        // Arrange
+        RequestAllocations first = new RequestAllocations();
+        RequestAllocations second = new RequestAllocations();
+
+        // Act
+        accessor.setValue(first);
+        allocate(10);
+        accessor.setValue(second);
+        allocate(20);
+        accessor.restore(first);
+        allocate(30);
+        accessor.reset();
+
+        // Assert
+        assertEquals(40, first.bytes());
+        assertEquals(20, second.bytes());
+    }
+
+    @Test
+    void shouldNotReadCounterWhenNoRequestIsSampled() {
+        // Arrange
+        AtomicInteger reads = new AtomicInteger();
+        AllocationThreadLocalAccessor counting = new AllocationThreadLocalAccessor(() -> {
+            reads.incrementAndGet();
+            return 0L;
+        });
+
+        // Act
+        counting.reset();
+        counting.restore(null);
+
+        // Assert
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    void shouldCheckpointOnlyTheSegmentOfTheGivenRequest() {
+        // Arrange
+        RequestAllocations active = new RequestAllocations();
+        RequestAllocations other = new RequestAllocations();
+        accessor.setValue(active);
+        allocate(64);
+
+        // Act
+        accessor.checkpoint(other);
+        accessor.checkpoint(active);
+        allocate(8);
+        accessor.reset();
+
+        // Assert
+        assertEquals(72, active.bytes());
+        assertEquals(0, other.bytes());
+        assertNull(accessor.getValue());
+    }
+
+    private void allocate(long bytes) {
+        allocatedByThread.merge(Thread.currentThread(), bytes, Long::sum);
+    }
+}
@@ -1,11 +1,15 @@
 package co.com.pragma.api.auth;
 
 import co.com.pragma.api.auth.strategy.RoleStrategyContext;
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.commonutils.MicrometerOperationMetricsAdapter;
 import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.security.PasswordEncryptor;
 import co.com.pragma.model.user.User;
 import co.com.pragma.model.user.repository.UserRepository;
 import co.com.pragma.security.util.JWTUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +18,12 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -25,6 +33,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -43,9 +52,11 @@ class AuthBusinessRulesTest {
     private LoggerPort logger;
     @Mock
     private RoleStrategyContext roleStrategyContext;
+    @Spy
+    private OperationMetricsPort operationMetrics = new MicrometerOperationMetricsAdapter(new SimpleMeterRegistry());
 
     @InjectMocks
-    private AuthController authController;
+    private AuthHandler authHandler;
 
     private User validUser;
     private AuthRequest validRequest;
@@ -115,11 +126,11 @@ class AuthBusinessRulesTest {
         when(this.passwordEncryptor.matches(this.validRequest.password(), inactiveUser.password())).thenReturn(true);
         when(this.jwtUtil.generateToken(anyString(), any())).thenReturn("token");
 
-        StepVerifier.create(this.authController.login(this.validRequest))
+        StepVerifier.create(this.authHandler.login(loginRequest(this.validRequest)))
                 .assertNext(response -> {
                     // El sistema actualmente permite login con roleId null y genera token vacío
-                    assertTrue(response.getStatusCode().is2xxSuccessful() ||
-                            response.getStatusCode().is4xxClientError());
+                    assertTrue(response.statusCode().is2xxSuccessful() ||
+                            response.statusCode().is4xxClientError());
                 })
                 .verifyComplete();
     }
@@ -139,9 +150,9 @@ class AuthBusinessRulesTest {
 
         AuthRequest request = new AuthRequest(user.email(), "password");
 
-        StepVerifier.create(this.authController.login(request))
+        StepVerifier.create(this.authHandler.login(loginRequest(request)))
                 .assertNext(response ->
-                        assertEquals(expectedStatus, response.getStatusCode(), scenario))
+                        assertEquals(expectedStatus, response.statusCode(), scenario))
                 .verifyComplete();
     }
 
@@ -153,8 +164,8 @@ class AuthBusinessRulesTest {
         when(this.jwtUtil.generateToken(this.validUser.email(), List.of("CLIENT"))).thenReturn("token");
 
         List<Mono<Void>> concurrentLogins = Stream.generate(() ->
-                this.authController.login(this.validRequest)
-                        .doOnNext(response -> assertEquals(HttpStatus.OK, response.getStatusCode()))
+                this.authHandler.login(loginRequest(this.validRequest))
+                        .doOnNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
                         .then()
         ).limit(10).toList();
 
@@ -167,10 +178,10 @@ class AuthBusinessRulesTest {
         when(this.userRepository.getUserByEmail(this.validRequest.username()))
                 .thenReturn(Mono.error(new TimeoutException("Database timeout")));
 
-        StepVerifier.create(this.authController.login(this.validRequest))
+        StepVerifier.create(this.authHandler.login(loginRequest(this.validRequest)))
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-                    assertTrue(response.getBody().containsKey("error"));
+                    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode());
+                    assertNotNull(body(response).error());
                 })
                 .verifyComplete();
     }
@@ -186,11 +197,20 @@ class AuthBusinessRulesTest {
 
         AuthRequest request = new AuthRequest(invalidUser.email(), "password");
 
-        StepVerifier.create(this.authController.login(request))
+        StepVerifier.create(this.authHandler.login(loginRequest(request)))
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.OK, response.getStatusCode());
-                    assertTrue(response.getBody().containsKey("token"));
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertNotNull(body(response).token());
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    private static MockServerRequest loginRequest(AuthRequest authRequest) {
+        return MockServerRequest.builder().body(Mono.just(authRequest));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoginResponseRecord body(ServerResponse response) {
+        return ((EntityResponse<LoginResponseRecord>) response).entity();
+    }
+}
@@ -1,11 +1,17 @@
 package co.com.pragma.api.auth;
 
 import co.com.pragma.api.auth.strategy.RoleStrategyContext;
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.commonutils.MicrometerOperationMetricsAdapter;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
 import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.metrics.OperationMetrics;
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
 import co.com.pragma.model.security.PasswordEncryptor;
 import co.com.pragma.model.user.User;
 import co.com.pragma.model.user.repository.UserRepository;
 import co.com.pragma.security.util.JWTUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,26 +20,34 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-class AuthControllerTest {
+class AuthHandlerTest {
 
     @Mock
     private JWTUtil jwtUtil;
@@ -50,8 +64,11 @@ class AuthControllerTest {
     @Mock
     private RoleStrategyContext roleStrategyContext;
 
+    @Spy
+    private OperationMetricsPort operationMetrics = new MicrometerOperationMetricsAdapter(new SimpleMeterRegistry());
+
     @InjectMocks
-    private AuthController authController;
+    private AuthHandler authHandler;
 
     private User testUser;
     private AuthRequest authRequest;
@@ -105,13 +122,13 @@ class AuthControllerTest {
         when(jwtUtil.generateToken(testUser.email(), roles)).thenReturn(expectedToken);
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(authRequest);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(authRequest));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.OK, response.getStatusCode());
-                    assertEquals(expectedToken, response.getBody().get("token"));
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(expectedToken, body(response).token());
                 })
                 .verifyComplete();
 
@@ -119,6 +136,7 @@ class AuthControllerTest {
         verify(passwordEncryptor).matches(authRequest.password(), testUser.password());
         verify(roleStrategyContext).getRolesForUser(testUser.roleId());
         verify(jwtUtil).generateToken(testUser.email(), roles);
+        verify(operationMetrics).recordOutcome(OperationMetrics.OPERATION_LOGIN, OperationMetrics.OUTCOME_SUCCESS);
     }
 
     @Test
@@ -128,15 +146,17 @@ class AuthControllerTest {
         when(passwordEncryptor.matches(authRequest.password(), testUser.password())).thenReturn(false);
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(authRequest);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(authRequest));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-                    assertTrue(response.getBody().containsKey("error"));
+                    assertEquals(HttpStatus.UNAUTHORIZED, response.statusCode());
+                    assertNotNull(body(response).error());
                 })
                 .verifyComplete();
+
+        verify(operationMetrics).recordOutcome(OperationMetrics.OPERATION_LOGIN, OperationMetrics.OUTCOME_BAD_CREDENTIALS);
     }
 
     @Test
@@ -145,15 +165,17 @@ class AuthControllerTest {
         when(userRepository.getUserByEmail(authRequest.username())).thenReturn(Mono.empty());
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(authRequest);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(authRequest));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-                    assertTrue(response.getBody().containsKey("error"));
+                    assertEquals(HttpStatus.UNAUTHORIZED, response.statusCode());
+                    assertNotNull(body(response).error());
                 })
                 .verifyComplete();
+
+        verify(operationMetrics).recordOutcome(OperationMetrics.OPERATION_LOGIN, OperationMetrics.OUTCOME_UNKNOWN_USER);
     }
 
     @Test
@@ -163,17 +185,38 @@ class AuthControllerTest {
         when(userRepository.getUserByEmail(authRequest.username())).thenReturn(Mono.error(repositoryError));
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(authRequest);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(authRequest));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-                    assertTrue(response.getBody().containsKey("error"));
+                    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode());
+                    assertNotNull(body(response).error());
                 })
                 .verifyComplete();
     }
 
+    @Test
+    void loginShouldFailClosedWhenDatabaseIsUnavailable() {
+        // Arrange
+        when(userRepository.getUserByEmail(authRequest.username())).thenReturn(Mono.error(
+                new DataSourceUnavailableException("getUserByEmail", new TimeoutException("plazo agotado"))));
+
+        // Act
+        Mono<ServerResponse> result = authHandler.login(loginRequest(authRequest));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode());
+                    assertEquals(AuthHandler.RETRY_AFTER_SECONDS, response.headers().getFirst(HttpHeaders.RETRY_AFTER));
+                    assertNull(body(response).token());
+                    assertNotNull(body(response).error());
+                })
+                .verifyComplete();
+        verifyNoInteractions(passwordEncryptor, jwtUtil);
+    }
+
     @ParameterizedTest
     @MethodSource("roleTestCases")
     void loginShouldHandleDifferentRoles(Integer roleId, List<String> expectedRoles, String scenario) {
@@ -190,13 +233,13 @@ class AuthControllerTest {
         when(jwtUtil.generateToken(userWithRole.email(), expectedRoles)).thenReturn(expectedToken);
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(request);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(request));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.OK, response.getStatusCode(), scenario);
-                    assertEquals(expectedToken, response.getBody().get("token"), scenario);
+                    assertEquals(HttpStatus.OK, response.statusCode(), scenario);
+                    assertEquals(expectedToken, body(response).token(), scenario);
                 })
                 .verifyComplete();
 
@@ -218,13 +261,13 @@ class AuthControllerTest {
         when(jwtUtil.generateToken(userWithNullRole.email(), emptyRoles)).thenReturn(expectedToken);
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(request);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(request));
 
         // Assert
         StepVerifier.create(result)
                 .assertNext(response -> {
-                    assertEquals(HttpStatus.OK, response.getStatusCode());
-                    assertEquals(expectedToken, response.getBody().get("token"));
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(expectedToken, body(response).token());
                 })
                 .verifyComplete();
 
@@ -255,11 +298,51 @@ class AuthControllerTest {
         }
 
         // Act
-        Mono<ResponseEntity<Map<String, String>>> result = authController.login(request);
+        Mono<ServerResponse> result = authHandler.login(loginRequest(request));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(expectedStatus, response.statusCode(), scenario))
+                .verifyComplete();
+    }
+
+    @Test
+    void loginShouldRejectEmptyBodyAsInvalidInput() {
+        // Act
+        Mono<ServerResponse> result = authHandler.login(MockServerRequest.builder().body(Mono.empty()));
+
+        // Assert: el GlobalExceptionHandler la traduce a 400, como el antiguo @RequestBody obligatorio
+        StepVerifier.create(result)
+                .expectError(ServerWebInputException.class)
+                .verify();
+    }
+
+    @Test
+    void loginShouldNegotiateBinaryResponse() {
+        // Arrange
+        when(userRepository.getUserByEmail(authRequest.username())).thenReturn(Mono.empty());
+        MockServerRequest request = MockServerRequest.builder()
+                .header("Accept", MediaType.APPLICATION_CBOR_VALUE)
+                .body(Mono.just(authRequest));
+
+        // Act
+        Mono<ServerResponse> result = authHandler.login(request);
 
         // Assert
         StepVerifier.create(result)
-                .assertNext(response -> assertEquals(expectedStatus, response.getStatusCode(), scenario))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.UNAUTHORIZED, response.statusCode());
+                    assertEquals(MediaType.APPLICATION_CBOR, response.headers().getContentType());
+                })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    private static MockServerRequest loginRequest(AuthRequest authRequest) {
+        return MockServerRequest.builder().body(Mono.just(authRequest));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoginResponseRecord body(ServerResponse response) {
+        return ((EntityResponse<LoginResponseRecord>) response).entity();
+    }
+}
@@ -0,0 +1,88 @@
+package co.com.pragma.api.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void shouldRejectWhenInFlightReachesLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 0.5, Duration.ofMillis(100));
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldIncreaseAdditivelyWhenSaturatedCallsSucceed() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 3, 0.5, Duration.ofMillis(100));
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        assertEquals(3, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+        assertEquals(3, limiter.getLimit(), "No debe superar el máximo");
+    }
+
+    @Test
+    void shouldNotGrowWhenLimitIsUnderused() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.5, Duration.ofMillis(100));
+
+        limiter.tryAcquire();
+        limiter.onSuccess(FAST);
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shouldDecreaseMultiplicativelyOnSlowOrDroppedCalls() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 2, 10, 0.5, Duration.ofMillis(100));
+
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertEquals(2, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertEquals(2, limiter.getLimit(), "No debe bajar del mínimo");
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldReleaseWithoutAdjustingWhenIgnored() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, 0.5, Duration.ofMillis(100));
+
+        limiter.tryAcquire();
+        limiter.onIgnore();
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldValidateConfiguration() {
+        Duration threshold = Duration.ofMillis(100);
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(0, 0, 10, 0.5, threshold));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(20, 1, 10, 0.5, threshold));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(5, 1, 10, 1.0, threshold));
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.pragma.api.concurrency;
+
+import co.com.pragma.model.constants.ApiConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteGroupTest {
+
+    @Test
+    void shouldClassifyApiRoutes() {
+        assertEquals(Optional.of(RouteGroup.LOGIN),
+                RouteGroup.classify(MockServerHttpRequest.post(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH).build()));
+        assertEquals(Optional.of(RouteGroup.USER_WRITES),
+                RouteGroup.classify(MockServerHttpRequest.post(ApiConstants.USERS_ENDPOINT).build()));
+        assertEquals(Optional.of(RouteGroup.USER_READS),
+                RouteGroup.classify(MockServerHttpRequest.get(ApiConstants.USERS_ENDPOINT).build()));
+        assertEquals(Optional.of(RouteGroup.USER_READS),
+                RouteGroup.classify(MockServerHttpRequest.get(ApiConstants.USERS_SEARCH_ENDPOINT).build()));
+    }
+
+    @Test
+    void shouldLeaveOtherRoutesUnclassified() {
+        assertEquals(Optional.empty(), RouteGroup.classify(MockServerHttpRequest.get("/actuator/health").build()));
+        assertEquals(Optional.empty(),
+                RouteGroup.classify(MockServerHttpRequest.get(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH).build()));
+    }
+
+    @Test
+    void shouldExposeConfigurationKey() {
+        assertEquals("user-writes", RouteGroup.USER_WRITES.key());
+    }
+}
@@ -0,0 +1,87 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.api.dto.response.UserResponseRecord;
+import co.com.pragma.api.negotiation.ContentNegotiation;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryCodecsConfigTest {
+
+    private final ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+
+    BinaryCodecsConfigTest() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .modulesToInstall(new JacksonSerializationConfig().apiSerializationModule());
+        new BinaryCodecsConfig().binaryCodecsCustomizer(builder).customize(configurer);
+    }
+
+    @Test
+    void shouldRegisterWritersForCborAndSmile() {
+        ResolvableType type = ResolvableType.forClass(UserResponseRecord.class);
+
+        assertTrue(configurer.getWriters().stream().anyMatch(writer -> writer.canWrite(type, MediaType.APPLICATION_CBOR)));
+        assertTrue(configurer.getWriters().stream().anyMatch(writer -> writer.canWrite(type, ContentNegotiation.APPLICATION_SMILE)));
+        assertTrue(configurer.getReaders().stream().anyMatch(reader -> reader.canRead(type, MediaType.APPLICATION_CBOR)));
+        assertTrue(configurer.getReaders().stream().anyMatch(reader -> reader.canRead(type, ContentNegotiation.APPLICATION_SMILE)));
+    }
+
+    @Test
+    void shouldRoundTripRecordsThroughCbor() {
+        UserResponseRecord user = new UserResponseRecord("1", "John", "Doe", LocalDate.of(1990, 5, 15),
+                "john.doe@example.com", "123456789", "3001234567", "1", 50000.0);
+
+        assertEquals(user, roundTrip(user, UserResponseRecord.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepLoginSchemaInCbor() {
+        Map<String, String> decoded = roundTrip(LoginResponseRecord.ofToken("abc"), Map.class);
+
+        assertEquals(Map.of("token", "abc"), decoded);
+    }
+
+    private <T> T roundTrip(Object value, Class<T> targetType) {
+        DataBuffer buffer = findEncoder().encodeValue(value, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forInstance(value), MediaType.APPLICATION_CBOR, null);
+        return targetType.cast(findDecoder().decodeToMono(Mono.just(buffer), ResolvableType.forClass(targetType),
+                MediaType.APPLICATION_CBOR, null).block());
+    }
+
+    private Jackson2CborEncoder findEncoder() {
+        return configurer.getWriters().stream()
+                .filter(EncoderHttpMessageWriter.class::isInstance)
+                .map(writer -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+                .filter(Jackson2CborEncoder.class::isInstance)
+                .map(Jackson2CborEncoder.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Jackson2CborDecoder findDecoder() {
+        return configurer.getReaders().stream()
+                .filter(DecoderHttpMessageReader.class::isInstance)
+                .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+                .filter(Jackson2CborDecoder.class::isInstance)
+                .map(Jackson2CborDecoder.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.exception.dto.ErrorResponseWrapper;
+import co.com.pragma.api.exception.strategy.AccessDeniedExceptionHandler;
+import co.com.pragma.api.exception.strategy.BusinessExceptionHandler;
+import co.com.pragma.api.exception.strategy.DefaultExceptionHandler;
+import co.com.pragma.api.exception.strategy.ExceptionHandlerStrategy;
+import co.com.pragma.api.exception.strategy.ExpiredJwtExceptionHandler;
+import co.com.pragma.api.exception.strategy.InvalidRequestExceptionHandler;
+import co.com.pragma.api.exception.strategy.ServerWebInputExceptionHandler;
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ExceptionStrategyResolverTest {
+
+    @Mock
+    private LoggerPort logger;
+
+    private ExceptionStrategyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        // Lista desordenada a propósito: el resolvedor debe respetar @Order
+        resolver = new ExceptionStrategyResolver(List.of(
+                new DefaultExceptionHandler(logger),
+                new BusinessExceptionHandler(logger),
+                new ServerWebInputExceptionHandler(logger),
+                new InvalidRequestExceptionHandler(logger),
+                new ExpiredJwtExceptionHandler(logger),
+                new AccessDeniedExceptionHandler(logger)
+        ));
+    }
+
+    @Test
+    void shouldResolveMostSpecificStrategyHonoringOrder() {
+        assertInstanceOf(AccessDeniedExceptionHandler.class, resolver.resolve(AccessDeniedException.class));
+        assertInstanceOf(ExpiredJwtExceptionHandler.class, resolver.resolve(ExpiredJwtException.class));
+        assertInstanceOf(InvalidRequestExceptionHandler.class, resolver.resolve(InvalidRequestException.class));
+        assertInstanceOf(ServerWebInputExceptionHandler.class, resolver.resolve(ServerWebInputException.class));
+        assertInstanceOf(BusinessExceptionHandler.class, resolver.resolve(BusinessException.class));
+        assertInstanceOf(DefaultExceptionHandler.class, resolver.resolve(IllegalStateException.class));
+    }
+
+    @Test
+    void shouldResolveSubclassesThroughTheirParentStrategy() {
+        assertInstanceOf(AccessDeniedExceptionHandler.class, resolver.resolve(AuthorizationDeniedException.class));
+    }
+
+    @Test
+    void shouldConsultStrategiesOnlyOncePerExceptionType() {
+        CountingStrategy counting = new CountingStrategy();
+        ExceptionStrategyResolver cachingResolver = new ExceptionStrategyResolver(List.of(counting));
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(counting, cachingResolver.resolve(IllegalArgumentException.class));
+        }
+
+        assertEquals(1, counting.calls.get());
+    }
+
+    @Test
+    void shouldFailWhenNoStrategySupportsTheType() {
+        ExceptionStrategyResolver emptyResolver = new ExceptionStrategyResolver(List.of());
+
+        assertThrows(IllegalStateException.class, () -> emptyResolver.resolve(RuntimeException.class));
+    }
+
+    private static final class CountingStrategy implements ExceptionHandlerStrategy {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean supports(Class<? extends Throwable> type) {
+            calls.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public Mono<ErrorResponseWrapper> handle(Throwable ex, ServerWebExchange exchange) {
+            return Mono.empty();
+        }
+    }
+}
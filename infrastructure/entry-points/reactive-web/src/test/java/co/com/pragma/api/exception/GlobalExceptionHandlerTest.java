@@ -0,0 +1,114 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.exception.strategy.AccessDeniedExceptionHandler;
+import co.com.pragma.api.exception.strategy.BusinessExceptionHandler;
+import co.com.pragma.api.exception.strategy.DataSourceUnavailableExceptionHandler;
+import co.com.pragma.api.exception.strategy.DefaultExceptionHandler;
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.api.exception.dto.ErrorBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.access.AccessDeniedException;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalExceptionHandlerTest {
+
+    @Mock
+    private LoggerPort logger;
+
+    private ObjectWriter errorBodyWriter;
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        errorBodyWriter = spy(new ObjectMapper().writerFor(ErrorBody.class));
+        doReturn(errorBodyWriter).when(objectMapper).writerFor(ErrorBody.class);
+        handler = new GlobalExceptionHandler(logger, objectMapper, List.of(
+                new AccessDeniedExceptionHandler(logger),
+                new BusinessExceptionHandler(logger),
+                new DataSourceUnavailableExceptionHandler(logger),
+                new DefaultExceptionHandler(logger)
+        ));
+    }
+
+    @Test
+    void shouldSerializeStaticBodiesOnlyOnce() throws Exception {
+        MockServerWebExchange first = exchange();
+        MockServerWebExchange second = exchange();
+
+        StepVerifier.create(handler.handle(first, new AccessDeniedException("denegado"))).verifyComplete();
+        StepVerifier.create(handler.handle(second, new AccessDeniedException("denegado"))).verifyComplete();
+
+        verify(errorBodyWriter, times(1)).writeValueAsBytes(any());
+        assertEquals(HttpStatus.FORBIDDEN, second.getResponse().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertEquals(first.getResponse().getBodyAsString().block(), second.getResponse().getBodyAsString().block());
+        assertEquals("{\"status\":403,\"error\":\"Forbidden\",\"message\":\"Acceso denegado. No tiene los permisos necesarios para realizar esta acción.\"}",
+                second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldSerializeDynamicBodiesPerRequest() throws Exception {
+        MockServerWebExchange first = exchange();
+        MockServerWebExchange second = exchange();
+
+        StepVerifier.create(handler.handle(first, new BusinessException("Correo duplicado"))).verifyComplete();
+        StepVerifier.create(handler.handle(second, new BusinessException("Documento duplicado"))).verifyComplete();
+
+        verify(errorBodyWriter, times(2)).writeValueAsBytes(any());
+        assertEquals(HttpStatus.CONFLICT, second.getResponse().getStatusCode());
+        assertEquals("{\"status\":409,\"error\":\"Business Rule Violation\",\"message\":\"Documento duplicado\"}",
+                second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldReuseEncodedDefaultBodyForUnhandledErrors() throws Exception {
+        MockServerWebExchange exchange = exchange();
+
+        StepVerifier.create(handler.handle(exchange(), new IllegalStateException("uno"))).verifyComplete();
+        StepVerifier.create(handler.handle(exchange, new IllegalArgumentException("dos"))).verifyComplete();
+
+        verify(errorBodyWriter, times(1)).writeValueAsBytes(any());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldAnswerServiceUnavailableWhenDatabaseIsDown() {
+        MockServerWebExchange exchange = exchange();
+
+        StepVerifier.create(handler.handle(exchange, new DataSourceUnavailableException("getUserProfileByEmail",
+                new TimeoutException("plazo agotado")))).verifyComplete();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertNotNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+    }
+}
@@ -0,0 +1,114 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.allocation.AllocationThreadLocalAccessor;
+import co.com.pragma.api.allocation.RequestAllocations;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationAccountingWebFilterTest {
+
+    private final AtomicLong allocated = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private AllocationThreadLocalAccessor accessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accessor = new AllocationThreadLocalAccessor(allocated::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessor.reset();
+    }
+
+    @Test
+    void shouldRecordBytesAllocatedDownstreamTaggedByRoutePattern() {
+        // Arrange
+        AllocationAccountingWebFilter filter = new AllocationAccountingWebFilter(accessor, meterRegistry, 1.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/usuarios"));
+        // Simula la restauración que hace la propagación automática al continuar en un hilo
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            webExchange.getAttributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE, PathPatternParser.defaultInstance.parse("/api/v1/usuarios"));
+            accessor.setValue(context.get(RequestAllocations.CONTEXT_KEY));
+            allocated.addAndGet(4_096);
+            return Mono.empty();
+        });
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        DistributionSummary summary = meterRegistry.find(AllocationAccountingWebFilter.ALLOCATION_METRIC)
+                .tag("uri", "/api/v1/usuarios")
+                .tag("method", "POST")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(4_096.0, summary.totalAmount());
+    }
+
+    @Test
+    void shouldReuseTheSummaryOfARouteAcrossRequests() {
+        // Arrange
+        AllocationAccountingWebFilter filter = new AllocationAccountingWebFilter(accessor, meterRegistry, 1.0);
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            webExchange.getAttributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE, PathPatternParser.defaultInstance.parse("/api/v1/usuarios"));
+            accessor.setValue(context.get(RequestAllocations.CONTEXT_KEY));
+            allocated.addAndGet(1_024);
+            return Mono.empty();
+        });
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios")), chain))
+                    .verifyComplete();
+        }
+
+        // Assert
+        assertEquals(1, meterRegistry.find(AllocationAccountingWebFilter.ALLOCATION_METRIC).summaries().size());
+        assertEquals(3, meterRegistry.get(AllocationAccountingWebFilter.ALLOCATION_METRIC).summary().count());
+    }
+
+    @Test
+    void shouldSkipRequestsOutsideTheSample() {
+        // Arrange
+        AllocationAccountingWebFilter filter = new AllocationAccountingWebFilter(accessor, meterRegistry, 0.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            assertFalse(context.hasKey(RequestAllocations.CONTEXT_KEY));
+            return Mono.empty();
+        });
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertNull(meterRegistry.find(AllocationAccountingWebFilter.ALLOCATION_METRIC).summary());
+    }
+
+    @Test
+    void shouldRunBeforeConcurrencyLimits() {
+        AllocationAccountingWebFilter filter = new AllocationAccountingWebFilter(accessor, meterRegistry, 1.0);
+
+        assertTrue(filter.getOrder() < ConcurrencyLimitWebFilter.ORDER);
+    }
+}
@@ -0,0 +1,97 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.commonutils.RequestBulkhead;
+import co.com.pragma.model.constants.ApiConstants;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BulkheadWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadRegistry registry;
+    private BulkheadWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new BulkheadWebFilter(registry, meterRegistry);
+    }
+
+    @Test
+    void shouldExposeBulkheadToDownstreamContext() {
+        AtomicReference<RequestBulkhead> seen = new AtomicReference<>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            seen.set(context.get(RequestBulkhead.CONTEXT_KEY));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(readExchange(), chain)).verifyComplete();
+
+        assertEquals(new RequestBulkhead("user-reads"), seen.get());
+        assertEquals(1, registry.bulkhead("user-reads").getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void shouldRejectOnlyTheSaturatedBulkhead() {
+        Sinks.Empty<Void> inFlight = Sinks.empty();
+        WebFilterChain slowChain = exchange -> inFlight.asMono();
+
+        StepVerifier.create(filter.filter(loginExchange(), slowChain))
+                .then(() -> {
+                    MockServerWebExchange rejected = loginExchange();
+                    StepVerifier.create(filter.filter(rejected, slowChain)).verifyComplete();
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode());
+
+                    // Las consultas de usuarios tienen su propio presupuesto
+                    MockServerWebExchange read = readExchange();
+                    StepVerifier.create(filter.filter(read, exchange -> Mono.empty())).verifyComplete();
+                    assertNull(read.getResponse().getStatusCode());
+                })
+                .then(inFlight::tryEmitEmpty)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get(BulkheadWebFilter.REJECTED_METRIC).tag("bulkhead", "login").counter().count());
+        assertEquals(0.0, meterRegistry.get(BulkheadWebFilter.REJECTED_METRIC).tag("bulkhead", "user-reads").counter().count());
+        assertEquals(1, registry.bulkhead("login").getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void shouldNotIsolateUnclassifiedRoutes() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(filter.filter(exchange, webExchange -> Mono.deferContextual(context -> {
+                    assertFalse(context.hasKey(RequestBulkhead.CONTEXT_KEY));
+                    return Mono.empty();
+                })))
+                .verifyComplete();
+    }
+
+    private static MockServerWebExchange loginExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH));
+    }
+
+    private static MockServerWebExchange readExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(ApiConstants.USERS_ENDPOINT));
+    }
+}
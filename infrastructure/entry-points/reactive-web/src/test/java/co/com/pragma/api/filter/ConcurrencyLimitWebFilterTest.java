@@ -0,0 +1,150 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.concurrency.RouteGroup;
+import co.com.pragma.api.config.ConcurrencyLimitProperties;
+import co.com.pragma.api.exception.InvalidRequestException;
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.exception.DataSourceUnavailableException;
+import co.com.pragma.model.constants.ApiConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        ConcurrencyLimitProperties.Group login = new ConcurrencyLimitProperties.Group();
+        login.setInitialLimit(1);
+        login.setMinLimit(1);
+        login.setMaxLimit(1);
+        properties.getGroups().put(RouteGroup.LOGIN, login);
+        ConcurrencyLimitProperties.Group writes = new ConcurrencyLimitProperties.Group();
+        writes.setInitialLimit(10);
+        writes.setMinLimit(1);
+        writes.setMaxLimit(20);
+        properties.getGroups().put(RouteGroup.USER_WRITES, writes);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitWebFilter(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldShedExcessLoadWith503() {
+        Sinks.Empty<Void> inFlight = Sinks.empty();
+        WebFilterChain slowChain = exchange -> inFlight.asMono();
+
+        // La primera petición ocupa el único cupo
+        StepVerifier.create(filter.filter(loginExchange(), slowChain))
+                .then(() -> {
+                    MockServerWebExchange rejected = loginExchange();
+                    StepVerifier.create(filter.filter(rejected, slowChain)).verifyComplete();
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode());
+                    assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                    assertEquals(1.0, gauge(ConcurrencyLimitWebFilter.IN_FLIGHT_METRIC, "login"));
+                })
+                .then(inFlight::tryEmitEmpty)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get(ConcurrencyLimitWebFilter.REJECTED_METRIC).tag("group", "login").counter().count());
+        assertEquals(0.0, gauge(ConcurrencyLimitWebFilter.IN_FLIGHT_METRIC, "login"));
+        assertEquals(1.0, gauge(ConcurrencyLimitWebFilter.LIMIT_METRIC, "login"));
+    }
+
+    @Test
+    void shouldReleaseSlotWhenDownstreamFails() {
+        StepVerifier.create(filter.filter(loginExchange(), exchange -> Mono.error(new IllegalStateException("falla"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        MockServerWebExchange next = loginExchange();
+        StepVerifier.create(filter.filter(next, exchange -> Mono.empty())).verifyComplete();
+        assertNull(next.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldNotReduceLimitOnClientErrors() {
+        // Act: 400 por validación y 409 por regla de negocio
+        StepVerifier.create(filter.filter(writeExchange(),
+                        exchange -> Mono.error(new InvalidRequestException("inválida", Map.of("email", "requerido")))))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        StepVerifier.create(filter.filter(writeExchange(),
+                        exchange -> Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST))))
+                .expectError(ResponseStatusException.class)
+                .verify();
+        StepVerifier.create(filter.filter(writeExchange(), exchange -> Mono.error(new BusinessException("duplicado"))))
+                .expectError(BusinessException.class)
+                .verify();
+
+        // Assert
+        assertEquals(10.0, gauge(ConcurrencyLimitWebFilter.LIMIT_METRIC, "user-writes"));
+        assertEquals(0.0, gauge(ConcurrencyLimitWebFilter.IN_FLIGHT_METRIC, "user-writes"));
+    }
+
+    @Test
+    void shouldReduceLimitOnOverloadErrors() {
+        // Act
+        StepVerifier.create(filter.filter(writeExchange(), exchange -> Mono.error(
+                        new DataSourceUnavailableException("createUser", new TimeoutException("pool")))))
+                .expectError(DataSourceUnavailableException.class)
+                .verify();
+
+        // Assert
+        assertTrue(gauge(ConcurrencyLimitWebFilter.LIMIT_METRIC, "user-writes") < 10.0);
+        assertEquals(0.0, gauge(ConcurrencyLimitWebFilter.IN_FLIGHT_METRIC, "user-writes"));
+    }
+
+    @Test
+    void shouldClassifyOverloadErrors() {
+        assertTrue(ConcurrencyLimitWebFilter.isOverload(new TimeoutException("timeout")));
+        assertTrue(ConcurrencyLimitWebFilter.isOverload(new IllegalStateException(new ConnectException("refused"))));
+        assertTrue(ConcurrencyLimitWebFilter.isOverload(new ResponseStatusException(HttpStatus.BAD_GATEWAY)));
+        assertTrue(ConcurrencyLimitWebFilter.isOverload(new IllegalStateException("falla")));
+        assertFalse(ConcurrencyLimitWebFilter.isOverload(new ResponseStatusException(HttpStatus.CONFLICT)));
+        assertFalse(ConcurrencyLimitWebFilter.isOverload(new AccessDeniedException("denegado")));
+    }
+
+    @Test
+    void shouldNotLimitUnclassifiedRoutes() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(filter.filter(exchange, webExchange -> Mono.empty())).verifyComplete();
+
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    private double gauge(String name, String group) {
+        return meterRegistry.get(name).tag("group", group).gauge().value();
+    }
+
+    private static MockServerWebExchange writeExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(ApiConstants.USERS_ENDPOINT));
+    }
+
+    private static MockServerWebExchange loginExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH));
+    }
+}
@@ -0,0 +1,144 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.api.config.ServerTimingProperties;
+import co.com.pragma.commonutils.MicrometerOperationMetricsAdapter;
+import co.com.pragma.commonutils.RequestTimings;
+import co.com.pragma.model.constants.ApiConstants;
+import co.com.pragma.model.user.UserProfile;
+import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerTimingWebFilterTest {
+
+    private static final String LOGIN = "/api/v1/login";
+    private static final String TOKEN = "secreto";
+
+    // Simula una fase anotada por el OperationMetricsPort y escribe el cuerpo como lo haría el codec
+    private final WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+        context.<RequestTimings>getOrEmpty(RequestTimings.CONTEXT_KEY)
+                .ifPresent(timings -> timings.add("db", TimeUnit.MILLISECONDS.toNanos(2)));
+        return exchange.getResponse().writeWith(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance
+                .wrap("{\"token\":\"t\"}".getBytes(StandardCharsets.UTF_8))));
+    });
+
+    @Test
+    void shouldAddPhasesAndSerializationWhenEnabled() {
+        // Arrange
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(true, null));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(LOGIN));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        String header = exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;dur=2.00, "), header);
+        assertTrue(header.contains(ServerTimingWebFilter.SERIALIZE_PHASE + ";dur="), header);
+    }
+
+    @Test
+    void shouldReportDatabasePhaseForUserLookup() {
+        // Arrange: la cadena consulta el perfil con el caso de uso real, como el Handler de GET /usuarios
+        String email = "john.doe@example.com";
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.getUserProfileByEmail(email)).thenReturn(Mono.just(new UserProfile("1", "John", "Doe",
+                LocalDate.of(1990, 5, 15), email, "123456789", "3001234567", 1, 50000.0)));
+        UserUseCase useCase = new UserUseCase(userRepository, null, null,
+                new MicrometerOperationMetricsAdapter(new SimpleMeterRegistry()));
+        WebFilterChain usersChain = exchange -> useCase.getUserProfileByEmail(email)
+                .flatMap(profile -> exchange.getResponse().writeWith(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance
+                        .wrap(profile.email().getBytes(StandardCharsets.UTF_8)))));
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(true, null));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(ApiConstants.USERS_ENDPOINT)
+                .queryParam("email", email));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, usersChain)).verifyComplete();
+
+        // Assert
+        String header = exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;dur="), header);
+        assertTrue(header.contains(ServerTimingWebFilter.SERIALIZE_PHASE + ";dur="), header);
+    }
+
+    @Test
+    void shouldStayOffByDefault() {
+        // Arrange
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(false, TOKEN));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(LOGIN));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void shouldHonourTrustedHeaderWithMatchingToken() {
+        // Arrange
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(false, TOKEN));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(LOGIN)
+                .header("X-Server-Timing-Token", TOKEN));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertNotNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void shouldIgnoreTrustedHeaderWithWrongToken() {
+        // Arrange
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(false, TOKEN));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(LOGIN)
+                .header("X-Server-Timing-Token", "otro"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void shouldSkipRoutesOutsideLoginAndUsers() {
+        // Arrange
+        ServerTimingWebFilter filter = new ServerTimingWebFilter(properties(true, null));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Assert
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+    }
+
+    private static ServerTimingProperties properties(boolean enabled, String token) {
+        ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setEnabled(enabled);
+        properties.setTrustedToken(token);
+        return properties;
+    }
+}
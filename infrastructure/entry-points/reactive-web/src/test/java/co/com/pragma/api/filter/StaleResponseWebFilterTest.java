@@ -0,0 +1,40 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.commonutils.StaleResponseMarker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StaleResponseWebFilterTest {
+
+    private final StaleResponseWebFilter filter = new StaleResponseWebFilter();
+
+    @Test
+    void shouldAddWarningHeaderWhenResponseIsStale() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            context.<StaleResponseMarker>get(StaleResponseMarker.CONTEXT_KEY).markStale();
+            return webExchange.getResponse().setComplete();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(StaleResponseWebFilter.STALE_WARNING, exchange.getResponse().getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void shouldNotAddWarningHeaderForFreshResponses() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+
+        StepVerifier.create(filter.filter(exchange, webExchange -> webExchange.getResponse().setComplete())).verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+}
@@ -0,0 +1,81 @@
+package co.com.pragma.api.filter;
+
+import co.com.pragma.commonutils.RequestStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class StatementCountWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCountWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new StatementCountWebFilter(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordStatementsCountedDownstreamTaggedByRoutePattern() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios?email=a@b.com"));
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            webExchange.getAttributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE, PathPatternParser.defaultInstance.parse("/api/v1/usuarios"));
+            context.<RequestStatementCounter>get(RequestStatementCounter.CONTEXT_KEY).add(3);
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        DistributionSummary summary = meterRegistry.find(StatementCountWebFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/usuarios")
+                .tag("method", "GET")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void shouldReuseTheSummaryOfARouteAcrossRequests() {
+        WebFilterChain chain = webExchange -> Mono.deferContextual(context -> {
+            webExchange.getAttributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE, PathPatternParser.defaultInstance.parse("/api/v1/usuarios"));
+            context.<RequestStatementCounter>get(RequestStatementCounter.CONTEXT_KEY).add(2);
+            return Mono.empty();
+        });
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios")), chain))
+                    .verifyComplete();
+        }
+
+        assertEquals(1, meterRegistry.find(StatementCountWebFilter.METRIC_NAME).summaries().size());
+        DistributionSummary summary = meterRegistry.get(StatementCountWebFilter.METRIC_NAME).summary();
+        assertEquals(3, summary.count());
+        assertEquals(6.0, summary.totalAmount());
+    }
+
+    @Test
+    void shouldTagUnmatchedRequestsAsUnknown() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/no-existe"));
+
+        StepVerifier.create(filter.filter(exchange, webExchange -> Mono.empty())).verifyComplete();
+
+        DistributionSummary summary = meterRegistry.find(StatementCountWebFilter.METRIC_NAME)
+                .tag("uri", StatementCountWebFilter.UNKNOWN_ROUTE)
+                .summary();
+        assertNotNull(summary);
+        assertEquals(0.0, summary.totalAmount());
+    }
+}
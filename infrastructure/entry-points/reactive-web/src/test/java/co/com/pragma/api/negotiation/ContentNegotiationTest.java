@@ -0,0 +1,26 @@
+package co.com.pragma.api.negotiation;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentNegotiationTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''|application/json",
+            "*/*|application/json",
+            "application/json|application/json",
+            "application/cbor|application/cbor",
+            "application/x-jackson-smile|application/x-jackson-smile",
+            "application/cbor;q=0.5, application/json|application/json",
+            "application/json;q=0.2, application/x-jackson-smile|application/x-jackson-smile",
+            "text/html, application/cbor|application/cbor",
+            "text/html|application/json"
+    })
+    void shouldSelectResponseTypeFromAcceptHeader(String accept, String expected) {
+        assertEquals(MediaType.parseMediaType(expected), ContentNegotiation.select(MediaType.parseMediaTypes(accept)));
+    }
+}
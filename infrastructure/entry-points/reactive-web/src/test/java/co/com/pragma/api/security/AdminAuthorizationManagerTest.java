@@ -0,0 +1,117 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuthorizationManagerTest {
+
+    @Mock
+    private LoggerPort logger;
+
+    private AdminAuthorizationManager authorizationManager;
+
+    static Stream<Arguments> roleAuthorizationTestCases() {
+        return Stream.of(
+                Arguments.of(List.of("ROLE_ADMIN"), true, "Admin should have access"),
+                Arguments.of(List.of("ADMIN"), true, "Should handle normalized admin role"),
+                Arguments.of(List.of("ROLE_ADVISOR"), false, "Advisor should not have access"),
+                Arguments.of(List.of("ROLE_CLIENT"), false, "Client should not have access"),
+                Arguments.of(List.of("ROLE_CLIENT", "ROLE_ADMIN"), true, "User with client and admin roles should have access"),
+                Arguments.of(List.of(), false, "User with no roles should not have access")
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        authorizationManager = new AdminAuthorizationManager(logger);
+    }
+
+    @ParameterizedTest
+    @MethodSource("roleAuthorizationTestCases")
+    void shouldOnlyGrantAccessToAdmins(List<String> roles, boolean expectedAccess, String scenario) {
+        // Arrange
+        Authentication auth = UsernamePasswordAuthenticationToken.authenticated("ops@example.com", null,
+                roles.stream().map(SimpleGrantedAuthority::new).toList());
+
+        // Act
+        Mono<AuthorizationDecision> result = authorizationManager.check(Mono.just(auth), createAuthorizationContext());
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(decision -> assertEquals(expectedAccess, decision.isGranted(), scenario))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldLogDeniedAccessWithRequestedPath() {
+        // Arrange
+        Authentication auth = UsernamePasswordAuthenticationToken.authenticated("client@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_CLIENT")));
+
+        // Act
+        StepVerifier.create(authorizationManager.check(Mono.just(auth), createAuthorizationContext()))
+                .assertNext(decision -> assertFalse(decision.isGranted()))
+                .verifyComplete();
+
+        // Assert
+        verify(logger).warn(anyString(), eq("client@example.com"), eq("/actuator/jfr"));
+    }
+
+    @Test
+    void shouldDenyAccessForUnauthenticatedUser() {
+        // Arrange
+        Authentication auth = mock(Authentication.class);
+        when(auth.isAuthenticated()).thenReturn(false);
+
+        // Act
+        Mono<AuthorizationDecision> result = authorizationManager.check(Mono.just(auth), createAuthorizationContext());
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(decision -> assertFalse(decision.isGranted()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDenyAccessForEmptyAuthentication() {
+        // Act
+        Mono<AuthorizationDecision> result = authorizationManager.check(Mono.empty(), createAuthorizationContext());
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(decision -> assertFalse(decision.isGranted()))
+                .verifyComplete();
+    }
+
+    private AuthorizationContext createAuthorizationContext() {
+        return new AuthorizationContext(MockServerWebExchange.from(MockServerHttpRequest.post("/actuator/jfr")));
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.pragma.api.serialization;
+
+import co.com.pragma.api.config.JacksonSerializationConfig;
+import co.com.pragma.api.dto.response.LoginResponseRecord;
+import co.com.pragma.api.dto.response.UserResponseRecord;
+import co.com.pragma.api.exception.dto.ErrorBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApiSerializationModuleTest {
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+
+    @BeforeEach
+    void setUp() {
+        JacksonSerializationConfig config = new JacksonSerializationConfig();
+        defaultMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        tunedMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(config.blackbirdModule())
+                .addModule(config.apiSerializationModule())
+                .build();
+    }
+
+    @Test
+    void shouldSerializeTokenResponseLikeTheLegacyMap() throws Exception {
+        assertEquals(defaultMapper.writeValueAsString(Map.of("token", "abc.def.ghi")),
+                tunedMapper.writeValueAsString(LoginResponseRecord.ofToken("abc.def.ghi")));
+    }
+
+    @Test
+    void shouldSerializeErrorResponseLikeTheLegacyMap() throws Exception {
+        assertEquals(defaultMapper.writeValueAsString(Map.of("error", "Credenciales inválidas")),
+                tunedMapper.writeValueAsString(LoginResponseRecord.ofError("Credenciales inválidas")));
+    }
+
+    @Test
+    void shouldKeepRecordPayloadsUnchanged() throws Exception {
+        UserResponseRecord user = new UserResponseRecord("1", "John", "Doe", LocalDate.of(1990, 5, 15),
+                "john.doe@example.com", "123456789", "3001234567", "1", 50000.0);
+        ErrorBody error = new ErrorBody(400, "Validation Error", null, Map.of("email", "requerido"));
+
+        assertEquals(defaultMapper.writeValueAsString(user), tunedMapper.writeValueAsString(user));
+        assertEquals(defaultMapper.writeValueAsString(error), tunedMapper.writeValueAsString(error));
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.pragma.api.validation;
+
+import co.com.pragma.api.dto.request.UserRequestRecord;
+import co.com.pragma.model.constants.ErrorMessages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserRequestValidatorTest {
+
+    private static ValidatorFactory factory;
+    private static Validator jakartaValidator;
+    private static UserRequestValidator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        jakartaValidator = factory.getValidator();
+        validator = new UserRequestValidator(jakartaValidator);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    static Stream<Arguments> requests() {
+        LocalDate birthDate = LocalDate.of(1990, 5, 15);
+        return Stream.of(
+                Arguments.of(new UserRequestRecord("John", "Doe", birthDate, "john.doe@example.com", "123", "300", "1", 1000.0, "secret")),
+                Arguments.of(new UserRequestRecord(null, null, null, null, null, null, null, null, null)),
+                Arguments.of(new UserRequestRecord(" ", "\t", birthDate, "", "", " ", "", 1000.0, " ")),
+                Arguments.of(new UserRequestRecord("John", "Doe", LocalDate.now(), "john.doe@example.com", "123", "300", "1", 1000.0, "secret")),
+                Arguments.of(new UserRequestRecord("John", "Doe", LocalDate.now().plusYears(1), "correo-invalido", "123", "300", "1", 1000.0, "secret")),
+                Arguments.of(new UserRequestRecord("John", "Doe", birthDate, "john@", "123", "300", "1", null, "secret"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("requests")
+    void shouldReportSameViolationsAsJakartaValidation(UserRequestRecord request) {
+        assertEquals(jakartaViolations(request), validator.validate(request));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "john.doe@example.com", "a@b", "\"quoted\\\"x\"@example.com", "bad@", "@example.com", "a..b@example.com",
+            "a@-example.com", "a@example-.com", "a@[127.0.0.1]", "sin-arroba", "a b@example.com", "ñandú@dominio.co",
+            "a@example.com.", "first.last+tag@sub.example.org"
+    })
+    void shouldMatchJakartaEmailValidation(String email) {
+        boolean expected = jakartaValidator.validateValue(UserRequestRecord.class, "email", email).stream()
+                .noneMatch(violation -> violation.getConstraintDescriptor().getAnnotation() instanceof jakarta.validation.constraints.Email);
+
+        assertEquals(expected, UserRequestValidator.isValidEmail(email), email);
+    }
+
+    @Test
+    void shouldReturnSharedEmptyMapForValidRequests() {
+        UserRequestRecord request = new UserRequestRecord("John", "Doe", LocalDate.of(1990, 5, 15),
+                "john.doe@example.com", "123", "300", "1", 1000.0, "secret");
+
+        assertSame(Map.of(), validator.validate(request));
+    }
+
+    @Test
+    void shouldReportOnlyFirstFailingConstraintPerField() {
+        // Un correo en blanco viola @NotBlank y @Email; se reporta el mensaje de campo requerido
+        UserRequestRecord request = new UserRequestRecord("John", "Doe", LocalDate.of(1990, 5, 15),
+                "   ", "123", "300", "1", 1000.0, "secret");
+
+        assertEquals(Map.of("email", ErrorMessages.EMAIL_FIELD_REQUIRED), validator.validate(request));
+    }
+
+    private static Map<String, String> jakartaViolations(UserRequestRecord request) {
+        return jakartaValidator.validate(request).stream()
+                .collect(Collectors.toMap(v -> v.getPropertyPath().toString(), ConstraintViolation::getMessage));
+    }
+}
@@ -0,0 +1,66 @@
+package co.com.pragma.servlet;
+
+import co.com.pragma.model.constants.ApiConstants;
+import co.com.pragma.model.constants.BusinessConstants;
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.security.model.RoleConstants;
+import co.com.pragma.servlet.dto.LoginRequest;
+import co.com.pragma.servlet.dto.LoginResponse;
+import co.com.pragma.servlet.security.JwtTokenService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Login del perfil {@code loom}, con la misma respuesta que {@code AuthHandler}.
+ */
+@RestController
+public class AuthController {
+
+    private final UserRepository userRepository;
+    private final PasswordEncryptor passwordEncryptor;
+    private final JwtTokenService tokenService;
+    private final LoggerPort logger;
+
+    public AuthController(UserRepository userRepository, PasswordEncryptor passwordEncryptor,
+                          JwtTokenService tokenService, LoggerPort logger) {
+        this.userRepository = userRepository;
+        this.passwordEncryptor = passwordEncryptor;
+        this.tokenService = tokenService;
+        this.logger = logger;
+    }
+
+    @PostMapping(ApiConstants.API_V1_BASE_PATH + ApiConstants.LOGIN_PATH)
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+        logger.info("Login attempt for username: {}", request.username());
+        return userRepository.getUserByEmail(request.username())
+                .blockOptional()
+                .filter(user -> passwordEncryptor.matches(request.password(), user.password()))
+                .map(user -> ResponseEntity.ok(LoginResponse.ofToken(tokenService.generateToken(user.email(), roles(user.roleId())))))
+                .orElseGet(() -> {
+                    logger.warn("Login failed for username: {}. Invalid credentials.", request.username());
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(LoginResponse.ofError(ErrorMessages.INVALID_CREDENTIALS));
+                });
+    }
+
+    // Misma correspondencia que las RoleStrategy del entry point reactivo
+    static List<String> roles(Integer roleId) {
+        if (BusinessConstants.ADMIN_ROLE_ID.equals(roleId)) {
+            return List.of(RoleConstants.ADMIN);
+        }
+        if (BusinessConstants.ADVISOR_ROLE_ID.equals(roleId)) {
+            return List.of(RoleConstants.ADVISOR);
+        }
+        if (BusinessConstants.CLIENT_ROLE_ID.equals(roleId)) {
+            return List.of(RoleConstants.CLIENT);
+        }
+        return List.of();
+    }
+}
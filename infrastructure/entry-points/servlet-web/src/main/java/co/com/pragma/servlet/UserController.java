@@ -0,0 +1,63 @@
+package co.com.pragma.servlet;
+
+import co.com.pragma.model.constants.ApiConstants;
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.constants.QueryParameterConstants;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.servlet.dto.UserRequest;
+import co.com.pragma.servlet.dto.UserResponse;
+import co.com.pragma.usecase.user.UserUseCase;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Rutas de usuarios del perfil {@code loom}. Cada petición corre en su propio hilo virtual y espera
+ * el resultado del mismo {@link UserUseCase} que usa el entry point reactivo.
+ */
+@RestController
+public class UserController {
+
+    private final UserUseCase useCase;
+    private final LoggerPort logger;
+
+    public UserController(UserUseCase useCase, LoggerPort logger) {
+        this.useCase = useCase;
+        this.logger = logger;
+    }
+
+    @PostMapping(ApiConstants.USERS_ENDPOINT)
+    public UserResponse saveUser(@Valid @RequestBody UserRequest request) {
+        logger.info("Recibida petición para guardar usuario en la ruta: {}", ApiConstants.USERS_ENDPOINT);
+        return UserResponse.from(useCase.saveUser(request.toModel()).block());
+    }
+
+    @GetMapping(ApiConstants.USERS_ENDPOINT)
+    public ResponseEntity<UserResponse> getUserByEmail(@RequestParam(QueryParameterConstants.EMAIL) String email) {
+        logger.info("Recibida petición para obtener usuario por email: {}", logger.maskEmail(email));
+        return useCase.getUserProfileByEmail(email)
+                .map(UserResponse::from)
+                .blockOptional()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(ApiConstants.USERS_SEARCH_ENDPOINT)
+    public List<UserResponse> getUserByEmailOrIdentityDocument(
+            @RequestParam(name = QueryParameterConstants.EMAIL, required = false) String email,
+            @RequestParam(name = QueryParameterConstants.IDENTITY_DOCUMENT, required = false) String identityDocument) {
+        if (null == email && null == identityDocument) {
+            throw new IllegalArgumentException(ErrorMessages.EMAIL_OR_DOCUMENT_REQUIRED);
+        }
+        return useCase.getUserByEmailOrIdentityDocument(email, identityDocument)
+                .map(UserResponse::from)
+                .collectList()
+                .block();
+    }
+}
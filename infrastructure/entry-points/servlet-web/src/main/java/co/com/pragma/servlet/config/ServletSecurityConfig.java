@@ -0,0 +1,80 @@
+package co.com.pragma.servlet.config;
+
+import co.com.pragma.model.constants.ApiConstants;
+import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.security.model.RoleConstants;
+import co.com.pragma.servlet.security.BearerTokenAuthenticationFilter;
+import co.com.pragma.servlet.security.JwtTokenService;
+import co.com.pragma.servlet.security.UserLookupAuthorizationManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Seguridad del perfil {@code loom}: mismas rutas excluidas ({@code jwt.excluded-paths}) y mismas reglas
+ * de autorización que {@code security.rules} del entry point reactivo.
+ */
+@Configuration
+@EnableWebSecurity
+@EnableConfigurationProperties(JwtProperties.class)
+public class ServletSecurityConfig {
+
+    // Endpoints de diagnóstico del actuator, igual que las reglas adminAuthorizationManager de security.rules
+    private static final String[] ADMIN_ACTUATOR_PATHS = {"/actuator/jfr/**", "/actuator/blockingcalls"};
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public PasswordEncryptor passwordEncryptor(PasswordEncoder passwordEncoder) {
+        return new PasswordEncryptor() {
+            @Override
+            public String encode(String rawPassword) {
+                return passwordEncoder.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String encodedPassword) {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+
+    @Bean
+    public JwtTokenService jwtTokenService(JwtProperties properties) {
+        return new JwtTokenService(properties.getSecret(), properties.getExpiration());
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtProperties properties,
+                                                   JwtTokenService jwtTokenService) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(spec -> spec.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeHttpRequests(requests -> requests
+                        .requestMatchers(properties.getExcludedPaths().toArray(new String[0])).permitAll()
+                        .requestMatchers(HttpMethod.POST, ApiConstants.USERS_ENDPOINT).hasAnyAuthority(
+                                JwtTokenService.authority(RoleConstants.ADMIN), JwtTokenService.authority(RoleConstants.ADVISOR))
+                        .requestMatchers(HttpMethod.GET, ApiConstants.USERS_ENDPOINT).access(new UserLookupAuthorizationManager())
+                        .requestMatchers(ADMIN_ACTUATOR_PATHS).hasAuthority(JwtTokenService.authority(RoleConstants.ADMIN))
+                        .anyRequest().authenticated())
+                .addFilterBefore(new BearerTokenAuthenticationFilter(jwtTokenService), UsernamePasswordAuthenticationFilter.class)
+                .build();
+    }
+}
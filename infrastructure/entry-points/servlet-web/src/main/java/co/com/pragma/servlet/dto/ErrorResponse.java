@@ -0,0 +1,17 @@
+package co.com.pragma.servlet.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Mismo esquema que {@code ErrorBody} del entry point reactivo.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(
+        int status,
+        String error,
+        String message,
+        Map<String, String> messages
+) {
+}
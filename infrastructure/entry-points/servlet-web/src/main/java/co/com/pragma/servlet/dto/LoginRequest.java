@@ -0,0 +1,4 @@
+package co.com.pragma.servlet.dto;
+
+public record LoginRequest(String username, String password) {
+}
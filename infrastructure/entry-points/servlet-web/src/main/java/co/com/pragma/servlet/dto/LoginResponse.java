@@ -0,0 +1,15 @@
+package co.com.pragma.servlet.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoginResponse(String token, String error) {
+
+    public static LoginResponse ofToken(String token) {
+        return new LoginResponse(token, null);
+    }
+
+    public static LoginResponse ofError(String error) {
+        return new LoginResponse(null, error);
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.pragma.servlet.dto;
+
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.user.User;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+
+import java.time.LocalDate;
+
+/**
+ * Mismo contrato y restricciones que {@code UserRequestRecord} del entry point reactivo.
+ */
+public record UserRequest(
+        @NotBlank(message = ErrorMessages.FIRST_NAME_REQUIRED)
+        String firstName,
+        @NotBlank(message = ErrorMessages.LAST_NAME_REQUIRED)
+        String lastName,
+        @NotNull(message = ErrorMessages.BIRTH_DATE_REQUIRED)
+        @Past
+        LocalDate birthDate,
+        @NotBlank(message = ErrorMessages.EMAIL_FIELD_REQUIRED)
+        @Email
+        String email,
+        @NotBlank(message = ErrorMessages.IDENTITY_DOCUMENT_REQUIRED)
+        String identityDocument,
+        @NotBlank(message = ErrorMessages.PHONE_REQUIRED)
+        String phone,
+        @NotBlank(message = ErrorMessages.ROLE_ID_REQUIRED)
+        String roleId,
+        @NotNull(message = ErrorMessages.BASE_SALARY_REQUIRED)
+        Double baseSalary,
+        @NotBlank(message = ErrorMessages.PASSWORD_REQUIRED)
+        String password
+) {
+    // El 'id' es generado por la base de datos
+    public User toModel() {
+        return new User(null, firstName, lastName, birthDate, email, identityDocument, phone,
+                Integer.valueOf(roleId), baseSalary, password);
+    }
+}
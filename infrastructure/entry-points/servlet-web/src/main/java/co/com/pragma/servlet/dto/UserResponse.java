@@ -0,0 +1,30 @@
+package co.com.pragma.servlet.dto;
+
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.UserProfile;
+
+import java.time.LocalDate;
+
+public record UserResponse(
+        String id,
+        String firstName,
+        String lastName,
+        LocalDate birthDate,
+        String email,
+        String identityDocument,
+        String phone,
+        String roleId,
+        Double baseSalary
+) {
+    public static UserResponse from(User user) {
+        return new UserResponse(user.id(), user.firstName(), user.lastName(), user.birthDate(), user.email(),
+                user.identityDocument(), user.phone(), null == user.roleId() ? null : String.valueOf(user.roleId()),
+                user.baseSalary());
+    }
+
+    public static UserResponse from(UserProfile profile) {
+        return new UserResponse(profile.id(), profile.firstName(), profile.lastName(), profile.birthDate(), profile.email(),
+                profile.identityDocument(), profile.phone(), null == profile.roleId() ? null : String.valueOf(profile.roleId()),
+                profile.baseSalary());
+    }
+}
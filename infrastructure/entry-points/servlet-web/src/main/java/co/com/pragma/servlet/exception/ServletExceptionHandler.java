@@ -0,0 +1,63 @@
+package co.com.pragma.servlet.exception;
+
+import co.com.pragma.model.exception.BusinessException;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.servlet.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Traduce las excepciones a los mismos códigos y cuerpos que las estrategias del {@code GlobalExceptionHandler} reactivo.
+ */
+@RestControllerAdvice
+public class ServletExceptionHandler {
+
+    private final LoggerPort logger;
+
+    public ServletExceptionHandler(LoggerPort logger) {
+        this.logger = logger;
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusiness(BusinessException ex) {
+        logger.error("Violación de regla de negocio: {}", ex);
+        return respond(HttpStatus.CONFLICT, "Business Rule Violation", ex.getMessage(), null);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(MethodArgumentNotValidException ex) {
+        Map<String, String> violations = new LinkedHashMap<>();
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            violations.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        logger.info("La validación de la petición falló. Violaciones: {}", violations);
+        return respond(HttpStatus.BAD_REQUEST, "Validation Error", null, violations);
+    }
+
+    @ExceptionHandler({HttpMessageNotReadableException.class, MissingServletRequestParameterException.class,
+            IllegalArgumentException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequest(Exception ex) {
+        return respond(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), null);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleUnexpected(Exception ex) {
+        logger.error("Error inesperado: {}", ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "Ocurrió un error inesperado. Por favor, contacte al soporte.", null);
+    }
+
+    private static ResponseEntity<ErrorResponse> respond(HttpStatus status, String error, String message,
+                                                         Map<String, String> messages) {
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), error, message, messages));
+    }
+}
@@ -0,0 +1,67 @@
+package co.com.pragma.servlet.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Emite y verifica los JWT del perfil {@code loom}: HMAC con {@code jwt.secret}, el email como
+ * {@code subject} y los roles en el claim {@code roles}, igual que los tokens del entry point reactivo.
+ */
+public class JwtTokenService {
+
+    static final String ROLES_CLAIM = "roles";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final SecretKey key;
+    private final long expirationMillis;
+
+    public JwtTokenService(String secret, long expirationMillis) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.expirationMillis = expirationMillis;
+    }
+
+    public String generateToken(String email, List<String> roles) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(email)
+                .claim(ROLES_CLAIM, roles)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + expirationMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * @throws JwtException si el token está mal formado, expiró o la firma no coincide.
+     */
+    public Authentication authenticate(String token) {
+        Claims claims = Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        List<GrantedAuthority> authorities = null == roles ? List.of() : roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(authority(String.valueOf(role))))
+                .toList();
+        return UsernamePasswordAuthenticationToken.authenticated(claims.getSubject(), null, authorities);
+    }
+
+    /**
+     * Autoridad de Spring Security para un rol, con el prefijo {@code ROLE_} exactamente una vez.
+     */
+    public static String authority(String role) {
+        return role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+    }
+}
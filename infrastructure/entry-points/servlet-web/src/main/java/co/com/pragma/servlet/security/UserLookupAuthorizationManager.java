@@ -0,0 +1,43 @@
+package co.com.pragma.servlet.security;
+
+import co.com.pragma.model.constants.QueryParameterConstants;
+import co.com.pragma.security.model.RoleConstants;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Mismas reglas que {@code UserAuthorizationLogic}: ADMIN y ADVISOR consultan cualquier usuario,
+ * CLIENT solo su propio email.
+ */
+public class UserLookupAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final Set<String> UNRESTRICTED = Set.of(
+            JwtTokenService.authority(RoleConstants.ADMIN), JwtTokenService.authority(RoleConstants.ADVISOR));
+    private static final String CLIENT = JwtTokenService.authority(RoleConstants.CLIENT);
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication auth = authentication.get();
+        if (null == auth || !auth.isAuthenticated()) {
+            return new AuthorizationDecision(false);
+        }
+        Set<String> authorities = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+        if (authorities.stream().anyMatch(UNRESTRICTED::contains)) {
+            return new AuthorizationDecision(true);
+        }
+        if (authorities.contains(CLIENT)) {
+            String requestedEmail = context.getRequest().getParameter(QueryParameterConstants.EMAIL);
+            return new AuthorizationDecision(auth.getName().equalsIgnoreCase(requestedEmail));
+        }
+        return new AuthorizationDecision(false);
+    }
+}
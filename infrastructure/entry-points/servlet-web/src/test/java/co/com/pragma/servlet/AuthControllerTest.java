@@ -0,0 +1,84 @@
+package co.com.pragma.servlet;
+
+import co.com.pragma.model.constants.BusinessConstants;
+import co.com.pragma.model.constants.ErrorMessages;
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.security.PasswordEncryptor;
+import co.com.pragma.model.user.User;
+import co.com.pragma.model.user.repository.UserRepository;
+import co.com.pragma.security.model.RoleConstants;
+import co.com.pragma.servlet.dto.LoginRequest;
+import co.com.pragma.servlet.dto.LoginResponse;
+import co.com.pragma.servlet.security.JwtTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncryptor passwordEncryptor;
+    @Mock
+    private JwtTokenService tokenService;
+    @Mock
+    private LoggerPort logger;
+
+    private AuthController controller;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AuthController(userRepository, passwordEncryptor, tokenService, logger);
+        user = new User("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", BusinessConstants.ADMIN_ROLE_ID, 2500000.0, "hash");
+    }
+
+    @Test
+    void shouldIssueTokenForValidCredentials() {
+        // Arrange
+        when(userRepository.getUserByEmail("ana@example.com")).thenReturn(Mono.just(user));
+        when(passwordEncryptor.matches("secreta", "hash")).thenReturn(true);
+        when(tokenService.generateToken("ana@example.com", List.of(RoleConstants.ADMIN))).thenReturn("token");
+
+        // Act
+        ResponseEntity<LoginResponse> response = controller.login(new LoginRequest("ana@example.com", "secreta"));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(LoginResponse.ofToken("token"), response.getBody());
+    }
+
+    @Test
+    void shouldRejectWrongPassword() {
+        // Arrange
+        when(userRepository.getUserByEmail("ana@example.com")).thenReturn(Mono.just(user));
+        when(passwordEncryptor.matches("otra", "hash")).thenReturn(false);
+
+        // Act
+        ResponseEntity<LoginResponse> response = controller.login(new LoginRequest("ana@example.com", "otra"));
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(LoginResponse.ofError(ErrorMessages.INVALID_CREDENTIALS), response.getBody());
+    }
+
+    @Test
+    void shouldMapUnknownRoleToNoRoles() {
+        assertEquals(List.of(), AuthController.roles(null));
+        assertEquals(List.of(RoleConstants.CLIENT), AuthController.roles(BusinessConstants.CLIENT_ROLE_ID));
+    }
+}
@@ -0,0 +1,87 @@
+package co.com.pragma.servlet;
+
+import co.com.pragma.model.log.gateways.LoggerPort;
+import co.com.pragma.model.user.User;
+import co.com.pragma.servlet.dto.UserRequest;
+import co.com.pragma.servlet.dto.UserResponse;
+import co.com.pragma.usecase.user.UserUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    @Mock
+    private UserUseCase useCase;
+    @Mock
+    private LoggerPort logger;
+
+    private UserController controller;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        controller = new UserController(useCase, logger);
+        user = new User("id-1", "Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", 3, 2500000.0, "hash");
+    }
+
+    @Test
+    void shouldSaveUserAndOmitPassword() {
+        // Arrange
+        UserRequest request = new UserRequest("Ana", "Pérez", LocalDate.of(1990, 5, 20), "ana@example.com", "123",
+                "3000000000", "3", 2500000.0, "secreta");
+        when(useCase.saveUser(any(User.class))).thenReturn(Mono.just(user));
+
+        // Act
+        UserResponse response = controller.saveUser(request);
+
+        // Assert
+        assertEquals(UserResponse.from(user), response);
+        assertEquals("3", response.roleId());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownEmail() {
+        // Arrange
+        when(useCase.getUserProfileByEmail("nadie@example.com")).thenReturn(Mono.empty());
+
+        // Act
+        ResponseEntity<UserResponse> response = controller.getUserByEmail("nadie@example.com");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void shouldReturnEveryMatchingUser() {
+        // Arrange
+        when(useCase.getUserByEmailOrIdentityDocument("ana@example.com", null)).thenReturn(Flux.just(user));
+
+        // Act
+        List<UserResponse> response = controller.getUserByEmailOrIdentityDocument("ana@example.com", null);
+
+        // Assert
+        assertEquals(List.of(UserResponse.from(user)), response);
+    }
+
+    @Test
+    void shouldRequireEmailOrDocument() {
+        assertThrows(IllegalArgumentException.class, () -> controller.getUserByEmailOrIdentityDocument(null, null));
+    }
+}
@@ -0,0 +1,57 @@
+package co.com.pragma.servlet.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "una-clave-de-prueba-con-al-menos-256-bits-de-longitud";
+
+    private final JwtTokenService tokenService = new JwtTokenService(SECRET, 60_000);
+
+    @Test
+    void shouldAuthenticateIssuedToken() {
+        // Arrange
+        String token = tokenService.generateToken("ana@example.com", List.of("ADMIN"));
+
+        // Act
+        Authentication authentication = tokenService.authenticate(token);
+
+        // Assert
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("ana@example.com", authentication.getName());
+        assertEquals(List.of("ROLE_ADMIN"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        // Arrange
+        String token = new JwtTokenService(SECRET + "-otra", 60_000).generateToken("ana@example.com", List.of("ADMIN"));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> tokenService.authenticate(token));
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // Arrange
+        String token = new JwtTokenService(SECRET, -1_000).generateToken("ana@example.com", List.of("CLIENT"));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> tokenService.authenticate(token));
+    }
+
+    @Test
+    void shouldPrefixRoleOnlyOnce() {
+        assertEquals("ROLE_ADMIN", JwtTokenService.authority("ADMIN"));
+        assertEquals("ROLE_ADMIN", JwtTokenService.authority("ROLE_ADMIN"));
+    }
+}
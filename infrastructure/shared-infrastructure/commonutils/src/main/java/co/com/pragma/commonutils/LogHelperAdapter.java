@@ -2,11 +2,18 @@ package co.com.pragma.commonutils;
 
 import co.com.pragma.commons.logging.LogHelper;
 import co.com.pragma.model.log.gateways.LoggerPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 @Component
 public class LogHelperAdapter implements LoggerPort {
 
+    // Mismo logger sobre el que escribe LogHelper: se usa solo para consultar el nivel efectivo
+    private static final Logger LEVEL_GUARD = LoggerFactory.getLogger(LogHelper.class);
+
     @Override
     public void info(String message, Object... args) {
         LogHelper.info(message, args);
@@ -36,4 +43,92 @@ public class LogHelperAdapter implements LoggerPort {
     public String maskDocument(String documentId) {
         return LogHelper.maskDocument(documentId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isDebugEnabled() {
+        return LEVEL_GUARD.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return LEVEL_GUARD.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return LEVEL_GUARD.isWarnEnabled();
+    }
+
+    // Las sobrecargas de aridad fija comprueban el nivel antes de construir el arreglo de argumentos,
+    // de modo que un nivel deshabilitado no reserva memoria
+
+    @Override
+    public void info(String message, Object arg) {
+        if (LEVEL_GUARD.isInfoEnabled()) {
+            LogHelper.info(message, arg);
+        }
+    }
+
+    @Override
+    public void info(String message, Object arg1, Object arg2) {
+        if (LEVEL_GUARD.isInfoEnabled()) {
+            LogHelper.info(message, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object arg) {
+        if (LEVEL_GUARD.isWarnEnabled()) {
+            LogHelper.warn(message, arg);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object arg1, Object arg2) {
+        if (LEVEL_GUARD.isWarnEnabled()) {
+            LogHelper.warn(message, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(String message, Object arg) {
+        if (LEVEL_GUARD.isDebugEnabled()) {
+            LogHelper.debug(message, arg);
+        }
+    }
+
+    @Override
+    public void debug(String message, Object arg1, Object arg2) {
+        if (LEVEL_GUARD.isDebugEnabled()) {
+            LogHelper.debug(message, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(String message, Supplier<?> argSupplier) {
+        if (LEVEL_GUARD.isInfoEnabled()) {
+            LogHelper.info(message, argSupplier.get());
+        }
+    }
+
+    @Override
+    public void info(String message, Supplier<?> argSupplier1, Supplier<?> argSupplier2) {
+        if (LEVEL_GUARD.isInfoEnabled()) {
+            LogHelper.info(message, argSupplier1.get(), argSupplier2.get());
+        }
+    }
+
+    @Override
+    public void debug(String message, Supplier<?> argSupplier) {
+        if (LEVEL_GUARD.isDebugEnabled()) {
+            LogHelper.debug(message, argSupplier.get());
+        }
+    }
+
+    @Override
+    public void debug(String message, Supplier<?> argSupplier1, Supplier<?> argSupplier2) {
+        if (LEVEL_GUARD.isDebugEnabled()) {
+            LogHelper.debug(message, argSupplier1.get(), argSupplier2.get());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package co.com.pragma.commonutils;
+
+import co.com.pragma.model.metrics.gateways.OperationMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_EMPTY;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_ERROR;
+import static co.com.pragma.model.metrics.OperationMetrics.OUTCOME_SUCCESS;
+
+/**
+ * Publica las fases como el timer {@code operation.phase} (etiquetas operation, phase, outcome) y los resultados
+ * como el contador {@code operation.outcome}. Los medidores se registran una sola vez y se reutilizan desde
+ * un mapa, para no construir un {@code Meter.Id} por petición. Si el {@code Context} trae un {@link RequestTimings},
+ * la duración de la fase también se anota ahí para la cabecera {@code Server-Timing}.
+ */
+@Component
+public class MicrometerOperationMetricsAdapter implements OperationMetricsPort {
+
+    static final String PHASE_METRIC = "operation.phase";
+    static final String OUTCOME_METRIC = "operation.outcome";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<PhaseKey, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<OutcomeKey, Counter> outcomeCounters = new ConcurrentHashMap<>();
+
+    public MicrometerOperationMetricsAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> Mono<T> timePhase(String operation, String phase, Mono<T> source) {
+        return Mono.deferContextual(context -> {
+            // Solo presente si la petición pidió la cabecera Server-Timing
+            RequestTimings timings = context.getOrDefault(RequestTimings.CONTEXT_KEY, null);
+            long start = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> record(operation, phase, value == null ? OUTCOME_EMPTY : OUTCOME_SUCCESS, start, timings))
+                    .doOnError(error -> record(operation, phase, OUTCOME_ERROR, start, timings));
+        });
+    }
+
+    @Override
+    public void recordOutcome(String operation, String outcome) {
+        outcomeCounters.computeIfAbsent(new OutcomeKey(operation, outcome), key -> Counter.builder(OUTCOME_METRIC)
+                        .description("Resultado final de las operaciones instrumentadas")
+                        .tag("operation", key.operation())
+                        .tag("outcome", key.outcome())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void record(String operation, String phase, String outcome, long start, RequestTimings timings) {
+        long duration = System.nanoTime() - start;
+        if (timings != null) {
+            timings.add(phase, duration);
+        }
+        phaseTimers.computeIfAbsent(new PhaseKey(operation, phase, outcome), key -> Timer.builder(PHASE_METRIC)
+                        .description("Duración de cada fase de las operaciones instrumentadas")
+                        .tag("operation", key.operation())
+                        .tag("phase", key.phase())
+                        .tag("outcome", key.outcome())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private record PhaseKey(String operation, String phase, String outcome) {
+    }
+
+    private record OutcomeKey(String operation, String outcome) {
+    }
+}
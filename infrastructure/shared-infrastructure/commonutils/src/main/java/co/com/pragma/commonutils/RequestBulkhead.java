@@ -0,0 +1,11 @@
+package co.com.pragma.commonutils;
+
+/**
+ * Bulkhead al que pertenece la petición (p. ej. {@code login}, {@code user-reads}).
+ * Viaja en el {@code Context} de Reactor bajo {@link #CONTEXT_KEY}: el entry point lo asigna
+ * y el adaptador de base de datos lo usa para elegir la partición del pool de conexiones.
+ */
+public record RequestBulkhead(String name) {
+
+    public static final String CONTEXT_KEY = RequestBulkhead.class.getName();
+}
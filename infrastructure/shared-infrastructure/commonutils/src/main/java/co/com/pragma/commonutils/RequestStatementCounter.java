@@ -0,0 +1,23 @@
+package co.com.pragma.commonutils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contador de sentencias SQL emitidas por una petición HTTP.
+ * Viaja en el {@code Context} de Reactor bajo {@link #CONTEXT_KEY}: el entry point lo crea y el
+ * adaptador R2DBC lo incrementa, sin que ninguno de los dos dependa del otro.
+ */
+public final class RequestStatementCounter {
+
+    public static final String CONTEXT_KEY = RequestStatementCounter.class.getName();
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    public void add(int count) {
+        statements.addAndGet(count);
+    }
+
+    public int count() {
+        return statements.get();
+    }
+}
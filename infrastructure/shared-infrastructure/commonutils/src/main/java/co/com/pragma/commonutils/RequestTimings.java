@@ -0,0 +1,64 @@
+package co.com.pragma.commonutils;
+
+/**
+ * Duraciones por fase de una petición HTTP, para la cabecera {@code Server-Timing}.
+ * Viaja en el {@code Context} de Reactor bajo {@link #CONTEXT_KEY}: solo existe si el entry point activó
+ * la cabecera, de modo que las peticiones normales no pagan nada. Las fases se acumulan en arreglos de
+ * tamaño fijo (una petición tiene pocas) y se suman si se repiten.
+ */
+public final class RequestTimings {
+
+    public static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+    private static final int MAX_PHASES = 8;
+
+    private final String[] phases = new String[MAX_PHASES];
+    private final long[] nanos = new long[MAX_PHASES];
+    private int size;
+
+    public synchronized void add(String phase, long durationNanos) {
+        for (int i = 0; i < size; i++) {
+            if (phases[i].equals(phase)) {
+                nanos[i] += durationNanos;
+                return;
+            }
+        }
+        if (size < MAX_PHASES) {
+            phases[size] = phase;
+            nanos[size] = durationNanos;
+            size++;
+        }
+    }
+
+    /**
+     * @return La duración acumulada de la fase en nanosegundos, o -1 si no se registró.
+     */
+    public synchronized long nanos(String phase) {
+        for (int i = 0; i < size; i++) {
+            if (phases[i].equals(phase)) {
+                return nanos[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return El valor de la cabecera, p. ej. {@code db;dur=3.12, hash;dur=81.40}, con duraciones en milisegundos.
+     */
+    public synchronized String toHeaderValue() {
+        StringBuilder header = new StringBuilder(size * 16);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                header.append(", ");
+            }
+            long hundredths = nanos[i] / 10_000; // centésimas de milisegundo
+            header.append(phases[i]).append(";dur=").append(hundredths / 100).append('.');
+            long fraction = hundredths % 100;
+            if (fraction < 10) {
+                header.append('0');
+            }
+            header.append(fraction);
+        }
+        return header.toString();
+    }
+}
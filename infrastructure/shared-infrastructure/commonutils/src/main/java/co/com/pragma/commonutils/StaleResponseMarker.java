@@ -0,0 +1,21 @@
+package co.com.pragma.commonutils;
+
+/**
+ * Marca una petición cuya respuesta se sirvió desde caché porque la base de datos no estaba disponible.
+ * Viaja en el {@code Context} de Reactor bajo {@link #CONTEXT_KEY}: el adaptador la marca y el
+ * entry point lo informa al cliente.
+ */
+public final class StaleResponseMarker {
+
+    public static final String CONTEXT_KEY = StaleResponseMarker.class.getName();
+
+    private volatile boolean stale;
+
+    public void markStale() {
+        stale = true;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+}
@@ -4,7 +4,10 @@ import co.com.pragma.model.log.gateways.LoggerPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -56,4 +59,35 @@ class LogHelperAdapterTest {
         String result = logHelperAdapter.maskDocument("12345678");
         assertNotNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldExecuteFixedArityOverloads() {
+        assertDoesNotThrow(() -> logHelperAdapter.info("Test message: {} {}", "first", "second"));
+        assertDoesNotThrow(() -> logHelperAdapter.warn("Test message: {} {}", "first", "second"));
+        assertDoesNotThrow(() -> logHelperAdapter.debug("Test message: {} {}", "first", "second"));
+    }
+
+    @Test
+    void shouldEvaluateDebugSupplierOnlyWhenDebugIsEnabled() {
+        // Arrange
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // Act
+        logHelperAdapter.debug("Test message: {} - {}", () -> evaluations.incrementAndGet(), () -> evaluations.incrementAndGet());
+
+        // Assert
+        assertEquals(logHelperAdapter.isDebugEnabled() ? 2 : 0, evaluations.get());
+    }
+
+    @Test
+    void shouldEvaluateInfoSupplierOnlyWhenInfoIsEnabled() {
+        // Arrange
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // Act
+        logHelperAdapter.info("Test message: {}", () -> evaluations.incrementAndGet());
+
+        // Assert
+        assertEquals(logHelperAdapter.isInfoEnabled() ? 1 : 0, evaluations.get());
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.pragma.commonutils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MicrometerOperationMetricsAdapterTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerOperationMetricsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        adapter = new MicrometerOperationMetricsAdapter(registry);
+    }
+
+    @Test
+    void shouldTimePhaseTaggedWithOutcome() {
+        // Act
+        StepVerifier.create(adapter.timePhase("login", "db", Mono.just("user")))
+                .expectNext("user")
+                .verifyComplete();
+        StepVerifier.create(adapter.timePhase("login", "db", Mono.empty()))
+                .verifyComplete();
+        StepVerifier.create(adapter.timePhase("login", "db", Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Assert
+        assertEquals(1, phaseCount("login", "db", "success"));
+        assertEquals(1, phaseCount("login", "db", "empty"));
+        assertEquals(1, phaseCount("login", "db", "error"));
+    }
+
+    @Test
+    void shouldStartTimingOnSubscription() {
+        // Arrange
+        Mono<String> phase = adapter.timePhase("save_user", "hash", Mono.just("hashed"));
+
+        // Act
+        phase.block();
+        phase.block();
+
+        // Assert
+        assertEquals(2, phaseCount("save_user", "hash", "success"));
+    }
+
+    @Test
+    void shouldCountOutcomesReusingTheSameCounter() {
+        // Act
+        adapter.recordOutcome("login", "bad_credentials");
+        adapter.recordOutcome("login", "bad_credentials");
+        adapter.recordOutcome("login", "unknown_user");
+
+        // Assert
+        assertEquals(2.0, registry.get(MicrometerOperationMetricsAdapter.OUTCOME_METRIC)
+                .tags("operation", "login", "outcome", "bad_credentials").counter().count());
+        assertEquals(1.0, registry.get(MicrometerOperationMetricsAdapter.OUTCOME_METRIC)
+                .tags("operation", "login", "outcome", "unknown_user").counter().count());
+    }
+
+    private long phaseCount(String operation, String phase, String outcome) {
+        return registry.get(MicrometerOperationMetricsAdapter.PHASE_METRIC)
+                .tags("operation", operation, "phase", phase, "outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.pragma.commonutils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestStatementCounterTest {
+
+    @Test
+    void shouldStartAtZero() {
+        assertEquals(0, new RequestStatementCounter().count());
+    }
+
+    @Test
+    void shouldAccumulateStatements() {
+        RequestStatementCounter counter = new RequestStatementCounter();
+
+        counter.add(1);
+        counter.add(2);
+
+        assertEquals(3, counter.count());
+    }
+}
@@ -0,0 +1,43 @@
+package co.com.pragma.commonutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestTimingsTest {
+
+    @Test
+    void shouldFormatPhasesInMillisecondsInInsertionOrder() {
+        // Arrange
+        RequestTimings timings = new RequestTimings();
+
+        // Act
+        timings.add("db", TimeUnit.MICROSECONDS.toNanos(3_120));
+        timings.add("hash", TimeUnit.MICROSECONDS.toNanos(81_405));
+        timings.add("sign", TimeUnit.MICROSECONDS.toNanos(50));
+
+        // Assert
+        assertEquals("db;dur=3.12, hash;dur=81.40, sign;dur=0.05", timings.toHeaderValue());
+    }
+
+    @Test
+    void shouldAccumulateRepeatedPhases() {
+        // Arrange
+        RequestTimings timings = new RequestTimings();
+
+        // Act
+        timings.add("db", 1_000_000);
+        timings.add("db", 2_500_000);
+
+        // Assert
+        assertEquals(3_500_000, timings.nanos("db"));
+        assertEquals(-1, timings.nanos("hash"));
+    }
+
+    @Test
+    void shouldBeEmptyWithoutPhases() {
+        assertEquals("", new RequestTimings().toHeaderValue());
+    }
+}